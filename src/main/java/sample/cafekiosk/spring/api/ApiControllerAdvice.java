@@ -1,10 +1,15 @@
 package sample.cafekiosk.spring.api;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import sample.cafekiosk.spring.api.service.order.OrderGroupCommitTimeoutException;
+import sample.cafekiosk.spring.api.service.stock.StockLockTimeoutException;
+
+import javax.servlet.http.HttpServletResponse;
 
 @RestControllerAdvice
 public class ApiControllerAdvice {
@@ -19,4 +24,28 @@ public class ApiControllerAdvice {
         );
     }
 
+    // 재고 잠금 대기 시간 초과 -> 클라이언트가 재시도할 수 있도록 503 + Retry-After로 구분해서 응답한다.
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(StockLockTimeoutException.class)
+    public ApiResponse<Object> stockLockTimeoutException(StockLockTimeoutException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return ApiResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                e.getMessage(),
+                null
+        );
+    }
+
+    // 그룹 커밋 결과 대기 시간 초과 -> 재고 잠금 대기 시간 초과와 같이 503 + Retry-After로 응답한다.
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(OrderGroupCommitTimeoutException.class)
+    public ApiResponse<Object> orderGroupCommitTimeoutException(OrderGroupCommitTimeoutException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return ApiResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                e.getMessage(),
+                null
+        );
+    }
+
 }
@@ -0,0 +1,130 @@
+package sample.cafekiosk.spring.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화해둔 응답 본문 (JSON bytes + gzip 압축본)
+ * - 내용이 바뀔 때만 한 번 직렬화/압축해두고, 요청마다 byte[]를 그대로 응답한다.
+ *   -> 요청마다 Jackson이 객체를 순회하거나 gzip 압축하는 비용이 없다.
+ * - byte[] 응답은 ByteArrayHttpMessageConverter가 출력 스트림에 그대로 쓴다.
+ * - 압축본과 원본은 bytes가 다르므로 ETag도 다르게 준다. (압축본은 "<ETag>-gzip", strong ETag는 byte 단위로 같은 응답에만 써야 한다.)
+ */
+public class PreSerializedBody {
+
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private PreSerializedBody(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public static PreSerializedBody of(ObjectMapper objectMapper, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new PreSerializedBody(json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 본문을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    // 클라이언트가 gzip을 받을 수 있으면 압축본을, 아니면 JSON 원본을 응답한다.
+    // eTag는 내용의 ETag이고, 실제로 응답할 표현(압축본 / 원본)의 ETag로 바꿔서 내려준다.
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding, String eTag) {
+        boolean gzipAccepted = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzipAccepted ? gzipETag(eTag) : eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzipAccepted) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(gzip.length)
+                    .body(gzip);
+        }
+        return builder.contentLength(json.length)
+                .body(json);
+    }
+
+    // 이 클라이언트에게 응답할 표현의 ETag (If-None-Match 비교용)
+    public static String eTagFor(String acceptEncoding, String eTag) {
+        return acceptsGzip(acceptEncoding) ? gzipETag(eTag) : eTag;
+    }
+
+    public int getJsonLength() {
+        return json.length;
+    }
+
+    public int getGzipLength() {
+        return gzip.length;
+    }
+
+    // "abc" -> "abc-gzip" (따옴표 안에 붙여야 올바른 ETag 형식이 된다.)
+    private static String gzipETag(String eTag) {
+        if (eTag.endsWith("\"")) {
+            return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        }
+        return eTag + "-gzip";
+    }
+
+    // Accept-Encoding의 q값까지 본다. (gzip;q=0 은 gzip을 받지 않겠다는 뜻)
+    // gzip이 명시되어 있으면 그 q값을, 없으면 * 의 q값을 따른다.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = parseQuality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // q값이 없으면 1, 형식이 잘못되었으면 받지 않는 것으로 본다.
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -1,27 +1,78 @@
 package sample.cafekiosk.spring.api.controller.order;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.OrderFacade;
+import sample.cafekiosk.spring.api.service.order.OrderIdempotencyCache;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.response.OrderCompactResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final OrderFacade orderFacade;
+    private final OrderIdempotencyCache orderIdempotencyCache;
     private final OrderService orderService;
 
+    // Idempotency-Key 헤더가 있으면 같은 키의 재요청은 주문을 다시 만들지 않고 처음 결과를 돌려준다.
     @PostMapping("/api/v1/orders/new")
-    public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
+    public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request,
+                                                  @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ApiResponse.ok(createOrderBy(request, idempotencyKey));
+    }
+
+    // 같은 상품을 한 줄(상품 + 수량)로 묶은 응답 형태
+    @PostMapping("/api/v1/orders/new/compact")
+    public ApiResponse<OrderCompactResponse> createOrderCompact(@Valid @RequestBody OrderCreateRequest request,
+                                                                @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ApiResponse.ok(OrderCompactResponse.of(createOrderBy(request, idempotencyKey)));
+    }
+
+    // 여러 주문을 한 트랜잭션으로 등록한다. 일부 주문이 실패해도 나머지는 등록되고, 주문별 결과를 요청 순서대로 돌려준다.
+    @PostMapping("/api/v1/orders/bulk")
+    public ApiResponse<List<OrderCreateResult>> createOrders(@Valid @RequestBody OrderBulkCreateRequest request) {
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        return ApiResponse.ok(orderFacade.createOrders(request.toServiceRequests(), registeredDateTime));
+    }
+
+    @PostMapping("/api/v1/orders/{orderId}/payment-complete")
+    public ApiResponse<OrderResponse> completePayment(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.completePayment(orderId));
+    }
+
+    @PostMapping("/api/v1/orders/{orderId}/payment-fail")
+    public ApiResponse<OrderResponse> failPayment(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.failPayment(orderId));
+    }
+
+    @PostMapping("/api/v1/orders/{orderId}/cancel")
+    public ApiResponse<OrderResponse> cancelOrder(@PathVariable Long orderId) {
+        return ApiResponse.ok(orderService.cancelOrder(orderId));
+    }
+
+    private OrderResponse createOrderBy(OrderCreateRequest request, String idempotencyKey) {
         LocalDateTime registeredDateTime = LocalDateTime.now();
-        return ApiResponse.ok(orderService.createOrder(request.toServiceRequest(), registeredDateTime));
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return orderFacade.createOrder(request.toServiceRequest(), registeredDateTime);
+        }
+        return orderIdempotencyCache.execute(idempotencyKey,
+                () -> orderFacade.createOrder(request.toServiceRequest(), registeredDateTime));
     }
 
 }
@@ -0,0 +1,62 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.BestSellerRequest;
+import sample.cafekiosk.spring.api.controller.order.request.ProductSalesRequest;
+import sample.cafekiosk.spring.api.controller.order.request.SalesStatisticsRequest;
+import sample.cafekiosk.spring.api.service.order.OrderStatisticsService;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.api.service.sales.BestSellerTracker;
+import sample.cafekiosk.spring.api.service.sales.LiveSalesDashboard;
+import sample.cafekiosk.spring.api.service.sales.ProductSalesService;
+import sample.cafekiosk.spring.api.service.sales.SalesReportService;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellersResponse;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+
+import javax.validation.Valid;
+
+@RequiredArgsConstructor
+@RestController
+public class OrderStatisticsController {
+
+    private final OrderStatisticsService orderStatisticsService;
+    private final SalesReportService salesReportService;
+    private final LiveSalesDashboard liveSalesDashboard;
+    private final BestSellerTracker bestSellerTracker;
+    private final ProductSalesService productSalesService;
+
+    // 기간 매출 통계 (groupBy = DAY / HOUR / PRODUCT_TYPE / PRODUCT 로 내역을 묶어서 조회)
+    @GetMapping("/api/v1/orders/statistics")
+    public ApiResponse<SalesStatisticsResponse> getSalesStatistics(@Valid SalesStatisticsRequest request) {
+        return ApiResponse.ok(orderStatisticsService.getSalesStatistics(request.toServiceRequest()));
+    }
+
+    // 일자별 매출 리포트 (주문이 없는 일자도 포함, groupBy 파라미터는 사용하지 않는다.)
+    @GetMapping("/api/v1/orders/statistics/daily")
+    public ApiResponse<SalesStatisticsResponse> getDailySalesReport(@Valid SalesStatisticsRequest request) {
+        return ApiResponse.ok(salesReportService.getDailySalesReport(request.getStartDate(), request.getEndDate()));
+    }
+
+    // 실시간 매출 대시보드 (최근 1분 / 15분 / 1시간, 메모리에서만 읽는다.)
+    @GetMapping("/api/v1/orders/statistics/live")
+    public ApiResponse<LiveSalesResponse> getLiveSales() {
+        return ApiResponse.ok(liveSalesDashboard.getLiveSales());
+    }
+
+    // 지금 많이 팔리는 상품 (window = HOUR : 이번 시간 / DAY : 오늘)
+    @GetMapping("/api/v1/orders/statistics/best-sellers")
+    public ApiResponse<BestSellersResponse> getBestSellers(@Valid BestSellerRequest request) {
+        return ApiResponse.ok(bestSellerTracker.getBestSellers(request.getWindow(), request.getLimit()));
+    }
+
+    // 상품 x 시간대 매출 (ex. 최근 30일 7~9시 베이커리 매출, 미리 집계된 product_hourly_sales만 조회한다.)
+    @GetMapping("/api/v1/orders/statistics/products")
+    public ApiResponse<ProductSalesResponse> getProductSales(@Valid ProductSalesRequest request) {
+        return ApiResponse.ok(productSalesService.getProductSales(request.toServiceRequest()));
+    }
+
+}
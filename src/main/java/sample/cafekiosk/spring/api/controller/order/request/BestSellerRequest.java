@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import sample.cafekiosk.spring.api.service.sales.BestSellerWindow;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+// 쿼리 파라미터로 받는다. (?window=HOUR&limit=10)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BestSellerRequest {
+
+    @NotNull(message = "집계 구간은 필수입니다.")
+    private BestSellerWindow window = BestSellerWindow.HOUR;
+
+    @Positive(message = "조회 개수는 양수여야 합니다.")
+    @Max(value = 50, message = "조회 개수는 50 이하여야 합니다.")
+    private int limit = 10;
+
+    @Builder
+    private BestSellerRequest(BestSellerWindow window, int limit) {
+        this.window = window;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 여러 주문을 한 번에 등록하는 요청 (ex. 네트워크가 끊겼던 키오스크가 쌓아둔 주문을 한 번에 전송)
+@Getter
+@NoArgsConstructor
+public class OrderBulkCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "주문 리스트는 필수입니다.")
+    @Size(max = 500, message = "한 번에 등록할 수 있는 주문은 최대 500건입니다.")
+    private List<OrderCreateRequest> orders;
+
+    @Builder
+    public OrderBulkCreateRequest(List<OrderCreateRequest> orders) {
+        this.orders = orders;
+    }
+
+    public List<OrderCreateServiceRequest> toServiceRequests() {
+        return orders.stream()
+                .map(OrderCreateRequest::toServiceRequest)
+                .collect(Collectors.toList());
+    }
+}
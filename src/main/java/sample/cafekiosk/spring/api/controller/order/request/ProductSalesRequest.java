@@ -0,0 +1,69 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+// 쿼리 파라미터로 받는다. (?startDate=2023-03-01&endDate=2023-03-30&productTypes=BAKERY&startHour=7&endHour=9)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductSalesRequest {
+
+    @NotNull(message = "조회 시작일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @NotNull(message = "조회 종료일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private List<ProductType> productTypes;
+
+    @Min(value = 0, message = "조회 시작 시각은 0 이상이어야 합니다.")
+    private int startHour = 0;
+
+    // 종료 시각은 포함하지 않는다. (7 ~ 9 -> 7시, 8시)
+    @Max(value = 24, message = "조회 종료 시각은 24 이하여야 합니다.")
+    private int endHour = 24;
+
+    @Builder
+    private ProductSalesRequest(LocalDate startDate, LocalDate endDate, List<ProductType> productTypes, int startHour, int endHour) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.productTypes = productTypes;
+        this.startHour = startHour;
+        this.endHour = endHour;
+    }
+
+    @AssertTrue(message = "조회 종료일은 시작일보다 빠를 수 없습니다.")
+    public boolean isValidPeriod() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+
+    @AssertTrue(message = "조회 시작 시각은 종료 시각보다 빨라야 합니다.")
+    public boolean isValidHours() {
+        return startHour < endHour;
+    }
+
+    public ProductSalesServiceRequest toServiceRequest() {
+        return ProductSalesServiceRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .productTypes(productTypes)
+                .startHour(startHour)
+                .endHour(endHour)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import sample.cafekiosk.spring.api.service.order.request.SalesGroupBy;
+import sample.cafekiosk.spring.api.service.order.request.SalesStatisticsServiceRequest;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+// 쿼리 파라미터로 받는다. (?startDate=2023-03-01&endDate=2023-03-31&groupBy=DAY)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalesStatisticsRequest {
+
+    @NotNull(message = "조회 시작일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @NotNull(message = "조회 종료일은 필수입니다.")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    // 생략하면 기간 전체 합계만 조회한다.
+    private SalesGroupBy groupBy;
+
+    @Builder
+    private SalesStatisticsRequest(LocalDate startDate, LocalDate endDate, SalesGroupBy groupBy) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.groupBy = groupBy;
+    }
+
+    @AssertTrue(message = "조회 종료일은 시작일보다 빠를 수 없습니다.")
+    public boolean isValidPeriod() {
+        return startDate == null || endDate == null || !endDate.isBefore(startDate);
+    }
+
+    public SalesStatisticsServiceRequest toServiceRequest() {
+        return SalesStatisticsServiceRequest.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .groupBy(groupBy)
+                .build();
+    }
+}
@@ -1,18 +1,25 @@
 package sample.cafekiosk.spring.api.controller.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.PreSerializedBody;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductSearchRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.product.response.ProductPageResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 
 // SpringBoot 3.x.x 버전에서는 jakarta.validation
 import javax.validation.Valid;
-import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
@@ -25,9 +32,23 @@ public class ProductController {
         return ApiResponse.ok(productService.createProduct(request.toServiceRequest()));
     }
 
+    // 상품 목록 페이지 조회 (상품 타입 / 판매상태 필터, cursor = 이전 페이지의 마지막 상품 id)
+    @GetMapping("/api/v1/products")
+    public ApiResponse<ProductPageResponse> getProducts(@Valid ProductSearchRequest request) {
+        return ApiResponse.ok(productService.getProducts(request.toServiceRequest()));
+    }
+
+    // 판매 상품 목록이 바뀌지 않았으면(If-None-Match == ETag) 본문 없이 304로 응답한다.
+    // 바뀌었으면 스냅샷에 미리 직렬화해둔 ApiResponse<List<ProductResponse>> bytes를 그대로 응답한다. (gzip 지원)
+    // gzip 압축본은 ETag가 따로 있으므로, 이 클라이언트가 받을 표현의 ETag로 비교한다.
     @GetMapping("/api/v1/products/selling")
-    public ApiResponse<List<ProductResponse>> getSellingProducts() {
-        return ApiResponse.ok(productService.getSellingProducts());
+    public ResponseEntity<byte[]> getSellingProducts(WebRequest webRequest,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        SellingProductsSnapshot snapshot = productService.getSellingProductsSnapshot();
+        if (webRequest.checkNotModified(PreSerializedBody.eTagFor(acceptEncoding, snapshot.getETag()))) {
+            return null;
+        }
+        return snapshot.getBody().toResponseEntity(acceptEncoding, snapshot.getETag());
     }
 
 }
@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.product.dto.request.ProductImportReader;
+import sample.cafekiosk.spring.api.service.product.ProductImportService;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+
+import javax.validation.Validator;
+import java.io.InputStream;
+
+// 상품 일괄 등록 API (요청 본문을 한 줄씩 읽으면서 저장하고, 실패한 줄을 응답으로 알려준다.)
+@RequiredArgsConstructor
+@RestController
+public class ProductImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @PostMapping(value = "/api/v1/products/import", consumes = TEXT_CSV_VALUE)
+    public ApiResponse<ProductImportResponse> importProductsFromCsv(InputStream body) {
+        return ApiResponse.ok(productImportService.importProducts(ProductImportReader.csv(body, objectMapper, validator)));
+    }
+
+    @PostMapping(value = "/api/v1/products/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<ProductImportResponse> importProductsFromNdjson(InputStream body) {
+        return ApiResponse.ok(productImportService.importProducts(ProductImportReader.ndjson(body, objectMapper, validator)));
+    }
+
+}
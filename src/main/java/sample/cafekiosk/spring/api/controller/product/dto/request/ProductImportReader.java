@@ -0,0 +1,163 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 상품 일괄 등록 요청 본문(CSV / NDJSON)을 한 줄씩 읽어서 ProductCreateRequest와 같은 규칙으로 검증한다.
+// 요청 본문 전체를 메모리에 올리지 않도록 Service가 꺼내 갈 때마다 다음 줄을 읽는다.
+public class ProductImportReader implements Iterator<ProductImportRow> {
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // CSV 첫 줄 (컬럼 이름: type,sellingStatus,name,price)
+    private List<String> csvHeader;
+    private long lineNumber;
+    private String nextLine;
+
+    private ProductImportReader(InputStream body, Format format, ObjectMapper objectMapper, Validator validator) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public static ProductImportReader csv(InputStream body, ObjectMapper objectMapper, Validator validator) {
+        return new ProductImportReader(body, Format.CSV, objectMapper, validator);
+    }
+
+    public static ProductImportReader ndjson(InputStream body, ObjectMapper objectMapper, Validator validator) {
+        return new ProductImportReader(body, Format.NDJSON, objectMapper, validator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readNextLine();
+        }
+        return nextLine != null;
+    }
+
+    @Override
+    public ProductImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = nextLine;
+        nextLine = null;
+        return toRow(line);
+    }
+
+    // 빈 줄은 건너뛰고, CSV는 첫 줄을 헤더로 읽는다.
+    private String readNextLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && csvHeader == null) {
+                    csvHeader = splitCsvLine(line.replace("\uFEFF", "")); // UTF-8 BOM 제거
+                    continue;
+                }
+                return line;
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ProductImportRow toRow(String line) {
+        ProductCreateRequest request;
+        try {
+            request = format == Format.CSV
+                    ? objectMapper.convertValue(toCsvRecord(line), ProductCreateRequest.class)
+                    : objectMapper.readValue(line, ProductCreateRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ProductImportRow.invalid(lineNumber, "상품 정보를 읽을 수 없습니다.");
+        }
+        if (request == null) {
+            return ProductImportRow.invalid(lineNumber, "상품 정보를 읽을 수 없습니다.");
+        }
+
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errorMessage = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return ProductImportRow.invalid(lineNumber, errorMessage);
+        }
+
+        return ProductImportRow.valid(lineNumber, request.toServiceRequest());
+    }
+
+    private Map<String, String> toCsvRecord(String line) {
+        List<String> values = splitCsvLine(line);
+        Map<String, String> record = new HashMap<>();
+        for (int i = 0; i < Math.min(csvHeader.size(), values.size()); i++) {
+            // 빈 칸은 값이 없는 것으로 본다. (NDJSON에서 필드를 생략한 것과 같은 검증 메시지)
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                record.put(csvHeader.get(i).trim(), value);
+            }
+        }
+        return record;
+    }
+
+    // 쉼표로 나누되, 큰따옴표로 감싼 값 안의 쉼표와 "" (큰따옴표 escape)는 값으로 취급한다.
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private enum Format {
+        CSV, NDJSON
+    }
+}
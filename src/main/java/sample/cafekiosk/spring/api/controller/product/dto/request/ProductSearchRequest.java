@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.controller.product.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import sample.cafekiosk.spring.api.service.product.request.ProductSearchServiceRequest;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+import java.util.List;
+
+// 쿼리 파라미터로 받는다. (?types=HANDMADE&sellingStatuses=SELLING&cursor=100&size=20)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProductSearchRequest {
+
+    private List<ProductType> types;
+
+    private List<ProductSellingStatus> sellingStatuses;
+
+    // 이전 페이지 응답의 nextCursor, 첫 페이지는 생략
+    @Positive(message = "커서는 양수여야 합니다.")
+    private Long cursor;
+
+    @Positive(message = "페이지 크기는 양수여야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+    private int size = 20;
+
+    @Builder
+    private ProductSearchRequest(List<ProductType> types, List<ProductSellingStatus> sellingStatuses, Long cursor, int size) {
+        this.types = types;
+        this.sellingStatuses = sellingStatuses;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public ProductSearchServiceRequest toServiceRequest() {
+        return ProductSearchServiceRequest.builder()
+                .types(types)
+                .sellingStatuses(sellingStatuses)
+                .cursor(cursor)
+                .size(size)
+                .build();
+    }
+}
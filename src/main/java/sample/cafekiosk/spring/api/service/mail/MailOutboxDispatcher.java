@@ -0,0 +1,157 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendResult;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * outbox(mail_send_history의 PENDING 이력)에 쌓인 메일을 비동기로 전송한다.
+ * - 한 번에 batchSize 건을 선점(PENDING -> SENDING)하고, 제한된 수(parallelism)의 스레드에서 메일 서버로 전송한다.
+ * - 선점은 조건부 UPDATE로 하기 때문에 여러 인스턴스가 동시에 돌아도 같은 메일을 두 번 선점하지 않는다.
+ * - 결과는 선점한 시도(attempt_count)가 그대로일 때만 반영한다. (전송이 선점 시간보다 오래 걸려 다른 dispatcher가 다시 선점한 경우 덮어쓰지 않는다.)
+ * - 전송에 성공하면 SENT, 실패하면 지수 백오프(initialBackoffMillis * 2^(시도 횟수 - 1)) 후 재시도하고, maxAttempts를 넘기면 FAILED로 끝낸다.
+ * - 메일 서버가 느리거나 실패해도 메일을 요청한 업무 트랜잭션에는 영향이 없다.
+ */
+@Slf4j
+@ConditionalOnProperty(prefix = "cafekiosk.mail.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class MailOutboxDispatcher {
+
+    private static final String REJECTED_ERROR = "메일 서버가 전송을 거부했습니다.";
+
+    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailSendClient mailSendClient;
+    private final MailProperties.Outbox outbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private ExecutorService executorService;
+
+    public MailOutboxDispatcher(MailSendHistoryRepository mailSendHistoryRepository, MailSendClient mailSendClient,
+                                MailProperties mailProperties, PlatformTransactionManager transactionManager) {
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.mailSendClient = mailSendClient;
+        this.outbox = mailProperties.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void start() {
+        executorService = Executors.newFixedThreadPool(outbox.getParallelism(),
+                new ThreadFactoryBuilder().setNameFormat("mail-outbox-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    // 선점한 메일이 batchSize만큼 꽉 차면 쌓인 메일이 더 있다는 뜻이므로 기다리지 않고 이어서 전송한다.
+    @Scheduled(fixedDelayString = "${cafekiosk.mail.outbox.poll-interval-millis:1000}")
+    public void dispatchPending() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatch(LocalDateTime.now());
+            } while (dispatched == outbox.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("메일 outbox 전송 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // now 기준으로 전송할 메일을 한 batch 선점해서 전송하고, 결과를 한 트랜잭션으로 남긴다. (반환값 : 선점한 메일 수)
+    public int dispatch(LocalDateTime now) {
+        // 선점한 시도 횟수를 결과 반영 조건으로 쓰기 때문에, 선점과 같은 트랜잭션에서 읽는다.
+        List<MailSendHistory> mails = transactionTemplate.execute(status -> {
+            List<Long> claimedIds = mailSendHistoryRepository.claimForDispatch(
+                    now, now.plusNanos(outbox.getLeaseMillis() * 1_000_000), outbox.getBatchSize());
+            if (claimedIds.isEmpty()) {
+                return List.<MailSendHistory>of();
+            }
+            return mailSendHistoryRepository.findAllById(claimedIds);
+        });
+        if (mails == null || mails.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Optional<String>> errors = sendAll(mails);
+        List<MailSendResult> results = mails.stream()
+                .map(mail -> toResult(mail, errors.get(mail.getId()), now))
+                .collect(Collectors.toList());
+
+        List<Long> recordedIds = transactionTemplate.execute(status -> mailSendHistoryRepository.recordResults(results));
+        if (recordedIds != null && recordedIds.size() < results.size()) {
+            // 선점 시간(leaseMillis)이 지나서 다른 dispatcher가 다시 선점한 메일은 그쪽 결과를 유지한다.
+            log.warn("선점 시간이 지나 결과를 반영하지 못한 메일이 있습니다. 선점 {}건, 반영 {}건", results.size(), recordedIds.size());
+        }
+        return mails.size();
+    }
+
+    // 메일 id -> 전송 실패 사유 (성공하면 empty)
+    private Map<Long, Optional<String>> sendAll(List<MailSendHistory> mails) {
+        List<Future<Optional<String>>> futures = new ArrayList<>(mails.size());
+        try {
+            for (MailSendHistory mail : mails) {
+                futures.add(executorService.submit(() -> send(mail)));
+            }
+
+            Map<Long, Optional<String>> errors = new HashMap<>();
+            for (int i = 0; i < mails.size(); i++) {
+                errors.put(mails.get(i).getId(), futures.get(i).get());
+            }
+            return errors;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("메일 outbox 전송이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("메일 outbox 전송에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private Optional<String> send(MailSendHistory mail) {
+        try {
+            boolean result = mailSendClient.sendEmail(mail.getFromEmail(), mail.getToEmail(), mail.getSubject(), mail.getContent());
+            return result ? Optional.empty() : Optional.of(REJECTED_ERROR);
+        } catch (RuntimeException e) {
+            log.warn("메일 전송 실패 id={}, 시도 횟수={}", mail.getId(), mail.getAttemptCount(), e);
+            return Optional.of(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        }
+    }
+
+    private MailSendResult toResult(MailSendHistory mail, Optional<String> error, LocalDateTime now) {
+        if (error.isEmpty()) {
+            return MailSendResult.sent(mail, LocalDateTime.now());
+        }
+        return MailSendResult.failed(mail, error.get(), now.plusNanos(backoffMillis(mail.getAttemptCount()) * 1_000_000),
+                outbox.getMaxAttempts());
+    }
+
+    // 1번째 실패 -> initialBackoffMillis, 2번째 -> 2배, 3번째 -> 4배 ... (최대 maxBackoffMillis)
+    long backoffMillis(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        return Math.min(outbox.getInitialBackoffMillis() << exponent, outbox.getMaxBackoffMillis());
+    }
+
+}
@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml의 cafekiosk.mail 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafekiosk.mail")
+public class MailProperties {
+
+    private final Outbox outbox = new Outbox();
+
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        // PENDING 메일을 주기적으로 전송하는 dispatcher 사용 여부
+        private boolean enabled = true;
+
+        // 전송할 메일이 없을 때 다음 조회까지 대기하는 시간
+        private long pollIntervalMillis = 1000;
+
+        // 한 번에 선점하는 메일 수
+        private int batchSize = 100;
+
+        // 동시에 메일 서버로 전송하는 수 (메일 서버가 느려도 요청 스레드는 기다리지 않는다.)
+        private int parallelism = 4;
+
+        // 전송 시도 최대 횟수 (넘기면 FAILED)
+        private int maxAttempts = 5;
+
+        // 재시도 대기 시간 : initialBackoffMillis * 2^(시도 횟수 - 1), 최대 maxBackoffMillis
+        private long initialBackoffMillis = 1000;
+        private long maxBackoffMillis = 300000;
+
+        // 선점 후 이 시간 안에 결과를 남기지 못하면(dispatcher 중단 등) 다른 dispatcher가 다시 선점한다.
+        private long leaseMillis = 60000;
+    }
+
+}
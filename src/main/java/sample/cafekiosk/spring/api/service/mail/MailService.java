@@ -2,9 +2,13 @@ package sample.cafekiosk.spring.api.service.mail;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
+
+import java.time.LocalDateTime;
 
 @RequiredArgsConstructor
 @Service
@@ -21,6 +25,8 @@ public class MailService {
                 .toEmail(toEmail)
                 .subject(subject)
                 .content(content)
+                .status(MailSendStatus.SENT)
+                .sentDateTime(LocalDateTime.now())
                 .build()
             );
 
@@ -34,4 +40,10 @@ public class MailService {
         return false;
     }
 
+    // 메일을 바로 보내지 않고 outbox(PENDING 이력)에 저장한다. 호출한 쪽 트랜잭션과 함께 커밋/롤백되고, 전송은 MailOutboxDispatcher가 한다.
+    @Transactional
+    public MailSendHistory enqueueMail(String fromEmail, String toEmail, String subject, String content) {
+        return mailSendHistoryRepository.save(MailSendHistory.pending(fromEmail, toEmail, subject, content, LocalDateTime.now()));
+    }
+
 }
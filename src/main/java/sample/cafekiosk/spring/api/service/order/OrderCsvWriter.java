@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import sample.cafekiosk.spring.domain.order.Order;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+// 주문 스트림을 한 줄씩 CSV로 쓴다. (OrderExportService 파이프라인용, Writer를 닫는 것은 호출하는 쪽의 책임)
+public class OrderCsvWriter implements Consumer<Order> {
+
+    static final String HEADER = "id,orderStatus,totalPrice,registeredDateTime";
+
+    private final Writer writer;
+
+    public OrderCsvWriter(Writer writer) {
+        this.writer = writer;
+        writeLine(HEADER);
+    }
+
+    @Override
+    public void accept(Order order) {
+        writeLine(order.getId() + "," + order.getOrderStatus() + "," + order.getTotalPrice() + "," + order.getRegisteredDateTime());
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 CSV 쓰기에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 기간 안의 주문을 한 건씩 읽어서 consumer 파이프라인(합계 누적, CSV 쓰기 등)으로 흘려보낸다.
+ * 주문을 List로 모으지 않고 커서로 읽으면서 consumer에 넘긴 주문은 바로 detach 하므로,
+ * 기간 안의 주문 수와 상관없이 메모리 사용량이 일정하다.
+ *
+ * consumer 여러 개는 andThen 으로 묶어서 넘긴다. (한 번 읽어서 합계와 CSV를 같이 만든다.)
+ * ex) orderExportService.forEachOrder(startDate, endDate, PAYMENT_COMPLETED, totals.andThen(csvWriter));
+ * * detach 된 주문이므로 consumer 에서 지연 로딩(orderProducts)은 사용할 수 없다.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderExportService {
+
+    private final OrderRepository orderRepository;
+    private final EntityManager em;
+
+    // 조회 기간은 시작일, 종료일을 모두 포함한다. 처리한 주문 수를 반환한다.
+    @Transactional(readOnly = true)
+    public long forEachOrder(LocalDate startDate, LocalDate endDate, OrderStatus orderStatus, Consumer<Order> consumer) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamOrdersBy(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), orderStatus)) {
+            for (Order order : (Iterable<Order>) orders::iterator) {
+                consumer.accept(order);
+                em.detach(order);
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OrderService의 트랜잭션 바깥에서 주문 생성을 감싸는 객체
+ * - 재고 엔티티의 @Version 충돌은 커밋 시점에 발생하기 때문에, 트랜잭션 안에서는 재시도할 수 없다.
+ *   따라서 트랜잭션 전체(OrderService.createOrder)를 정해진 횟수만큼 다시 시도한다.
+ * - 그룹 커밋 모드에서는 주문을 파이프라인에 넣고 자신의 결과가 나올 때까지 기다린다.
+ *   (writer 스레드가 멈춰도 요청 스레드가 무한정 묶이지 않도록 resultTimeoutMillis까지만 기다린다.)
+ * - 일괄 주문은 이미 한 트랜잭션으로 묶여 있으므로 그룹 커밋을 거치지 않고, 충돌 시 배치 전체를 다시 시도한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OrderFacade {
+
+    private final OrderService orderService;
+    private final OrderGroupCommitPipeline orderGroupCommitPipeline;
+    private final VersionConflictRetrier versionConflictRetrier;
+    private final OrderProperties orderProperties;
+
+    public OrderResponse createOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        if (orderProperties.getGroupCommit().isEnabled()) {
+            return createOrderByGroupCommit(request, registeredDateTime);
+        }
+
+        return versionConflictRetrier.retryOnVersionConflict(() -> orderService.createOrder(request, registeredDateTime));
+    }
+
+    public List<OrderCreateResult> createOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        return versionConflictRetrier.retryOnVersionConflict(() -> orderService.createOrders(requests, registeredDateTime));
+    }
+
+    private OrderResponse createOrderByGroupCommit(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        CompletableFuture<OrderResponse> future = orderGroupCommitPipeline.submit(request, registeredDateTime);
+        try {
+            return future.get(orderProperties.getGroupCommit().getResultTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false); // 아직 배치에 들어가지 않았으면 처리하지 않는다.
+            throw new OrderGroupCommitTimeoutException("주문 처리 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("주문 결과를 기다리는 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+}
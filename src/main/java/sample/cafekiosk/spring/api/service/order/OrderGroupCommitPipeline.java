@@ -0,0 +1,167 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 커밋 주문 파이프라인
+ * - 요청 스레드는 주문을 큐에 넣고 CompletableFuture로 결과를 기다린다.
+ * - 단일 writer 스레드가 maxWaitMillis 동안 또는 maxBatchSize개가 모일 때까지 주문을 모아서
+ *   OrderService.createOrders로 한 트랜잭션에 처리하고, 각 주문의 future를 자신의 결과로 완료시킨다.
+ * - 배치 트랜잭션 자체가 실패하면(버전 충돌 등) 해당 배치의 주문들을 하나씩 다시 처리한다.
+ *   (주문별 처리도 OrderFacade와 같이 버전 충돌 시 재시도한다. -> 그룹 커밋을 쓰지 않을 때와 같은 결과)
+ * - 요청 스레드가 결과 대기를 포기하고 future를 취소한 주문은 배치에 넣지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OrderGroupCommitPipeline {
+
+    private final OrderService orderService;
+    private final VersionConflictRetrier versionConflictRetrier;
+    private final OrderProperties orderProperties;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    @PostConstruct
+    public void start() {
+        if (!orderProperties.getGroupCommit().isEnabled() || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "order-group-commit");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 처리되지 못한 주문은 실패로 완료시킨다.
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pendingOrder -> pendingOrder.future.completeExceptionally(
+                new IllegalStateException("주문 처리가 중단되었습니다.")));
+    }
+
+    public CompletableFuture<OrderResponse> submit(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        if (!running) {
+            throw new IllegalStateException("그룹 커밋 파이프라인이 실행 중이 아닙니다.");
+        }
+        PendingOrder pendingOrder = new PendingOrder(request, registeredDateTime);
+        queue.add(pendingOrder);
+        return pendingOrder.future;
+    }
+
+    private void drainLoop() {
+        OrderProperties.GroupCommit groupCommit = orderProperties.getGroupCommit();
+        List<PendingOrder> batch = new ArrayList<>(groupCommit.getMaxBatchSize());
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(groupCommit.getMaxWaitMillis());
+                while (batch.size() < groupCommit.getMaxBatchSize()) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        break;
+                    }
+                    PendingOrder next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                batch.removeIf(pendingOrder -> pendingOrder.future.isDone()); // 대기 시간이 지나 취소된 주문
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pendingOrder -> pendingOrder.future.completeExceptionally(
+                        new IllegalStateException("주문 처리가 중단되었습니다.")));
+                return;
+            } catch (RuntimeException e) {
+                // writer 스레드가 죽으면 이후 주문이 모두 대기 시간 초과로 끝나므로, 이번 배치만 실패시키고 계속 처리한다.
+                log.error("그룹 커밋 배치 처리 중 예상하지 못한 오류", e);
+                batch.forEach(pendingOrder -> pendingOrder.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderCreateResult> results;
+        try {
+            results = orderService.createOrders(
+                    batch.stream().map(pendingOrder -> pendingOrder.request).collect(Collectors.toList()),
+                    batch.stream().map(pendingOrder -> pendingOrder.registeredDateTime).collect(Collectors.toList())
+            );
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패, 배치의 주문 {}건을 하나씩 다시 처리합니다.", batch.size(), e);
+            batch.forEach(this::commitOne);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderCreateResult result = results.get(i);
+            if (result.isSuccess()) {
+                batch.get(i).future.complete(result.getOrder());
+            } else {
+                batch.get(i).future.completeExceptionally(new IllegalArgumentException(result.getErrorMessage()));
+            }
+        }
+    }
+
+    private void commitOne(PendingOrder pendingOrder) {
+        try {
+            pendingOrder.future.complete(versionConflictRetrier.retryOnVersionConflict(
+                    () -> orderService.createOrder(pendingOrder.request, pendingOrder.registeredDateTime)));
+        } catch (RuntimeException e) {
+            pendingOrder.future.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingOrder {
+
+        private final OrderCreateServiceRequest request;
+        private final LocalDateTime registeredDateTime;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+
+        private PendingOrder(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+            this.request = request;
+            this.registeredDateTime = registeredDateTime;
+        }
+    }
+
+}
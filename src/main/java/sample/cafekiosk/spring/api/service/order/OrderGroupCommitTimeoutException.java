@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.api.service.order;
+
+// 그룹 커밋 파이프라인에서 주문 결과를 정해진 시간 안에 받지 못함 -> 잠시 후 다시 시도하면 성공할 수 있는 오류
+// (아직 배치에 들어가지 않은 주문은 취소되지만, 이미 트랜잭션에 들어간 주문은 응답 이후에 생성될 수 있다.)
+public class OrderGroupCommitTimeoutException extends RuntimeException {
+
+    public OrderGroupCommitTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
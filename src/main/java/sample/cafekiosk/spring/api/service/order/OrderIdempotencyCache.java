@@ -0,0 +1,106 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 주문 생성 결과 저장소
+ * - 완료된 주문 응답은 크기 제한 + 만료 시간이 있는 캐시에 보관하고, 같은 키로 재요청하면 주문을 다시 만들지 않고 그대로 돌려준다.
+ * - 아직 처리 중인 키로 동시에 재요청이 들어오면 새로 실행하지 않고 처음 실행의 결과를 기다린다. (in-flight 중복 제거)
+ * - 실패한 주문(재고 부족 등)은 보관하지 않는다. -> 같은 키로 다시 시도할 수 있다.
+ */
+@Component
+public class OrderIdempotencyCache {
+
+    private final Cache<String, OrderResponse> completedOrders;
+    private final ConcurrentMap<String, CompletableFuture<OrderResponse>> inFlightOrders = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public OrderIdempotencyCache(OrderProperties orderProperties) {
+        OrderProperties.Idempotency idempotency = orderProperties.getIdempotency();
+        this.completedOrders = CacheBuilder.newBuilder()
+                .maximumSize(idempotency.getMaximumSize())
+                .expireAfterWrite(idempotency.getExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    public OrderResponse execute(String idempotencyKey, Supplier<OrderResponse> orderCreator) {
+        // 1. 이미 완료된 주문
+        OrderResponse completed = completedOrders.getIfPresent(idempotencyKey);
+        if (completed != null) {
+            hitCount.increment();
+            return completed;
+        }
+
+        // 2. 같은 키로 처리 중인 주문이 있으면 그 결과를 기다린다.
+        CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+        CompletableFuture<OrderResponse> inFlight = inFlightOrders.putIfAbsent(idempotencyKey, future);
+        if (inFlight != null) {
+            coalescedCount.increment();
+            return join(inFlight);
+        }
+
+        // 3. 직접 실행
+        try {
+            // 1번 확인 이후 ~ in-flight 등록 전 사이에 다른 요청이 완료했을 수 있으므로 한 번 더 확인
+            completed = completedOrders.getIfPresent(idempotencyKey);
+            if (completed != null) {
+                hitCount.increment();
+                future.complete(completed);
+                return completed;
+            }
+
+            missCount.increment();
+            OrderResponse response = orderCreator.get();
+            completedOrders.put(idempotencyKey, response);
+            future.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightOrders.remove(idempotencyKey, future);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public long getSize() {
+        return completedOrders.size();
+    }
+
+    private OrderResponse join(CompletableFuture<OrderResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml의 cafekiosk.order 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafekiosk.order")
+public class OrderProperties {
+
+    private final GroupCommit groupCommit = new GroupCommit();
+    private final Idempotency idempotency = new Idempotency();
+
+    @Getter
+    @Setter
+    public static class GroupCommit {
+
+        // 그룹 커밋 사용 여부 (기본값: 주문마다 개별 트랜잭션)
+        private boolean enabled = false;
+
+        // 한 트랜잭션으로 묶을 최대 주문 수
+        private int maxBatchSize = 50;
+
+        // 첫 주문이 들어온 뒤 다음 주문을 기다리는 최대 시간 (ms)
+        private long maxWaitMillis = 5;
+
+        // 요청 스레드가 주문 결과를 기다리는 최대 시간 (ms), 지나면 OrderGroupCommitTimeoutException
+        private long resultTimeoutMillis = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Idempotency {
+
+        // 완료된 주문 응답을 보관할 최대 Idempotency-Key 수 (초과 시 오래 사용되지 않은 키부터 제거)
+        private long maximumSize = 10_000;
+
+        // 완료된 주문 응답을 보관하는 시간 (초)
+        private long expireAfterWriteSeconds = 600;
+    }
+
+}
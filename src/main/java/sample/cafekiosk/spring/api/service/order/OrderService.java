@@ -1,22 +1,37 @@
 package sample.cafekiosk.spring.api.service.order;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.sales.LiveSalesEvent;
+import sample.cafekiosk.spring.api.service.sales.SalesRollupService;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionMode;
+import sample.cafekiosk.spring.api.service.stock.StockLedger;
+import sample.cafekiosk.spring.api.service.stock.StockLockTimeoutException;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
+import sample.cafekiosk.spring.api.service.stock.StockReservationService;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.product.Product;
-import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
 import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Transactional
@@ -24,9 +39,14 @@ import java.util.stream.Collectors;
 @Service
 public class OrderService {
 
-    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
     private final OrderRepository orderRepository;
     private final StockRepository stockRepository;
+    private final StockLedger stockLedger;
+    private final StockProperties stockProperties;
+    private final StockReservationService stockReservationService;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 재고 감소 -> 동시성 문제에 대한 고민이 필요하다.
@@ -61,17 +81,140 @@ public class OrderService {
 
         Order order = Order.create(products, registeredDateTime);
         Order savedOrder = orderRepository.save(order);
+        createStockReservationsIfNeeded(savedOrder, products); // 재고 예약 모드: 잡아둔 재고를 주문에 연결
+        eventPublisher.publishEvent(LiveSalesEvent.orderCreated(savedOrder)); // 커밋 후 실시간 매출 대시보드, 인기 상품 집계에 반영
 
         return OrderResponse.of(savedOrder);
     }
 
+    /**
+     * 여러 주문을 한 트랜잭션에서 생성한다. (그룹 커밋 / 일괄 주문)
+     * - 상품 조회와 재고 조회는 배치 전체에 대해 한 번씩만 수행하고, 재고 UPDATE는 변경 감지로 상품당 한 번씩 나간다.
+     * - 재고 부족 등으로 실패한 주문은 건너뛰고, 주문별 성공/실패 결과를 요청 순서대로 반환한다.
+     * ++ 조건부 UPDATE 모드에서도 배치 안에서는 재고 엔티티를 조회해서 차감한다. (@Version으로 충돌 감지)
+     */
+    public List<OrderCreateResult> createOrders(List<OrderCreateServiceRequest> requests, List<LocalDateTime> registeredDateTimes) {
+        // 1. 배치에 포함된 모든 상품을 한 번에 조회
+        List<String> allProductNumbers = requests.stream()
+                .flatMap(request -> request.getProductNumbers().stream())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Product> productMap = createProductMapBy(allProductNumbers);
+
+        // 2. 배치에 포함된 모든 재고를 한 번에 조회 (재고 장부 모드에서는 장부에서 차감하므로 조회하지 않는다.)
+        Map<String, Stock> stockMap = stockProperties.getMode() == StockDeductionMode.LEDGER
+                ? Map.of()
+                : findStockMapBy(extractStockProductNumbers(new ArrayList<>(productMap.values())));
+
+        // 3. 주문별 재고 차감 및 주문 생성
+        List<OrderCreateResult> results = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<Product> products = requests.get(i).getProductNumbers().stream()
+                    .map(productMap::get)
+                    .collect(Collectors.toList());
+            if (products.contains(null)) {
+                results.add(OrderCreateResult.failure("존재하지 않는 상품이 포함되어 있습니다."));
+                continue;
+            }
+
+            try {
+                deductStockQuantities(products, stockMap);
+            } catch (IllegalArgumentException e) {
+                results.add(OrderCreateResult.failure(e.getMessage()));
+                continue;
+            }
+
+            Order savedOrder = orderRepository.save(Order.create(products, registeredDateTimes.get(i)));
+            createStockReservationsIfNeeded(savedOrder, products);
+            eventPublisher.publishEvent(LiveSalesEvent.orderCreated(savedOrder));
+            results.add(OrderCreateResult.success(OrderResponse.of(savedOrder)));
+        }
+        return results;
+    }
+
+    // 일괄 주문: 모든 주문을 같은 등록 시간으로 생성한다.
+    public List<OrderCreateResult> createOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        return createOrders(requests, Collections.nCopies(requests.size(), registeredDateTime));
+    }
+
+    // 결제 완료: 예약해둔 재고를 차감으로 확정한다.
+    public OrderResponse completePayment(Long orderId) {
+        Order order = findOrderBy(orderId);
+        changeStatus(order, Order::completePayment);
+        stockReservationService.confirm(orderId);
+        return OrderResponse.of(order);
+    }
+
+    // 결제 실패: 예약해둔 재고를 다시 판매 가능한 재고로 돌린다.
+    public OrderResponse failPayment(Long orderId) {
+        Order order = findOrderBy(orderId);
+        changeStatus(order, Order::failPayment);
+        stockReservationService.release(orderId);
+        return OrderResponse.of(order);
+    }
+
+    // 주문 취소: 예약해둔 재고를 다시 판매 가능한 재고로 돌린다.
+    public OrderResponse cancelOrder(Long orderId) {
+        Order order = findOrderBy(orderId);
+        changeStatus(order, Order::cancel);
+        stockReservationService.release(orderId);
+        return OrderResponse.of(order);
+    }
+
+    // 재고 예약 만료: 아직 결제되지 않은 주문이면 취소하고 예약을 푼다. (이미 처리된 주문은 건너뛴다.)
+    public void expireOrder(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || !order.isInit()) {
+            return;
+        }
+        changeStatus(order, Order::cancel);
+        stockReservationService.expire(orderId);
+    }
+
+    // 상태를 바꾸고, 결제완료로 들어가거나 결제완료에서 벗어난 경우 매출 집계에 반영한다.
+    // 결제완료가 되면 커밋 후 실시간 매출 대시보드에도 반영한다.
+    private void changeStatus(Order order, Consumer<Order> transition) {
+        OrderStatus previousStatus = order.getOrderStatus();
+        transition.accept(order);
+        salesRollupService.onOrderStatusChanged(order, previousStatus);
+        if (previousStatus != OrderStatus.PAYMENT_COMPLETED && order.getOrderStatus() == OrderStatus.PAYMENT_COMPLETED) {
+            eventPublisher.publishEvent(LiveSalesEvent.paymentCompleted(order.getTotalPrice()));
+        }
+    }
+
+    private Order findOrderBy(Long orderId) {
+        return orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+    }
+
     private void deductStockQuantities(List<Product> products) {
         // ##### 재고 차감 프로세스
         // 1. 재고 차감 체크가 필요한 상품들 filter
         List<String> stockProductNumbers = extractStockProductNumbers(products);
 
-        // 2. 재고 엔티티 조회
-        Map<String, Stock> stockMap = createStockMapBy(stockProductNumbers);
+        // ++ 재고 장부 모드: 인메모리 장부의 원자적 카운터로 재고를 확인/차감하고, DB 반영은 비동기로 모아서 처리한다.
+        if (stockProperties.getMode() == StockDeductionMode.LEDGER) {
+            stockLedger.deduct(createCountingMapBy(stockProductNumbers));
+            return;
+        }
+        // ++ 조건부 UPDATE 모드: 재고 엔티티를 조회하지 않고 'quantity >= 차감수량' 조건의 UPDATE를 한 번의 batch로 보낸다.
+        //    하나라도 차감하지 못하면 예외 -> 트랜잭션 롤백으로 먼저 차감된 상품도 함께 되돌아간다.
+        if (stockProperties.getMode() == StockDeductionMode.CONDITIONAL_UPDATE) {
+            List<String> failedProductNumbers = stockRepository.deductQuantities(createCountingMapBy(stockProductNumbers));
+            if (!failedProductNumbers.isEmpty()) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+            return;
+        }
+
+        // ++ 재고 예약 모드: 차감하지 않고 결제 완료 전까지 예약만 걸어둔다.
+        if (stockProperties.getMode() == StockDeductionMode.RESERVATION) {
+            stockReservationService.hold(createStockMapBy(stockProductNumbers), createCountingMapBy(stockProductNumbers));
+            return;
+        }
+
+        // 2. 재고 엔티티 조회 (비관적 락 모드에서는 상품번호 순으로 row lock을 걸면서 조회)
+        Map<String, Stock> stockMap = findStockMapBy(stockProductNumbers);
         // 3. 상품별 counting
         Map<String, Long> productCountingMap = createCountingMapBy(stockProductNumbers);
 
@@ -87,13 +230,44 @@ public class OrderService {
         }
     }
 
+    // 여러 주문의 재고 차감 (createOrders 전용)
+    // 재고는 배치 전체에 대해 한 번만 조회해두고, 주문마다 부족한 상품이 없는지 모두 확인한 뒤에 차감한다.
+    // -> 실패한 주문이 같은 배치의 다른 주문 재고에 영향을 주지 않는다.
+    private void deductStockQuantities(List<Product> products, Map<String, Stock> stockMap) {
+        Map<String, Long> productCountingMap = createCountingMapBy(extractStockProductNumbers(products));
+
+        if (stockProperties.getMode() == StockDeductionMode.LEDGER) {
+            stockLedger.deduct(productCountingMap);
+            return;
+        }
+        if (stockProperties.getMode() == StockDeductionMode.RESERVATION) {
+            stockReservationService.hold(stockMap, productCountingMap);
+            return;
+        }
+
+        for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+            Stock stock = stockMap.get(entry.getKey());
+            if (stock == null || stock.isQuantityLessThan(entry.getValue().intValue())) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+        }
+        productCountingMap.forEach((productNumber, quantity) ->
+                stockMap.get(productNumber).deductQuantity(quantity.intValue())
+        );
+    }
+
+    private void createStockReservationsIfNeeded(Order order, List<Product> products) {
+        if (stockProperties.getMode() != StockDeductionMode.RESERVATION) {
+            return;
+        }
+        stockReservationService.createReservations(
+                order.getId(), createCountingMapBy(extractStockProductNumbers(products)), order.getRegisteredDateTime());
+    }
+
     // ### REFACTOR 프로세스 2 (중복 상품 주문 생성 프로세스)
     private List<Product> findProductsBy(List<String> productNumbers) {
-        // createOrder의 1번 로직
-        List<Product> products = productRepository.findAllByProductNumberIn(productNumbers);
-        // createOrder의 2번 로직
-        Map<String, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getProductNumber, p -> p));
+        // createOrder의 1~2번 로직
+        Map<String, Product> productMap = createProductMapBy(productNumbers);
 
         // createOrder의 3번 로직
         return productNumbers.stream()
@@ -101,6 +275,11 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    // ++ 상품 캐시에 있는 상품은 DB를 조회하지 않는다. (ProductCatalogCache)
+    private Map<String, Product> createProductMapBy(List<String> productNumbers) {
+        return productCatalogCache.getProductMapBy(productNumbers);
+    }
+
     private static List<String> extractStockProductNumbers(List<Product> products) {
         return products.stream()
                 .filter(product -> ProductType.containsStockType(product.getType()))
@@ -114,6 +293,25 @@ public class OrderService {
                 .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
     }
 
+    private Map<String, Stock> findStockMapBy(List<String> stockProductNumbers) {
+        if (stockProperties.getMode() == StockDeductionMode.PESSIMISTIC_LOCK) {
+            return createLockedStockMapBy(stockProductNumbers);
+        }
+        return createStockMapBy(stockProductNumbers);
+    }
+
+    private Map<String, Stock> createLockedStockMapBy(List<String> stockProductNumbers) {
+        List<Stock> stocks;
+        try {
+            stocks = stockRepository.findAllByProductNumberInForUpdate(
+                    stockProductNumbers, stockProperties.getLock().getTimeoutMillis());
+        } catch (PessimisticLockingFailureException | QueryTimeoutException e) {
+            throw new StockLockTimeoutException("재고 잠금 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return stocks.stream()
+                .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
+    }
+
     private static Map<String, Long> createCountingMapBy(List<String> stockProductNumbers) {
         return stockProductNumbers.stream()
                 .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
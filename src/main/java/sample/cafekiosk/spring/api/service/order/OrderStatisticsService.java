@@ -2,12 +2,18 @@ package sample.cafekiosk.spring.api.service.order;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.mail.MailService;
-import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.api.service.order.request.SalesStatisticsServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.domain.order.OrderSalesAggregate;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -15,34 +21,62 @@ import java.util.List;
 public class OrderStatisticsService {
 
     private final OrderRepository orderRepository;
+    private final DailySalesRepository dailySalesRepository;
     private final MailService mailService;
 
+    // 메일은 outbox에 저장만 하고 바로 보내지 않는다. (메일 서버가 느리거나 실패해도 기다리지 않고, 전송은 MailOutboxDispatcher가 재시도까지 맡는다.)
+    @Transactional
     public boolean sendOrderStatisticsMail(LocalDate orderDate, String email) {
-        // 해당 일자에 결제완료된 주문들을 가져와서
-        List<Order> orders = orderRepository.findOrdersBy(
-                orderDate.atStartOfDay(),
-                orderDate.plusDays(1).atStartOfDay(),
-                OrderStatus.PAYMENT_COMPLETED
-        );
-        
-        // 총 매출 합계를 계산하고
-        int totalAmount = orders.stream()
-                .mapToInt(Order::getTotalPrice)
-                .sum();
-        
-        // 메일 전송
-        boolean result = mailService.sendMail(
+        // 해당 일자의 매출 집계 row 하나로 총 매출 합계를 구하고
+        // (집계 row가 없는 일자는 주문을 엔티티로 읽지 않고 DB에서 합계만 계산한다.)
+        long totalAmount = dailySalesRepository.findById(orderDate)
+                .map(DailySales::getTotalAmount)
+                .orElseGet(() -> orderRepository.sumTotalPriceBy(
+                        orderDate.atStartOfDay(),
+                        orderDate.plusDays(1).atStartOfDay(),
+                        OrderStatus.PAYMENT_COMPLETED
+                ));
+
+        // 메일 전송 요청
+        mailService.enqueueMail(
                 "no-reply@cafekiosk.com",
                 email,
                 String.format("[매출통계] %s", orderDate),
                 String.format("총 매출 합계는 %s원입니다.", totalAmount)
         );
 
-        if (!result) {
-            throw new IllegalArgumentException("매출 통계 메일 전송에 실패했습니다.");
+        return true;
+    }
+
+    // 기간 매출 통계 : 합계와 묶음별 내역 모두 DB에서 집계한 결과(프로젝션)만 읽는다. (한 달치 주문이어도 주문 row를 메모리에 올리지 않는다.)
+    @Transactional(readOnly = true)
+    public SalesStatisticsResponse getSalesStatistics(SalesStatisticsServiceRequest request) {
+        LocalDateTime startDateTime = request.getStartDateTime();
+        LocalDateTime endDateTime = request.getEndDateTime();
+
+        OrderSalesAggregate total = orderRepository.sumSales(startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+        List<OrderSalesAggregate> breakdowns = sumSalesGroupBy(request, startDateTime, endDateTime);
+
+        return SalesStatisticsResponse.of(request, total, breakdowns);
+    }
+
+    private List<OrderSalesAggregate> sumSalesGroupBy(SalesStatisticsServiceRequest request, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (request.getGroupBy() == null) {
+            return List.of();
         }
 
-        return true;
+        switch (request.getGroupBy()) {
+            case DAY:
+                return orderRepository.sumSalesGroupByDay(startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+            case HOUR:
+                return orderRepository.sumSalesGroupByHour(startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+            case PRODUCT_TYPE:
+                return orderRepository.sumSalesGroupByProductType(startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+            case PRODUCT:
+                return orderRepository.sumSalesGroupByProduct(startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 매출 통계 묶음 기준입니다.");
+        }
     }
 
 }
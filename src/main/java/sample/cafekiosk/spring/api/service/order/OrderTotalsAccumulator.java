@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.Order;
+
+import java.util.function.Consumer;
+
+// 주문 스트림의 주문 수와 매출 합계를 누적한다. (OrderExportService 파이프라인용, 한 스레드에서만 사용)
+@Getter
+public class OrderTotalsAccumulator implements Consumer<Order> {
+
+    private long orderCount;
+    private long totalAmount;
+
+    @Override
+    public void accept(Order order) {
+        orderCount++;
+        totalAmount += order.getTotalPrice();
+    }
+}
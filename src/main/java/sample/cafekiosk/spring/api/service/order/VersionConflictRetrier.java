@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
+
+import java.util.function.Supplier;
+
+/**
+ * 재고 엔티티의 @Version 충돌 시 주문 생성 트랜잭션 전체를 다시 시도한다.
+ * - 버전 충돌은 커밋 시점에 발생하기 때문에, 트랜잭션 바깥에서 호출해야 한다.
+ * - OrderFacade(개별 주문, 일괄 주문)와 OrderGroupCommitPipeline(배치 실패 후 주문별 처리)이 같은 재시도 정책을 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VersionConflictRetrier {
+
+    private final StockProperties stockProperties;
+
+    public <T> T retryOnVersionConflict(Supplier<T> orderCreator) {
+        StockProperties.Retry retry = stockProperties.getRetry();
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return orderCreator.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retry.getMaxAttempts()) {
+                    throw e;
+                }
+                log.info("재고 버전 충돌로 주문 생성을 재시도합니다. (시도 횟수: {})", attempt);
+                sleep(retry.getBackoffMillis() * attempt);
+                attempt++;
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 생성 재시도 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+}
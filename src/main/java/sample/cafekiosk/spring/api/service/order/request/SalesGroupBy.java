@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 매출 통계 묶음 기준
+@Getter
+@RequiredArgsConstructor
+public enum SalesGroupBy {
+
+    DAY("일자별"),
+    HOUR("시간대별"),
+    PRODUCT_TYPE("상품 타입별"),
+    PRODUCT("상품별");
+
+    private final String text;
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class SalesStatisticsServiceRequest {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final SalesGroupBy groupBy;
+
+    // 조회 기간은 시작일, 종료일을 모두 포함한다. 묶음 기준(groupBy)이 없으면 기간 전체 합계만 조회한다.
+    @Builder
+    private SalesStatisticsServiceRequest(LocalDate startDate, LocalDate endDate, SalesGroupBy groupBy) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.groupBy = groupBy;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDate.atStartOfDay();
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDate.plusDays(1).atStartOfDay();
+    }
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 같은 상품을 한 줄(상품 + 수량)로 묶어서 내려주는 주문 응답
+// ex) 아메리카노 20잔 주문 -> products 20개 대신 lines 1개
+@Getter
+public class OrderCompactResponse {
+
+    private Long id;
+    private int totalPrice;
+    private LocalDateTime registeredDateTime;
+    private List<OrderLineResponse> lines;
+
+    @Builder
+    private OrderCompactResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<OrderLineResponse> lines) {
+        this.id = id;
+        this.totalPrice = totalPrice;
+        this.registeredDateTime = registeredDateTime;
+        this.lines = lines;
+    }
+
+    // 주문 상품(OrderProduct)이 이미 상품 + 수량 한 줄로 저장되어 있으므로 OrderResponse가 만들어둔 줄을 그대로 사용한다.
+    public static OrderCompactResponse of(OrderResponse orderResponse) {
+        return OrderCompactResponse.builder()
+                .id(orderResponse.getId())
+                .totalPrice(orderResponse.getTotalPrice())
+                .registeredDateTime(orderResponse.getRegisteredDateTime())
+                .lines(orderResponse.getLines())
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 여러 주문을 한 번에 생성할 때 주문 1건의 결과 (성공 시 order, 실패 시 errorMessage)
+@Getter
+public class OrderCreateResult {
+
+    private boolean success;
+    private OrderResponse order;
+    private String errorMessage;
+
+    @Builder
+    private OrderCreateResult(boolean success, OrderResponse order, String errorMessage) {
+        this.success = success;
+        this.order = order;
+        this.errorMessage = errorMessage;
+    }
+
+    public static OrderCreateResult success(OrderResponse order) {
+        return OrderCreateResult.builder()
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static OrderCreateResult failure(String errorMessage) {
+        return OrderCreateResult.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
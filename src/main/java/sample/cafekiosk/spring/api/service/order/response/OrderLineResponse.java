@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+// 주문 상품 한 줄 (상품 + 수량)
+@Getter
+public class OrderLineResponse {
+
+    private String productNumber;
+    private String name;
+    private int unitPrice;
+    private int quantity;
+    private int linePrice;
+
+    @Builder
+    private OrderLineResponse(String productNumber, String name, int unitPrice, int quantity, int linePrice) {
+        this.productNumber = productNumber;
+        this.name = name;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+        this.linePrice = linePrice;
+    }
+
+    // 가격은 현재 상품 가격이 아니라 주문 시점에 저장된 단가를 사용한다. (줄 금액의 합 = 주문 총 금액)
+    public static OrderLineResponse of(OrderProduct orderProduct) {
+        return OrderLineResponse.builder()
+                .productNumber(orderProduct.getProduct().getProductNumber())
+                .name(orderProduct.getProduct().getName())
+                .unitPrice(orderProduct.getUnitPrice())
+                .quantity(orderProduct.getQuantity())
+                .linePrice(orderProduct.calculateLinePrice())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package sample.cafekiosk.spring.api.service.order.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
@@ -10,6 +11,7 @@ import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,25 +19,41 @@ import java.util.stream.Collectors;
 public class OrderResponse {
 
     private Long id;
+    private OrderStatus orderStatus;
     private int totalPrice;
     private LocalDateTime registeredDateTime;
     private List<ProductResponse> products;
 
+    // 상품 + 수량 한 줄 형태 (OrderCompactResponse에서 사용하고, 기존 응답 형태에는 포함하지 않는다.)
+    @JsonIgnore
+    private List<OrderLineResponse> lines;
+
     @Builder
-    public OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+    public OrderResponse(Long id, OrderStatus orderStatus, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products,
+                         List<OrderLineResponse> lines) {
         this.id = id;
+        this.orderStatus = orderStatus;
         this.totalPrice = totalPrice;
         this.registeredDateTime = registeredDateTime;
         this.products = products;
+        this.lines = lines;
     }
 
     public static OrderResponse of(Order order) {
         return OrderResponse.builder()
                 .id(order.getId())
+                .orderStatus(order.getOrderStatus())
                 .totalPrice(order.getTotalPrice())
                 .registeredDateTime(order.getRegisteredDateTime())
+                // 주문 상품은 수량 단위로 저장되므로, 기존 응답 형태(상품 1개당 1원소)에 맞게 수량만큼 펼친다.
+                // (같은 ProductResponse 인스턴스를 공유하므로 객체는 주문 상품당 1개만 생성된다. 가격은 주문 시점의 단가이다.)
                 .products(order.getOrderProducts().stream()
-                        .map(orderProduct -> ProductResponse.of(orderProduct.getProduct()))
+                        .flatMap(orderProduct -> Collections.nCopies(
+                                orderProduct.getQuantity(), ProductResponse.of(orderProduct)).stream())
+                        .collect(Collectors.toList())
+                )
+                .lines(order.getOrderProducts().stream()
+                        .map(OrderLineResponse::of)
                         .collect(Collectors.toList())
                 )
                 .build();
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.order.OrderSalesAggregate;
+
+@Getter
+public class SalesBreakdownResponse {
+
+    private final String key;
+    private final long orderCount;
+    private final long totalAmount;
+    private final long averageAmount;
+
+    @Builder
+    private SalesBreakdownResponse(String key, long orderCount, long totalAmount, long averageAmount) {
+        this.key = key;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+        this.averageAmount = averageAmount;
+    }
+
+    public static SalesBreakdownResponse of(OrderSalesAggregate aggregate) {
+        return SalesBreakdownResponse.builder()
+                .key(aggregate.getKey())
+                .orderCount(aggregate.getOrderCount())
+                .totalAmount(aggregate.getTotalAmount())
+                .averageAmount(SalesStatisticsResponse.average(aggregate.getTotalAmount(), aggregate.getOrderCount()))
+                .build();
+    }
+}
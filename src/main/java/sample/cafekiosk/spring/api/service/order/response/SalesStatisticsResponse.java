@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.order.request.SalesGroupBy;
+import sample.cafekiosk.spring.api.service.order.request.SalesStatisticsServiceRequest;
+import sample.cafekiosk.spring.domain.order.OrderSalesAggregate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 기간 매출 통계 (총 매출, 주문 수, 주문당 평균 금액 + 묶음 기준별 내역)
+@Getter
+public class SalesStatisticsResponse {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final SalesGroupBy groupBy;
+    private final long orderCount;
+    private final long totalAmount;
+    private final long averageAmount;
+    private final List<SalesBreakdownResponse> breakdowns;
+
+    @Builder
+    private SalesStatisticsResponse(LocalDate startDate, LocalDate endDate, SalesGroupBy groupBy,
+                                    long orderCount, long totalAmount, long averageAmount, List<SalesBreakdownResponse> breakdowns) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.groupBy = groupBy;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+        this.averageAmount = averageAmount;
+        this.breakdowns = breakdowns;
+    }
+
+    public static SalesStatisticsResponse of(SalesStatisticsServiceRequest request, OrderSalesAggregate total, List<OrderSalesAggregate> breakdowns) {
+        return SalesStatisticsResponse.builder()
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .groupBy(request.getGroupBy())
+                .orderCount(total.getOrderCount())
+                .totalAmount(total.getTotalAmount())
+                .averageAmount(average(total.getTotalAmount(), total.getOrderCount()))
+                .breakdowns(breakdowns.stream()
+                        .map(SalesBreakdownResponse::of)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    // 일자별 집계 결과(일자 순서)를 합쳐서 기간 전체 합계를 만든다.
+    public static SalesStatisticsResponse ofDays(LocalDate startDate, LocalDate endDate, List<OrderSalesAggregate> days) {
+        long orderCount = days.stream().mapToLong(OrderSalesAggregate::getOrderCount).sum();
+        long totalAmount = days.stream().mapToLong(OrderSalesAggregate::getTotalAmount).sum();
+
+        return SalesStatisticsResponse.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .groupBy(SalesGroupBy.DAY)
+                .orderCount(orderCount)
+                .totalAmount(totalAmount)
+                .averageAmount(average(totalAmount, orderCount))
+                .breakdowns(days.stream()
+                        .map(SalesBreakdownResponse::of)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    // 주문당 평균 금액 (원 단위 반올림, 주문이 없으면 0)
+    static long average(long totalAmount, long orderCount) {
+        return orderCount == 0 ? 0 : Math.round((double) totalAmount / orderCount);
+    }
+}
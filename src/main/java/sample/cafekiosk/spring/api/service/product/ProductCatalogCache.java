@@ -0,0 +1,125 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 상품번호 -> 상품 캐시 (주문 생성 시 상품 조회용)
+ * - 상품 정보는 하루에 몇 번 바뀌지 않으므로, 주문마다 상품 테이블을 조회하지 않고 캐시에서 꺼낸다.
+ * - 캐시에 없는 상품들만 한 번의 IN 쿼리로 모아서 조회하고 캐시에 올린다.
+ * - 상품이 추가/변경되면 ProductCatalogChangedEvent를 받아서 트랜잭션 커밋 후 해당 상품을 캐시에서 제거한다.
+ *
+ * ++ 캐시의 상품은 준영속 상태이므로, 주문 상품의 연관관계(FK)와 가격/이름 조회에만 사용하고 변경하지 않는다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final ProductProperties productProperties;
+    private final Cache<String, Product> products;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    public ProductCatalogCache(ProductRepository productRepository, ProductProperties productProperties) {
+        this.productRepository = productRepository;
+        this.productProperties = productProperties;
+
+        ProductProperties.Cache cache = productProperties.getCache();
+        this.products = CacheBuilder.newBuilder()
+                .maximumSize(cache.getMaximumSize())
+                .expireAfterWrite(cache.getExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    // 상품번호로 상품들을 찾는다. (존재하지 않는 상품번호는 결과에서 빠진다.)
+    public Map<String, Product> getProductMapBy(List<String> productNumbers) {
+        if (!productProperties.getCache().isEnabled()) {
+            return toProductMap(productRepository.findAllByProductNumberIn(productNumbers));
+        }
+
+        List<String> distinctProductNumbers = productNumbers.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Product> productMap = new HashMap<>(products.getAllPresent(distinctProductNumbers));
+        hitCount.add(productMap.size());
+
+        List<String> missingProductNumbers = distinctProductNumbers.stream()
+                .filter(productNumber -> !productMap.containsKey(productNumber))
+                .collect(Collectors.toList());
+        if (missingProductNumbers.isEmpty()) {
+            return productMap;
+        }
+
+        missCount.add(missingProductNumbers.size());
+        Map<String, Product> loaded = load(missingProductNumbers);
+        products.putAll(loaded);
+        productMap.putAll(loaded);
+        return productMap;
+    }
+
+    public void invalidate(List<String> productNumbers) {
+        products.invalidateAll(productNumbers);
+    }
+
+    public void invalidateAll() {
+        products.invalidateAll();
+    }
+
+    // 상품 추가/변경 트랜잭션이 커밋된 뒤에 무효화한다. (커밋 전에 지우면 다른 주문이 변경 전 상품을 다시 올릴 수 있다.)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCatalogChanged(ProductCatalogChangedEvent event) {
+        invalidate(event.getProductNumbers());
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    // 캐시에 없는 상품을 DB에서 조회하는 데 걸린 평균 시간 (ms)
+    public double getAverageLoadMillis() {
+        long loads = loadCount.sum();
+        return loads == 0 ? 0 : totalLoadTimeNanos.sum() / (double) loads / 1_000_000;
+    }
+
+    public long getSize() {
+        return products.size();
+    }
+
+    private Map<String, Product> load(List<String> productNumbers) {
+        long begin = System.nanoTime();
+        try {
+            return toProductMap(productRepository.findAllByProductNumberIn(productNumbers));
+        } finally {
+            loadCount.increment();
+            totalLoadTimeNanos.add(System.nanoTime() - begin);
+        }
+    }
+
+    private static Map<String, Product> toProductMap(List<Product> products) {
+        return products.stream()
+                .collect(Collectors.toMap(Product::getProductNumber, p -> p));
+    }
+
+}
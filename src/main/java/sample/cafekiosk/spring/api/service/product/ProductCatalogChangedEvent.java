@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 상품 정보가 추가/변경되었을 때 발행하는 이벤트 (상품 캐시 무효화용)
+@Getter
+public class ProductCatalogChangedEvent {
+
+    private final List<String> productNumbers;
+
+    public ProductCatalogChangedEvent(List<String> productNumbers) {
+        this.productNumbers = productNumbers;
+    }
+
+}
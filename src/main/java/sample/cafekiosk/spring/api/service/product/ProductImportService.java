@@ -0,0 +1,123 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportError;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// 상품 일괄 등록 (신규 매장 메뉴 등록 등)
+// 요청을 한 줄씩 읽으면서 chunk 단위로 저장하므로, 상품 수와 상관없이 메모리 사용량이 일정하다.
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProductImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final ProductRepository productRepository;
+    private final ProductNumberFactory productNumberFactory;
+    private final ProductProperties productProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // chunk 하나 = 트랜잭션 하나 (앞 chunk가 저장된 뒤에 뒤 chunk가 실패해도 앞 chunk는 롤백되지 않는다.)
+    public ProductImportResponse importProducts(Iterator<ProductImportRow> rows) {
+        int chunkSize = productProperties.getImportChunkSize();
+        List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+        List<ProductImportError> errors = new ArrayList<>();
+        long totalCount = 0;
+        long importedCount = 0;
+
+        while (rows.hasNext()) {
+            ProductImportRow row = rows.next();
+            totalCount++;
+            if (!row.isValid()) {
+                addError(errors, row, row.getErrorMessage());
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importedCount += saveChunk(chunk, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedCount += saveChunk(chunk, errors);
+        }
+
+        return ProductImportResponse.builder()
+                .totalCount(totalCount)
+                .importedCount(importedCount)
+                .failedCount(totalCount - importedCount)
+                .errors(errors)
+                .build();
+    }
+
+    private long saveChunk(List<ProductImportRow> chunk, List<ProductImportError> errors) {
+        // chunk 크기만큼 상품번호 구간을 한 번에 발급받는다.
+        List<String> productNumbers = productNumberFactory.createNextProductNumbers(chunk.size());
+        List<Product> products = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            products.add(chunk.get(i).getRequest().toEntity(productNumbers.get(i)));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // INSERT를 JDBC batch로 보내고, 저장한 상품을 영속성 컨텍스트에서 비운다.
+                // (OSIV로 요청 내내 같은 EntityManager를 쓰더라도 chunk가 쌓이지 않는다.)
+                productRepository.saveAllAndFlush(products);
+                em.clear();
+                eventPublisher.publishEvent(new ProductCatalogChangedEvent(productNumbers));
+            });
+            return chunk.size();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("상품 일괄 등록 chunk 저장 실패, 한 줄씩 다시 저장합니다. (line {} ~ {})",
+                    chunk.get(0).getLineNumber(), chunk.get(chunk.size() - 1).getLineNumber(), e);
+            return saveRowByRow(chunk, productNumbers, errors);
+        }
+    }
+
+    // chunk 중 어느 줄 때문에 실패했는지 알 수 없으므로, 줄마다 트랜잭션을 나눠서 실패한 줄만 원인과 함께 알려준다.
+    // 롤백된 엔티티에는 ID가 이미 채워져 있으므로 같은 상품번호로 엔티티를 새로 만든다.
+    private long saveRowByRow(List<ProductImportRow> chunk, List<String> productNumbers, List<ProductImportError> errors) {
+        long savedCount = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            ProductImportRow row = chunk.get(i);
+            String productNumber = productNumbers.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    productRepository.saveAndFlush(row.getRequest().toEntity(productNumber));
+                    em.clear();
+                    eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of(productNumber)));
+                });
+                savedCount++;
+            } catch (DataAccessException | TransactionException e) {
+                addError(errors, row, "상품을 저장하지 못했습니다. (" + NestedExceptionUtils.getMostSpecificCause(e).getMessage() + ")");
+            }
+        }
+        return savedCount;
+    }
+
+    private void addError(List<ProductImportError> errors, ProductImportRow row, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(ProductImportError.of(row.getLineNumber(), message));
+        }
+    }
+
+}
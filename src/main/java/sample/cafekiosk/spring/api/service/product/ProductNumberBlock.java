@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// DB에서 발급받은 상품번호 구간 [first, last], 구간 안의 번호는 DB 접근 없이 나눠준다.
+class ProductNumberBlock {
+
+    static final ProductNumberBlock EMPTY = new ProductNumberBlock(1, 0);
+
+    private final AtomicLong next;
+    private final long last;
+
+    ProductNumberBlock(long first, long last) {
+        this.next = new AtomicLong(first);
+        this.last = last;
+    }
+
+    // 구간을 다 쓴 경우 -1
+    long next() {
+        long number = next.getAndIncrement();
+        return number <= last ? number : -1;
+    }
+}
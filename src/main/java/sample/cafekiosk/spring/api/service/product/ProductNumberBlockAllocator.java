@@ -0,0 +1,42 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequence;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+// 상품번호 카운터 row를 잠그고 번호 구간을 발급한다. (hi/lo)
+@RequiredArgsConstructor
+@Component
+public class ProductNumberBlockAllocator {
+
+    static final String SEQUENCE_NAME = "product_number";
+
+    private final ProductNumberSequenceRepository productNumberSequenceRepository;
+    private final ProductRepository productRepository;
+
+    // 상품 등록 트랜잭션과 분리해서 row lock을 짧게 잡고 바로 커밋한다.
+    // (상품 등록이 롤백되어도 발급한 구간은 돌려받지 않는다. -> 번호에 빈 구간이 생길 수 있다.)
+    // ++ 다른 트랜잭션 안에서 호출하면 커넥션을 하나 더 잡는다. 동시 등록이 커넥션 풀 크기를 넘으면 풀이 교착될 수 있으므로
+    //    상품 등록 트랜잭션을 시작하기 전에 호출한다. (ProductService.createProduct, ProductImportService)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ProductNumberBlock allocate(int blockSize) {
+        ProductNumberSequence sequence = productNumberSequenceRepository.findByNameForUpdate(SEQUENCE_NAME)
+                .orElseGet(this::createSequence);
+
+        long first = sequence.allocate(blockSize);
+        return new ProductNumberBlock(first, first + blockSize - 1);
+    }
+
+    // 카운터가 없는 최초 1회만 기존 상품의 가장 큰 번호 다음부터 시작하도록 만든다.
+    // 여러 서버가 동시에 만들면 한쪽은 PK 중복으로 실패하고, 호출한 쪽에서 다시 시도한다.
+    private ProductNumberSequence createSequence() {
+        Long maxProductNumber = productRepository.findMaxProductNumber();
+        long nextValue = maxProductNumber == null ? 1 : maxProductNumber + 1;
+
+        return productNumberSequenceRepository.saveAndFlush(ProductNumberSequence.create(SEQUENCE_NAME, nextValue));
+    }
+}
@@ -1,26 +1,77 @@
 package sample.cafekiosk.spring.api.service.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 // ProductService 클래스에 있던 private 메서드를 테스트하기 위해 분리된 객체
+// 상품번호는 DB 카운터에서 구간 단위로 받아와서 서버 안에서 나눠준다. (상품 등록마다 product 테이블을 조회하지 않는다.)
 @RequiredArgsConstructor
 @Component
 public class ProductNumberFactory {
 
-    private final ProductRepository productRepository;
+    private static final int MAX_ALLOCATE_ATTEMPTS = 3;
+
+    private final ProductNumberBlockAllocator productNumberBlockAllocator;
+    private final ProductProperties productProperties;
+
+    private final AtomicReference<ProductNumberBlock> currentBlock = new AtomicReference<>(ProductNumberBlock.EMPTY);
 
     public String createNextProductNumber() {
-        String latestProductNumber = productRepository.findLatestProductNumber();
-        if (latestProductNumber == null) {
-            return "001";
+        while (true) {
+            ProductNumberBlock block = currentBlock.get();
+            long nextProductNumber = block.next();
+            if (nextProductNumber > 0) {
+                return format(nextProductNumber);
+            }
+
+            refill(block);
+        }
+    }
+
+    // 일괄 등록용: count개짜리 구간을 따로 발급받아서 한 번에 돌려준다. (서버가 들고 있는 구간은 그대로 둔다.)
+    public List<String> createNextProductNumbers(int count) {
+        ProductNumberBlock block = allocateBlock(count);
+        List<String> productNumbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            productNumbers.add(format(block.next()));
+        }
+        return productNumbers;
+    }
+
+    // 들고 있는 구간을 버린다. (남은 번호는 사용되지 않는다.)
+    public void discardBlock() {
+        currentBlock.set(ProductNumberBlock.EMPTY);
+    }
+
+    // 구간을 다 쓴 스레드들 중 한 스레드만 새 구간을 받아온다.
+    private synchronized void refill(ProductNumberBlock exhaustedBlock) {
+        if (currentBlock.get() != exhaustedBlock) {
+            return;
         }
 
-        int latestProductNumberInt = Integer.parseInt(latestProductNumber);
-        int nextProductNumberInt = latestProductNumberInt + 1;
+        currentBlock.set(allocateBlock(productProperties.getNumberBlockSize()));
+    }
+
+    private ProductNumberBlock allocateBlock(int blockSize) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return productNumberBlockAllocator.allocate(blockSize);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 카운터 row를 먼저 만든 경우 -> 다시 잠그고 발급받는다.
+                if (attempt >= MAX_ALLOCATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
 
-        // 9 -> 009 / 10 -> 010
-        return String.format("%03d", nextProductNumberInt);
+    // 9 -> 009 / 10 -> 010
+    private String format(long productNumber) {
+        return String.format("%03d", productNumber);
     }
 }
@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml의 cafekiosk.product 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafekiosk.product")
+public class ProductProperties {
+
+    private final Cache cache = new Cache();
+
+    // 상품번호 카운터에서 한 번에 발급받는 번호 수 (서버가 재시작되면 남은 번호는 건너뛴다.)
+    private int numberBlockSize = 50;
+
+    // 상품 일괄 등록 시 한 트랜잭션에서 저장하는 상품 수 (chunk마다 flush/clear)
+    private int importChunkSize = 1_000;
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        // 주문 시 상품 조회에 캐시 사용 여부
+        private boolean enabled = true;
+
+        // 캐시에 보관할 최대 상품 수 (초과 시 오래 사용되지 않은 상품부터 제거)
+        private long maximumSize = 10_000;
+
+        // 캐시에 올라온 상품을 보관하는 시간 (초), 무효화 이벤트를 놓친 경우의 안전장치
+        private long expireAfterWriteSeconds = 600;
+    }
+
+}
@@ -1,10 +1,16 @@
 package sample.cafekiosk.spring.api.service.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductSearchServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductPageResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
@@ -26,17 +32,26 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductNumberFactory productNumberFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SellingProductCatalog sellingProductCatalog;
+    private final TransactionTemplate transactionTemplate;
 
-    // 동시성 이슈
-    @Transactional
+    // 동시성 이슈 -> ProductNumberFactory가 DB 카운터에서 구간 단위로 번호를 받아와서 해결
+    // ++ 번호 구간 발급(REQUIRES_NEW)이 상품 등록 트랜잭션의 커넥션을 잡은 채로 커넥션을 하나 더 기다리지 않도록,
+    //    상품번호를 먼저 받고 나서 상품 등록 트랜잭션을 시작한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse createProduct(ProductCreateServiceRequest request) {
 //        String nextProductNumber = createNextProductNumber();
         String nextProductNumber = productNumberFactory.createNextProductNumber();
 
-        Product product = request.toEntity(nextProductNumber);
-        Product savedProduct = productRepository.save(product);
+        return transactionTemplate.execute(status -> {
+            Product product = request.toEntity(nextProductNumber);
+            Product savedProduct = productRepository.save(product);
+            // 상품 캐시 무효화 (상품 정보를 변경하는 메서드가 추가되면 같은 이벤트를 발행해야 한다.)
+            eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of(savedProduct.getProductNumber())));
 
-        return ProductResponse.of(savedProduct);
+            return ProductResponse.of(savedProduct);
+        });
     }
 
     public List<ProductResponse> getSellingProducts() {
@@ -47,6 +62,23 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    // 상품 목록 페이지 조회 (keyset: 이전 페이지의 마지막 id 다음부터 size + 1건을 읽는다.)
+    public ProductPageResponse getProducts(ProductSearchServiceRequest request) {
+        List<Product> products = productRepository.findAllByKeyset(
+                request.getTypes(), request.getSellingStatuses(), request.getCursor(), request.getSize() + 1);
+
+        return ProductPageResponse.of(products.stream()
+                .map(ProductResponse::of)
+                .collect(Collectors.toList()), request.getSize());
+    }
+
+    // 판매 상품 목록 스냅샷 (polling용)
+    // 스냅샷이 최신이면 DB 커넥션도 필요 없으므로 트랜잭션을 시작하지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SellingProductsSnapshot getSellingProductsSnapshot() {
+        return sellingProductCatalog.getSnapshot();
+    }
+
     // ++ private 메서드를 테스트하고 싶다면, 객체를 분리할 시점인지 생각해보아야 한다.
     //    ProductNumberFactory 클래스를 생성하여 분리해보도록 하자.
 //    private String createNextProductNumber() {
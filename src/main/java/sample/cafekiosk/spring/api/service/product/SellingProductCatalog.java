@@ -0,0 +1,71 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 상품 목록 스냅샷 보관소
+ * - 키오스크들의 판매 상품 목록 polling은 현재 스냅샷을 그대로 돌려준다. (DB 조회 X)
+ * - 상품이 추가/변경되면(ProductCatalogChangedEvent) 카탈로그 버전만 올리고, 다음 조회 때 한 번만 새 스냅샷을 만들어 교체한다.
+ * - 스냅샷을 만드는 중에 상품이 또 바뀌면, 만들어진 스냅샷의 버전이 카탈로그 버전보다 낮으므로 다음 조회 때 다시 만든다.
+ * - 카탈로그 버전과 무효화는 인스턴스 로컬이다. 상품을 변경한 인스턴스만 이벤트를 받으므로,
+ *   여러 인스턴스로 운영하면 다른 인스턴스는 재시작하거나 invalidate()가 호출될 때까지 이전 스냅샷을 응답한다.
+ *   (인스턴스 간 무효화 전파는 하지 않는다. ETag는 내용 해시라서 스냅샷 내용이 같은 인스턴스끼리는 같은 ETag를 응답한다.)
+ */
+@RequiredArgsConstructor
+@Component
+public class SellingProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private final AtomicReference<SellingProductsSnapshot> snapshot = new AtomicReference<>();
+
+    public SellingProductsSnapshot getSnapshot() {
+        SellingProductsSnapshot current = snapshot.get();
+        if (current != null && current.getVersion() == catalogVersion.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    // 이 인스턴스의 스냅샷만 무효화한다.
+    public void invalidate() {
+        catalogVersion.incrementAndGet();
+    }
+
+    // 상품 추가/변경 트랜잭션이 커밋된 뒤에 무효화한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCatalogChanged(ProductCatalogChangedEvent event) {
+        invalidate();
+    }
+
+    // 동시에 여러 요청이 들어와도 스냅샷은 한 번만 만든다.
+    private synchronized SellingProductsSnapshot rebuild() {
+        SellingProductsSnapshot current = snapshot.get();
+        long version = catalogVersion.get();
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+
+        List<ProductResponse> products = productRepository.findAllBySellingStatusIn(ProductSellingStatus.forDisplay()).stream()
+                .map(ProductResponse::of)
+                .collect(Collectors.toList());
+        SellingProductsSnapshot rebuilt = SellingProductsSnapshot.of(version, products, objectMapper);
+        snapshot.set(rebuilt);
+        return rebuilt;
+    }
+
+}
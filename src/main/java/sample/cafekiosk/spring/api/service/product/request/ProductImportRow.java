@@ -0,0 +1,30 @@
+package sample.cafekiosk.spring.api.service.product.request;
+
+import lombok.Getter;
+
+// 상품 일괄 등록 요청의 한 줄 (검증에 실패한 줄은 request 대신 errorMessage를 가진다.)
+@Getter
+public class ProductImportRow {
+
+    private final long lineNumber;
+    private final ProductCreateServiceRequest request;
+    private final String errorMessage;
+
+    private ProductImportRow(long lineNumber, ProductCreateServiceRequest request, String errorMessage) {
+        this.lineNumber = lineNumber;
+        this.request = request;
+        this.errorMessage = errorMessage;
+    }
+
+    public static ProductImportRow valid(long lineNumber, ProductCreateServiceRequest request) {
+        return new ProductImportRow(lineNumber, request, null);
+    }
+
+    public static ProductImportRow invalid(long lineNumber, String errorMessage) {
+        return new ProductImportRow(lineNumber, null, errorMessage);
+    }
+
+    public boolean isValid() {
+        return errorMessage == null;
+    }
+}
@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.api.service.product.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+
+@Getter
+public class ProductSearchServiceRequest {
+
+    private final List<ProductType> types;
+    private final List<ProductSellingStatus> sellingStatuses;
+    private final Long cursor;
+    private final int size;
+
+    // 판매상태 조건이 없으면 기존 판매 상품 목록과 같은 상태(판매중, 판매보류)만 조회한다.
+    @Builder
+    private ProductSearchServiceRequest(List<ProductType> types, List<ProductSellingStatus> sellingStatuses, Long cursor, int size) {
+        this.types = types == null ? List.of() : types;
+        this.sellingStatuses = sellingStatuses == null || sellingStatuses.isEmpty() ? ProductSellingStatus.forDisplay() : sellingStatuses;
+        this.cursor = cursor;
+        this.size = size;
+    }
+}
@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import lombok.Getter;
+
+// 상품 일괄 등록에서 실패한 줄
+@Getter
+public class ProductImportError {
+
+    private final long lineNumber;
+    private final String message;
+
+    private ProductImportError(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public static ProductImportError of(long lineNumber, String message) {
+        return new ProductImportError(lineNumber, message);
+    }
+}
@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 상품 일괄 등록 결과 (errors에는 실패한 줄 중 앞에서부터 최대 ProductImportService.MAX_REPORTED_ERRORS 건만 담는다.)
+@Getter
+public class ProductImportResponse {
+
+    private final long totalCount;
+    private final long importedCount;
+    private final long failedCount;
+    private final List<ProductImportError> errors;
+
+    @Builder
+    private ProductImportResponse(long totalCount, long importedCount, long failedCount, List<ProductImportError> errors) {
+        this.totalCount = totalCount;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+    }
+}
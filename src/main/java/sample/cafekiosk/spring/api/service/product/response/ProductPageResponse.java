@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 상품 목록 한 페이지 (다음 페이지는 nextCursor를 cursor로 넘겨서 조회한다.)
+@Getter
+public class ProductPageResponse {
+
+    private final List<ProductResponse> products;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    @Builder
+    private ProductPageResponse(List<ProductResponse> products, Long nextCursor, boolean hasNext) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // size + 1건을 조회해서 한 건이 더 있으면 다음 페이지가 있는 것으로 본다.
+    public static ProductPageResponse of(List<ProductResponse> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<ProductResponse> products = hasNext ? fetched.subList(0, size) : fetched;
+
+        return ProductPageResponse.builder()
+                .products(products)
+                .nextCursor(hasNext ? products.get(products.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
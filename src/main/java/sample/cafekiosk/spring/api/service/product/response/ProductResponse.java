@@ -2,6 +2,7 @@ package sample.cafekiosk.spring.api.service.product.response;
 
 import lombok.Builder;
 import lombok.Getter;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
@@ -37,4 +38,17 @@ public class ProductResponse {
                 .build();
     }
 
+    // 주문된 상품 : 가격은 현재 상품 가격이 아니라 주문 시점의 단가이다.
+    public static ProductResponse of(OrderProduct orderProduct) {
+        Product product = orderProduct.getProduct();
+        return ProductResponse.builder()
+                .id(product.getId())
+                .productNumber(product.getProductNumber())
+                .type(product.getType())
+                .sellingStatus(product.getSellingStatus())
+                .name(product.getName())
+                .price(orderProduct.getUnitPrice())
+                .build();
+    }
+
 }
@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.PreSerializedBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 판매 상품 목록의 불변 스냅샷
+ * - 상품 정보가 바뀔 때마다 새 스냅샷으로 통째로 교체되고, 만들어진 스냅샷은 변경되지 않는다.
+ * - ETag = 내용 해시 (버전은 인스턴스마다 따로 올라가고 재시작하면 초기화되므로 ETag에 넣지 않는다.
+ *   -> 로드밸런서 뒤의 여러 인스턴스, 재시작 전후에도 내용이 같으면 ETag가 같아서 304로 응답할 수 있다.)
+ * - 응답 본문(ApiResponse)은 스냅샷을 만들 때 한 번만 직렬화/압축해둔다. (PreSerializedBody)
+ */
+@Getter
+public class SellingProductsSnapshot {
+
+    private final long version;
+    private final List<ProductResponse> products;
+    private final String eTag;
+    private final PreSerializedBody body;
+
+    private SellingProductsSnapshot(long version, List<ProductResponse> products, ObjectMapper objectMapper) {
+        this.version = version;
+        this.products = Collections.unmodifiableList(products);
+        this.eTag = createETag(products);
+        this.body = PreSerializedBody.of(objectMapper, ApiResponse.ok(this.products));
+    }
+
+    public static SellingProductsSnapshot of(long version, List<ProductResponse> products, ObjectMapper objectMapper) {
+        return new SellingProductsSnapshot(version, products, objectMapper);
+    }
+
+    private static String createETag(List<ProductResponse> products) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(products.size());
+        for (ProductResponse product : products) {
+            putField(hasher, product.getId() == null ? null : String.valueOf(product.getId()));
+            putField(hasher, product.getProductNumber());
+            putField(hasher, product.getType() == null ? null : product.getType().name());
+            putField(hasher, product.getSellingStatus() == null ? null : product.getSellingStatus().name());
+            putField(hasher, product.getName());
+            hasher.putInt(product.getPrice());
+        }
+        return "\"" + hasher.hash() + "\"";
+    }
+
+    // 필드마다 길이를 먼저 넣어서 ("001", "아메리카노")와 ("001아", "메리카노")처럼 이어 붙이면 같아지는 값이 같은 해시가 되지 않게 한다. (null은 -1)
+    private static void putField(Hasher hasher, String value) {
+        if (value == null) {
+            hasher.putInt(-1);
+            return;
+        }
+        hasher.putInt(value.length())
+                .putString(value, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellerResponse;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellersResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 지금 많이 팔리는 상품 (키오스크 화면의 "인기 메뉴 TOP 10")
+ * - 주문 생성 트랜잭션이 커밋된 뒤에 LiveSalesEvent의 주문 상품 수량을 구간(이번 시간 / 오늘)별 Space-Saving 스케치에 더한다.
+ * - 주문 상품 테이블을 매번 집계하지 않고, 카탈로그 크기와 상관없이 구간마다 capacity개의 카운터만 유지한다.
+ * - 정각 / 자정이 지나면 새 스케치로 교체한다. (애플리케이션 인스턴스별 집계, 재시작하면 0부터 다시 쌓인다.)
+ */
+@Component
+public class BestSellerTracker {
+
+    private final ProductCatalogCache productCatalogCache;
+    private final SalesProperties salesProperties;
+    private final Map<BestSellerWindow, AtomicReference<WindowSketch>> sketches = new EnumMap<>(BestSellerWindow.class);
+
+    public BestSellerTracker(ProductCatalogCache productCatalogCache, SalesProperties salesProperties) {
+        this.productCatalogCache = productCatalogCache;
+        this.salesProperties = salesProperties;
+        for (BestSellerWindow window : BestSellerWindow.values()) {
+            sketches.put(window, new AtomicReference<>());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveSalesEvent(LiveSalesEvent event) {
+        if (event.getType() != LiveSalesEvent.Type.ORDER_CREATED) {
+            return;
+        }
+        record(LocalDateTime.now(), event.getProductQuantities());
+    }
+
+    public BestSellersResponse getBestSellers(BestSellerWindow window, int limit) {
+        return getBestSellers(window, limit, LocalDateTime.now());
+    }
+
+    void record(LocalDateTime now, Map<String, Integer> productQuantities) {
+        for (BestSellerWindow window : BestSellerWindow.values()) {
+            SpaceSavingSketch sketch = sketchOf(window, now);
+            productQuantities.forEach(sketch::add);
+        }
+    }
+
+    BestSellersResponse getBestSellers(BestSellerWindow window, int limit, LocalDateTime now) {
+        LocalDateTime windowStart = window.startOf(now);
+        WindowSketch current = sketches.get(window).get();
+        List<SpaceSavingSketch.Counter> counters = current != null && current.windowStart.equals(windowStart)
+                ? current.sketch.top(limit)
+                : List.of(); // 이번 구간에는 아직 주문이 없다.
+
+        // 상품 이름은 상품 캐시에서 가져온다.
+        Map<String, Product> productMap = counters.isEmpty() ? Map.of() : productCatalogCache.getProductMapBy(counters.stream()
+                .map(SpaceSavingSketch.Counter::getItem)
+                .collect(Collectors.toList()));
+
+        List<BestSellerResponse> products = new ArrayList<>();
+        for (SpaceSavingSketch.Counter counter : counters) {
+            Product product = productMap.get(counter.getItem());
+            products.add(BestSellerResponse.builder()
+                    .rank(products.size() + 1)
+                    .productNumber(counter.getItem())
+                    .name(product == null ? null : product.getName())
+                    .quantity(counter.getCount())
+                    .maxOverestimate(counter.getError())
+                    .build());
+        }
+
+        return BestSellersResponse.builder()
+                .window(window)
+                .windowStart(windowStart)
+                .products(products)
+                .build();
+    }
+
+    // 구간이 바뀌었으면 새 스케치로 교체한다. (동시에 교체하려는 스레드 중 하나만 성공하고 나머지는 그 스케치를 쓴다.)
+    private SpaceSavingSketch sketchOf(BestSellerWindow window, LocalDateTime now) {
+        LocalDateTime windowStart = window.startOf(now);
+        AtomicReference<WindowSketch> reference = sketches.get(window);
+        while (true) {
+            WindowSketch current = reference.get();
+            // 구간이 막 바뀐 직전에 만들어진 주문은 새 구간에 더한다.
+            if (current != null && !current.windowStart.isBefore(windowStart)) {
+                return current.sketch;
+            }
+            WindowSketch fresh = new WindowSketch(windowStart, new SpaceSavingSketch(salesProperties.getBestSeller().getCapacity()));
+            if (reference.compareAndSet(current, fresh)) {
+                return fresh.sketch;
+            }
+        }
+    }
+
+    private static class WindowSketch {
+
+        private final LocalDateTime windowStart;
+        private final SpaceSavingSketch sketch;
+
+        private WindowSketch(LocalDateTime windowStart, SpaceSavingSketch sketch) {
+            this.windowStart = windowStart;
+            this.sketch = sketch;
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 인기 상품 집계 구간 (정각 / 자정부터 지금까지)
+@Getter
+@RequiredArgsConstructor
+public enum BestSellerWindow {
+
+    HOUR("이번 시간", ChronoUnit.HOURS),
+    DAY("오늘", ChronoUnit.DAYS);
+
+    private final String text;
+    private final ChronoUnit unit;
+
+    public LocalDateTime startOf(LocalDateTime dateTime) {
+        return dateTime.truncatedTo(unit);
+    }
+}
@@ -0,0 +1,56 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesWindowResponse;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 매출 대시보드
+ * - 주문 생성 / 결제완료 트랜잭션이 커밋된 뒤에 LiveSalesEvent를 받아서 메모리의 초 단위 링 버퍼에 더한다. (롤백된 주문은 집계하지 않는다.)
+ * - 조회는 링 버퍼만 읽고 DB는 조회하지 않는다.
+ * - 애플리케이션 인스턴스별 집계이고, 재시작하면 0부터 다시 쌓인다. (정확한 매출은 daily_sales 집계 / 매출 통계 API)
+ */
+@Component
+public class LiveSalesDashboard {
+
+    static final List<Integer> WINDOW_SECONDS = List.of(60, 15 * 60, 60 * 60);
+
+    private final RollingSalesWindow window = new RollingSalesWindow(60 * 60);
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveSalesEvent(LiveSalesEvent event) {
+        long now = currentEpochSecond();
+        if (event.getType() == LiveSalesEvent.Type.ORDER_CREATED) {
+            window.recordOrderCreated(now, event.getAmount());
+            return;
+        }
+        window.recordPaymentCompleted(now, event.getAmount());
+    }
+
+    public LiveSalesResponse getLiveSales() {
+        long now = currentEpochSecond();
+        return LiveSalesResponse.builder()
+                .asOf(LocalDateTime.ofInstant(Instant.ofEpochSecond(now), ZoneId.systemDefault()))
+                .windows(WINDOW_SECONDS.stream()
+                        .map(windowSeconds -> window.sum(now, windowSeconds))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    // 최근 windowSeconds초 합계 (1 ~ 3600초, 범위를 벗어나면 IllegalArgumentException)
+    public LiveSalesWindowResponse getLiveSales(int windowSeconds) {
+        return window.sum(currentEpochSecond(), windowSeconds);
+    }
+
+    private long currentEpochSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+}
@@ -0,0 +1,51 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 주문이 생성되거나 결제완료되었을 때 발행하는 이벤트 (실시간 매출 대시보드용)
+@Getter
+public class LiveSalesEvent {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Type {
+
+        ORDER_CREATED("주문 생성"),
+        PAYMENT_COMPLETED("결제 완료");
+
+        private final String text;
+    }
+
+    private final Type type;
+    private final long amount;
+    // 상품번호 -> 주문 수량 (주문 생성 이벤트만, 인기 상품 집계용)
+    private final Map<String, Integer> productQuantities;
+
+    private LiveSalesEvent(Type type, long amount, Map<String, Integer> productQuantities) {
+        this.type = type;
+        this.amount = amount;
+        this.productQuantities = productQuantities;
+    }
+
+    // 주문 생성 시 만들어진 주문 상품들로 상품별 수량을 담는다.
+    public static LiveSalesEvent orderCreated(Order order) {
+        Map<String, Integer> productQuantities = order.getOrderProducts().stream()
+                .collect(Collectors.toMap(
+                        orderProduct -> orderProduct.getProduct().getProductNumber(),
+                        OrderProduct::getQuantity,
+                        Integer::sum
+                ));
+        return new LiveSalesEvent(Type.ORDER_CREATED, order.getTotalPrice(), productQuantities);
+    }
+
+    public static LiveSalesEvent paymentCompleted(long amount) {
+        return new LiveSalesEvent(Type.PAYMENT_COMPLETED, amount, Map.of());
+    }
+
+}
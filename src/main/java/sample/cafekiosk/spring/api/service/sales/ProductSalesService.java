@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+
+// 상품 x 시간대 매출 집계(product_hourly_sales) 조회 (주문, 주문 상품 테이블은 조회하지 않는다.)
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class ProductSalesService {
+
+    private final ProductHourlySalesRepository productHourlySalesRepository;
+
+    public ProductSalesResponse getProductSales(ProductSalesServiceRequest request) {
+        return ProductSalesResponse.of(request, productHourlySalesRepository.sumSalesByProduct(
+                request.getProductTypes(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getStartHour(),
+                request.getEndHour()
+        ));
+    }
+
+}
@@ -0,0 +1,111 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesWindowResponse;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최근 N초의 주문 수 / 매출을 초 단위 칸(bucket)에 담는 링 버퍼
+ * - 칸 위치 = epochSecond % N, 칸마다 자신이 담당하는 초를 들고 있다.
+ * - 기록: 현재 초의 칸을 찾아 LongAdder에 더하기만 한다. (락 없음, 스레드가 많아도 LongAdder가 내부에서 칸을 나눠 경합을 피한다.)
+ * - 한 바퀴 돌아서 칸의 초가 지난 초이면, 새 칸으로 CAS 교체한다. (교체는 칸마다 1초에 한 번)
+ * - 조회: 구간 안의 초를 담당하는 칸만 더한다. 기록 중인 값도 읽으므로 조회 순간의 근사치이다.
+ */
+class RollingSalesWindow {
+
+    private final int seconds;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    RollingSalesWindow(int seconds) {
+        this.seconds = seconds;
+        this.buckets = new AtomicReferenceArray<>(seconds);
+        for (int i = 0; i < seconds; i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE));
+        }
+    }
+
+    void recordOrderCreated(long epochSecond, long amount) {
+        Bucket bucket = bucketAt(epochSecond);
+        if (bucket != null) {
+            bucket.createdCount.increment();
+            bucket.createdAmount.add(amount);
+        }
+    }
+
+    void recordPaymentCompleted(long epochSecond, long amount) {
+        Bucket bucket = bucketAt(epochSecond);
+        if (bucket != null) {
+            bucket.paidCount.increment();
+            bucket.paidAmount.add(amount);
+        }
+    }
+
+    // (nowEpochSecond - windowSeconds, nowEpochSecond] 구간의 합계
+    LiveSalesWindowResponse sum(long nowEpochSecond, int windowSeconds) {
+        if (windowSeconds < 1) {
+            throw new IllegalArgumentException("조회 구간은 1초 이상이어야 합니다.");
+        }
+        if (windowSeconds > seconds) {
+            throw new IllegalArgumentException(String.format("조회 구간은 %d초를 넘을 수 없습니다.", seconds));
+        }
+
+        long createdCount = 0;
+        long createdAmount = 0;
+        long paidCount = 0;
+        long paidAmount = 0;
+        for (long second = nowEpochSecond - windowSeconds + 1; second <= nowEpochSecond; second++) {
+            Bucket bucket = buckets.get(indexOf(second));
+            if (bucket.epochSecond == second) {
+                createdCount += bucket.createdCount.sum();
+                createdAmount += bucket.createdAmount.sum();
+                paidCount += bucket.paidCount.sum();
+                paidAmount += bucket.paidAmount.sum();
+            }
+        }
+
+        return LiveSalesWindowResponse.builder()
+                .windowSeconds(windowSeconds)
+                .orderCount(createdCount)
+                .orderAmount(createdAmount)
+                .paidOrderCount(paidCount)
+                .revenue(paidAmount)
+                .build();
+    }
+
+    private Bucket bucketAt(long epochSecond) {
+        int index = indexOf(epochSecond);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket.epochSecond == epochSecond) {
+                return bucket;
+            }
+            // 이미 다음 바퀴의 초가 기록 중인 칸 -> 구간을 벗어난 오래된 기록이므로 버린다.
+            if (bucket.epochSecond > epochSecond) {
+                return null;
+            }
+            Bucket fresh = new Bucket(epochSecond);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int indexOf(long epochSecond) {
+        return (int) Math.floorMod(epochSecond, (long) seconds);
+    }
+
+    private static class Bucket {
+
+        private final long epochSecond;
+        private final LongAdder createdCount = new LongAdder();
+        private final LongAdder createdAmount = new LongAdder();
+        private final LongAdder paidCount = new LongAdder();
+        private final LongAdder paidAmount = new LongAdder();
+
+        private Bucket(long epochSecond) {
+            this.epochSecond = epochSecond;
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml의 cafekiosk.sales 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafekiosk.sales")
+public class SalesProperties {
+
+    private final Rebuild rebuild = new Rebuild();
+    private final Report report = new Report();
+    private final BestSeller bestSeller = new BestSeller();
+
+    @Getter
+    @Setter
+    public static class Rebuild {
+
+        // 매출 집계 재계산 시 동시에 처리하는 일자 수 (일자 하나 = 트랜잭션 하나)
+        private int parallelism = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class Report {
+
+        // 일자별 매출 리포트에서 동시에 집계하는 일자 수 (일자 하나 = 읽기 전용 트랜잭션 하나 = DB 커넥션 하나)
+        private int parallelism = 4;
+
+        // 한 번에 조회할 수 있는 최대 일수
+        private int maxDays = 366;
+    }
+
+    @Getter
+    @Setter
+    public static class BestSeller {
+
+        // 시간 / 일 구간마다 수량을 세는 상품 수 (카탈로그 크기와 상관없이 메모리 사용량이 이 값으로 고정된다.)
+        // 구간 주문 수량 합계 / capacity 가 인기 상품 수량의 최대 오차이다.
+        private int capacity = 200;
+    }
+
+}
@@ -0,0 +1,95 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderSalesAggregate;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 일자별 매출 리포트 (한 달, 분기 등 여러 일자)
+ * - 기간을 일자 단위로 나누고, 각 일자의 합계를 제한된 수의 스레드에서 동시에 집계한 뒤 일자 순서대로 합친다.
+ * - 일자 하나 = 읽기 전용 트랜잭션 하나 (일자마다 DB에서 합계만 계산하고 주문 row는 읽지 않는다.)
+ * - 스레드 수(cafekiosk.sales.report.parallelism)가 동시에 사용하는 DB 커넥션 수이므로 커넥션 풀보다 작게 잡는다.
+ */
+@Service
+public class SalesReportService {
+
+    private final OrderRepository orderRepository;
+    private final SalesProperties salesProperties;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private ExecutorService executorService;
+
+    public SalesReportService(OrderRepository orderRepository, SalesProperties salesProperties, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.salesProperties = salesProperties;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        executorService = Executors.newFixedThreadPool(salesProperties.getReport().getParallelism(),
+                new ThreadFactoryBuilder().setNameFormat("sales-report-%d").setDaemon(true).build());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executorService.shutdownNow();
+    }
+
+    // [startDate, endDate] 일자별 결제완료 매출과 기간 전체 합계 (주문이 없는 일자도 0으로 포함한다.)
+    public SalesStatisticsResponse getDailySalesReport(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        List<LocalDate> salesDates = startDate.datesUntil(endDate.plusDays(1)).collect(Collectors.toList());
+        if (salesDates.size() > salesProperties.getReport().getMaxDays()) {
+            throw new IllegalArgumentException(String.format("일자별 매출 리포트는 최대 %d일까지 조회할 수 있습니다.",
+                    salesProperties.getReport().getMaxDays()));
+        }
+
+        List<Future<OrderSalesAggregate>> futures = new ArrayList<>();
+        try {
+            for (LocalDate salesDate : salesDates) {
+                futures.add(executorService.submit(() -> sumSales(salesDate)));
+            }
+
+            List<OrderSalesAggregate> days = new ArrayList<>(salesDates.size());
+            for (Future<OrderSalesAggregate> future : futures) {
+                days.add(future.get());
+            }
+            return SalesStatisticsResponse.ofDays(startDate, endDate, days);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일자별 매출 리포트 집계가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일자별 매출 리포트 집계에 실패했습니다.", e.getCause());
+        } finally {
+            // 실패한 경우 아직 시작하지 않은 일자는 집계하지 않는다.
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private OrderSalesAggregate sumSales(LocalDate salesDate) {
+        OrderSalesAggregate sales = readOnlyTransactionTemplate.execute(status -> orderRepository.sumSales(
+                salesDate.atStartOfDay(), salesDate.plusDays(1).atStartOfDay(), OrderStatus.PAYMENT_COMPLETED));
+        return new OrderSalesAggregate(salesDate.toString(), sales.getOrderCount(), sales.getTotalAmount());
+    }
+
+}
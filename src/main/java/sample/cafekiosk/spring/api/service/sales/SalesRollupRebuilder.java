@@ -0,0 +1,116 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.HourlySalesAggregate;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySales;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductSalesAggregate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+// 주문 테이블에서 매출 집계를 다시 계산한다. (집계 도입 전 주문, 집계가 어긋난 경우 복구용)
+// 일자 단위로 나눠서 제한된 수의 스레드로 동시에 처리한다.
+@RequiredArgsConstructor
+@Component
+public class SalesRollupRebuilder {
+
+    private final OrderRepository orderRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final HourlySalesRepository hourlySalesRepository;
+    private final ProductHourlySalesRepository productHourlySalesRepository;
+    private final SalesProperties salesProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    // [startDate, endDate] 일자들을 재계산하고, 재계산한 일자 수를 반환한다.
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("재계산 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+
+        List<LocalDate> salesDates = startDate.datesUntil(endDate.plusDays(1)).collect(Collectors.toList());
+        ExecutorService executorService = Executors.newFixedThreadPool(
+                Math.min(salesProperties.getRebuild().getParallelism(), salesDates.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (LocalDate salesDate : salesDates) {
+                futures.add(executorService.submit(() -> rebuild(salesDate)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return salesDates.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("매출 집계 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("매출 집계 재계산에 실패했습니다.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void rebuild(LocalDate salesDate) {
+        LocalDateTime startDateTime = salesDate.atStartOfDay();
+        LocalDateTime endDateTime = salesDate.plusDays(1).atStartOfDay();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 1. 일자 집계 row부터 잠근다. (없으면 0으로 만든다.)
+            //    재계산 중에 결제완료된 주문은 이 lock을 기다렸다가 재계산 결과 위에 더해진다.
+            dailySalesRepository.lockDailySales(salesDate);
+
+            // 2. 주문 테이블에서 시간대별로 다시 집계해서 덮어쓴다.
+            List<HourlySalesAggregate> aggregates = orderRepository.sumSalesByHour(
+                    startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+
+            hourlySalesRepository.deleteAllBySalesDate(salesDate);
+            hourlySalesRepository.saveAll(aggregates.stream()
+                    .map(aggregate -> HourlySales.builder()
+                            .salesDate(salesDate)
+                            .salesHour(aggregate.getSalesHour())
+                            .orderCount(aggregate.getOrderCount())
+                            .totalAmount(aggregate.getTotalAmount())
+                            .build())
+                    .collect(Collectors.toList()));
+
+            // 3. 상품 x 시간대별 집계도 주문 상품 테이블에서 다시 집계해서 덮어쓴다.
+            List<ProductSalesAggregate> productAggregates = orderRepository.sumProductSalesByHour(
+                    startDateTime, endDateTime, OrderStatus.PAYMENT_COMPLETED);
+
+            productHourlySalesRepository.deleteAllBySalesDate(salesDate);
+            productHourlySalesRepository.saveAll(productAggregates.stream()
+                    .map(aggregate -> ProductHourlySales.builder()
+                            .salesDate(salesDate)
+                            .salesHour(aggregate.getSalesHour())
+                            .productNumber(aggregate.getProductNumber())
+                            .productType(aggregate.getProductType())
+                            .quantity(aggregate.getQuantity())
+                            .totalAmount(aggregate.getTotalAmount())
+                            .build())
+                    .collect(Collectors.toList()));
+
+            DailySales dailySales = dailySalesRepository.findById(salesDate)
+                    .orElseThrow(() -> new IllegalStateException("매출 집계 row가 없습니다."));
+            dailySales.overwrite(
+                    aggregates.stream().mapToLong(HourlySalesAggregate::getOrderCount).sum(),
+                    aggregates.stream().mapToLong(HourlySalesAggregate::getTotalAmount).sum()
+            );
+        });
+    }
+
+}
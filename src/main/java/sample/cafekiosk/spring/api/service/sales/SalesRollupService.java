@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductSalesLine;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 주문 상태 변경을 일자별 / 시간대별 / 상품 x 시간대별 매출 집계에 반영한다.
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class SalesRollupService {
+
+    private final DailySalesRepository dailySalesRepository;
+    private final ProductHourlySalesRepository productHourlySalesRepository;
+
+    // 주문 상태를 바꾼 트랜잭션 안에서 호출한다. -> 상태 변경과 집계 갱신이 함께 커밋되거나 함께 롤백된다.
+    public void onOrderStatusChanged(Order order, OrderStatus previousStatus) {
+        boolean wasPaymentCompleted = previousStatus == OrderStatus.PAYMENT_COMPLETED;
+        boolean isPaymentCompleted = order.getOrderStatus() == OrderStatus.PAYMENT_COMPLETED;
+        if (wasPaymentCompleted == isPaymentCompleted) {
+            return;
+        }
+
+        // 결제완료가 되면 더하고, 결제완료에서 벗어나면(환불 등) 뺀다.
+        int sign = isPaymentCompleted ? 1 : -1;
+        dailySalesRepository.addSales(order.getRegisteredDateTime(), sign, (long) sign * order.getTotalPrice());
+        productHourlySalesRepository.addSales(order.getRegisteredDateTime(), createProductSalesLines(order, sign));
+    }
+
+    // 주문 상품(같은 상품은 한 줄로 합쳐져 있다.)마다 수량과 주문 시점 금액
+    private List<ProductSalesLine> createProductSalesLines(Order order, int sign) {
+        return order.getOrderProducts().stream()
+                .map(orderProduct -> new ProductSalesLine(
+                        orderProduct.getProduct().getProductNumber(),
+                        orderProduct.getProduct().getType(),
+                        (long) sign * orderProduct.getQuantity(),
+                        (long) sign * orderProduct.calculateLinePrice()
+                ))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 많이 팔린 상품을 고정된 개수(capacity)의 카운터로 추정하는 Space-Saving 알고리즘
+ * - 이미 세고 있는 상품이면 카운터에 더한다.
+ * - 새 상품이 들어왔는데 카운터가 모두 차 있으면, 가장 작은 카운터를 새 상품에 넘겨주고(min + 수량) 그 min을 오차로 기록한다.
+ * - 추정 수량은 실제 수량보다 작지 않고, (추정 수량 - 오차)는 실제 수량보다 크지 않다.
+ * - 실제 수량이 (전체 수량 / capacity) 보다 큰 상품은 반드시 카운터에 남아 있다.
+ */
+class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private long totalCount;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    // 주문 한 건의 상품 수량이 한 번에 들어오므로, 카운터가 capacity 이하로 작아서 min 탐색도 선형으로 충분하다.
+    synchronized void add(String item, long count) {
+        totalCount += count;
+
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += count;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new Counter(item, count, 0));
+            return;
+        }
+
+        Counter min = counters.values().stream()
+                .min(Comparator.comparingLong(Counter::getCount))
+                .orElseThrow();
+        counters.remove(min.item);
+        counters.put(item, new Counter(item, min.count + count, min.count));
+    }
+
+    // 추정 수량이 많은 순서로 limit개
+    synchronized List<Counter> top(int limit) {
+        return counters.values().stream()
+                .sorted(Comparator.comparingLong(Counter::getCount).reversed()
+                        .thenComparing(Counter::getItem))
+                .limit(limit)
+                .map(Counter::copy)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    @Getter
+    static class Counter {
+
+        private final String item;
+        private long count;
+        private final long error;
+
+        private Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        private Counter copy() {
+            return new Counter(item, count, error);
+        }
+    }
+
+}
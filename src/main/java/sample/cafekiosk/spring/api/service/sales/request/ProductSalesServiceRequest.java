@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.sales.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+public class ProductSalesServiceRequest {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<ProductType> productTypes;
+    private final int startHour;
+    private final int endHour;
+
+    // 조회 기간은 시작일, 종료일을 모두 포함하고, 시간대는 [startHour, endHour) 이다. 상품 타입 조건이 없으면 모든 타입을 조회한다.
+    @Builder
+    private ProductSalesServiceRequest(LocalDate startDate, LocalDate endDate, List<ProductType> productTypes, int startHour, int endHour) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (startHour < 0 || endHour > 24 || startHour >= endHour) {
+            throw new IllegalArgumentException("조회 시간대는 0시 이상 24시 이하이고, 시작 시각이 종료 시각보다 빨라야 합니다.");
+        }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.productTypes = productTypes == null || productTypes.isEmpty() ? List.of(ProductType.values()) : productTypes;
+        this.startHour = startHour;
+        this.endHour = endHour;
+    }
+}
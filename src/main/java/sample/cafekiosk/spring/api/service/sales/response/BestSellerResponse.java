@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 인기 상품 한 건 (quantity는 추정 수량, 실제 수량은 quantity - maxOverestimate 이상 quantity 이하)
+@Getter
+public class BestSellerResponse {
+
+    private final int rank;
+    private final String productNumber;
+    private final String name;
+    private final long quantity;
+    private final long maxOverestimate;
+
+    @Builder
+    private BestSellerResponse(int rank, String productNumber, String name, long quantity, long maxOverestimate) {
+        this.rank = rank;
+        this.productNumber = productNumber;
+        this.name = name;
+        this.quantity = quantity;
+        this.maxOverestimate = maxOverestimate;
+    }
+}
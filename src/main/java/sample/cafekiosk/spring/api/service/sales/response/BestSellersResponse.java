@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.sales.BestSellerWindow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 구간(이번 시간 / 오늘)의 인기 상품 목록
+@Getter
+public class BestSellersResponse {
+
+    private final BestSellerWindow window;
+    private final LocalDateTime windowStart;
+    private final List<BestSellerResponse> products;
+
+    @Builder
+    private BestSellersResponse(BestSellerWindow window, LocalDateTime windowStart, List<BestSellerResponse> products) {
+        this.window = window;
+        this.windowStart = windowStart;
+        this.products = products;
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 실시간 매출 대시보드 (최근 1분 / 15분 / 1시간)
+@Getter
+public class LiveSalesResponse {
+
+    private final LocalDateTime asOf;
+    private final List<LiveSalesWindowResponse> windows;
+
+    @Builder
+    private LiveSalesResponse(LocalDateTime asOf, List<LiveSalesWindowResponse> windows) {
+        this.asOf = asOf;
+        this.windows = windows;
+    }
+}
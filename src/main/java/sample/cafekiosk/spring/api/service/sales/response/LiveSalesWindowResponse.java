@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 최근 windowSeconds초 동안 생성된 주문 수 / 금액과 결제완료 주문 수 / 매출
+@Getter
+public class LiveSalesWindowResponse {
+
+    private final int windowSeconds;
+    private final long orderCount;
+    private final long orderAmount;
+    private final long paidOrderCount;
+    private final long revenue;
+
+    @Builder
+    private LiveSalesWindowResponse(int windowSeconds, long orderCount, long orderAmount, long paidOrderCount, long revenue) {
+        this.windowSeconds = windowSeconds;
+        this.orderCount = orderCount;
+        this.orderAmount = orderAmount;
+        this.paidOrderCount = paidOrderCount;
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.ProductSalesAggregate;
+
+@Getter
+public class ProductSalesBreakdownResponse {
+
+    private final String productNumber;
+    private final ProductType productType;
+    private final long quantity;
+    private final long totalAmount;
+
+    @Builder
+    private ProductSalesBreakdownResponse(String productNumber, ProductType productType, long quantity, long totalAmount) {
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+    }
+
+    public static ProductSalesBreakdownResponse of(ProductSalesAggregate aggregate) {
+        return ProductSalesBreakdownResponse.builder()
+                .productNumber(aggregate.getProductNumber())
+                .productType(aggregate.getProductType())
+                .quantity(aggregate.getQuantity())
+                .totalAmount(aggregate.getTotalAmount())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package sample.cafekiosk.spring.api.service.sales.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.ProductSalesAggregate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 기간 / 시간대 / 상품 타입 조건의 상품별 판매 수량과 매출 (합계 + 매출이 큰 순서의 상품별 내역)
+@Getter
+public class ProductSalesResponse {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final List<ProductType> productTypes;
+    private final int startHour;
+    private final int endHour;
+    private final long quantity;
+    private final long totalAmount;
+    private final List<ProductSalesBreakdownResponse> products;
+
+    @Builder
+    private ProductSalesResponse(LocalDate startDate, LocalDate endDate, List<ProductType> productTypes, int startHour, int endHour,
+                                 long quantity, long totalAmount, List<ProductSalesBreakdownResponse> products) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.productTypes = productTypes;
+        this.startHour = startHour;
+        this.endHour = endHour;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+        this.products = products;
+    }
+
+    public static ProductSalesResponse of(ProductSalesServiceRequest request, List<ProductSalesAggregate> aggregates) {
+        return ProductSalesResponse.builder()
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .productTypes(request.getProductTypes())
+                .startHour(request.getStartHour())
+                .endHour(request.getEndHour())
+                .quantity(aggregates.stream().mapToLong(ProductSalesAggregate::getQuantity).sum())
+                .totalAmount(aggregates.stream().mapToLong(ProductSalesAggregate::getTotalAmount).sum())
+                .products(aggregates.stream()
+                        .map(ProductSalesBreakdownResponse::of)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockDeductionMode {
+
+    ENTITY("재고 엔티티 변경 감지"),
+    LEDGER("인메모리 재고 장부"),
+    CONDITIONAL_UPDATE("조건부 UPDATE 일괄 차감"),
+    PESSIMISTIC_LOCK("비관적 락 (SELECT ... FOR UPDATE)"),
+    RESERVATION("결제 전 재고 예약 (결제 완료 시 차감)");
+
+    private final String text;
+
+}
@@ -0,0 +1,133 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 재고 장부
+ * - 상품별 현재고를 AtomicInteger로 들고 있고, compare-and-set으로 재고를 확인/차감한다.
+ * - 인기 상품의 경합을 줄이기 위해 상품 재고를 N개의 칸으로 나눌 수 있다. (cafekiosk.stock.ledger.stripes, StripedStockCounter 참고)
+ * - 장부에 한 번 올라온 상품은 장부가 재고의 기준(source of truth)이 되며, DB의 stock 테이블은 뒤따라 갱신된다.
+ * - 차감 내역은 트랜잭션 커밋 후 pendingDeductions에 쌓이고, StockLedgerFlusher가 주기적으로 모아서 DB에 반영한다.
+ *
+ * ++ 장부 모드에서는 재고 입고/수정도 장부를 거쳐야 하며, DB를 직접 수정하면 장부와 어긋나게 된다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockLedger {
+
+    private final StockRepository stockRepository;
+    private final StockProperties stockProperties;
+
+    // 상품번호별 현재고 + DB에 아직 반영되지 않은 차감 수량
+    private final ConcurrentMap<String, StripedStockCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 상품별 수량만큼 재고를 차감한다.
+     * 하나라도 재고가 부족하면 이미 차감한 수량을 되돌리고 예외를 던진다. (all-or-nothing)
+     */
+    public void deduct(Map<String, Long> productCountingMap) {
+        loadIfAbsent(productCountingMap.keySet());
+
+        Map<String, Integer> deducted = new HashMap<>();
+        for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+            String productNumber = entry.getKey();
+            int quantity = entry.getValue().intValue();
+
+            if (!tryDeduct(productNumber, quantity)) {
+                deducted.forEach(this::restore);
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+            deducted.put(productNumber, quantity);
+        }
+
+        registerAfterCompletion(deducted);
+    }
+
+    // 장부 기준 현재고 (장부에 없는 상품이면 null)
+    public Integer getQuantity(String productNumber) {
+        StripedStockCounter counter = counters.get(productNumber);
+        return counter == null ? null : counter.getQuantity();
+    }
+
+    // DB에 반영할 차감 수량을 꺼내고 비운다.
+    public Map<String, Integer> drainPendingDeductions() {
+        Map<String, Integer> drained = new HashMap<>();
+        counters.forEach((productNumber, counter) -> {
+            int quantity = counter.drainPendingDeductions();
+            if (quantity > 0) {
+                drained.put(productNumber, quantity);
+            }
+        });
+        return drained;
+    }
+
+    // DB 반영에 실패한 차감 수량을 다시 쌓아둔다.
+    public void requeue(Map<String, Integer> deductions) {
+        deductions.forEach(this::addPendingDeduction);
+    }
+
+    private boolean tryDeduct(String productNumber, int quantity) {
+        StripedStockCounter counter = counters.get(productNumber);
+        if (counter == null) { // 재고가 등록되지 않은 상품
+            return false;
+        }
+        return counter.tryDeduct(quantity);
+    }
+
+    private void restore(String productNumber, int quantity) {
+        counters.get(productNumber).restore(quantity);
+    }
+
+    private void addPendingDeduction(String productNumber, int quantity) {
+        counters.get(productNumber).addPendingDeduction(quantity);
+    }
+
+    // 장부에 없는 상품만 DB에서 한 번에 조회해서 올린다.
+    private void loadIfAbsent(Set<String> productNumbers) {
+        List<String> absentProductNumbers = productNumbers.stream()
+                .filter(productNumber -> !counters.containsKey(productNumber))
+                .collect(Collectors.toList());
+        if (absentProductNumbers.isEmpty()) {
+            return;
+        }
+
+        int stripes = stockProperties.getLedger().getStripes();
+        List<Stock> stocks = stockRepository.findAllByProductNumberIn(absentProductNumbers);
+        for (Stock stock : stocks) {
+            counters.putIfAbsent(stock.getProductNumber(), new StripedStockCounter(stock.getAvailableQuantity(), stripes));
+        }
+    }
+
+    // 주문 트랜잭션이 커밋되면 DB 반영 대기열에 넣고, 롤백되면 장부의 재고를 되돌린다.
+    private void registerAfterCompletion(Map<String, Integer> deducted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deducted.forEach(this::addPendingDeduction);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deducted.forEach(StockLedger.this::restore);
+                    return;
+                }
+                deducted.forEach(StockLedger.this::addPendingDeduction);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+
+// 재고 장부에 쌓인 차감 수량을 주기적으로 모아서 stock 테이블에 반영한다. (write-behind)
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cafekiosk.stock", name = "mode", havingValue = "ledger")
+@Component
+public class StockLedgerFlusher {
+
+    private final StockLedger stockLedger;
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.ledger.flush-interval-millis:200}")
+    public void flush() {
+        Map<String, Integer> deductions = stockLedger.drainPendingDeductions();
+        if (deductions.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 상품당 UPDATE 1번, 한 트랜잭션으로 반영
+            transactionTemplate.executeWithoutResult(status ->
+                    deductions.forEach(stockRepository::deductQuantity)
+            );
+        } catch (RuntimeException e) {
+            log.warn("재고 장부 DB 반영 실패, 다음 주기에 재시도합니다. {}", deductions, e);
+            stockLedger.requeue(deductions);
+        }
+    }
+
+    // 애플리케이션 종료 전 남은 차감 수량을 반영한다.
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+// 재고 row lock 대기 시간 초과 -> 잠시 후 다시 시도하면 성공할 수 있는 오류
+public class StockLockTimeoutException extends RuntimeException {
+
+    public StockLockTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
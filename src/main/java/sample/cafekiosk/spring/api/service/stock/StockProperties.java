@@ -0,0 +1,62 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml의 cafekiosk.stock 설정값
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cafekiosk.stock")
+public class StockProperties {
+
+    // 재고 차감 방식 (기본값: 기존과 동일한 엔티티 변경 감지 방식)
+    private StockDeductionMode mode = StockDeductionMode.ENTITY;
+
+    private final Ledger ledger = new Ledger();
+
+    private final Retry retry = new Retry();
+
+    private final Lock lock = new Lock();
+
+    private final Reservation reservation = new Reservation();
+
+    @Getter
+    @Setter
+    public static class Ledger {
+
+        // 재고 장부에 쌓인 차감 수량을 DB에 반영하는 주기 (ms)
+        private long flushIntervalMillis = 200;
+
+        // 상품 재고를 나눠 담을 칸 수 (1이면 상품당 카운터 하나, 인기 상품 경합이 심하면 늘린다.)
+        private int stripes = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        // 재고 엔티티 버전 충돌(낙관적 락) 시 주문 생성 최대 시도 횟수
+        private int maxAttempts = 3;
+
+        // 재시도 간격 (ms), 시도 횟수만큼 늘어난다.
+        private long backoffMillis = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class Lock {
+
+        // 비관적 락 모드에서 재고 row lock을 기다리는 최대 시간 (ms)
+        private int timeoutMillis = 3000;
+    }
+
+    @Getter
+    @Setter
+    public static class Reservation {
+
+        // 재고 예약 모드에서 결제를 기다리는 최대 시간 (ms), 지나면 주문이 취소되고 예약이 풀린다.
+        private long ttlMillis = 300_000;
+    }
+
+}
@@ -0,0 +1,63 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 예약 만료 타이머
+ * - 주문별 만료 시각을 DelayQueue에 넣어두고, 만료 시각이 된 주문만 꺼낸다.
+ * - 예약 테이블을 주기적으로 스캔하지 않으므로, 예약이 많아도 만료 처리 비용은 만료된 건수에만 비례한다.
+ * ++ 큐는 메모리에만 있으므로, 서버 재시작 시에는 StockReservationExpiryWorker가 남아 있는 예약을 한 번 읽어서 다시 채운다.
+ */
+@Component
+public class StockReservationExpiryQueue {
+
+    private final DelayQueue<ReservationExpiry> queue = new DelayQueue<>();
+
+    public void schedule(Long orderId, LocalDateTime expiresAt) {
+        long delayNanos = Duration.between(LocalDateTime.now(), expiresAt).toNanos();
+        queue.put(new ReservationExpiry(orderId, System.nanoTime() + delayNanos));
+    }
+
+    // 만료 시각이 된 주문번호를 꺼낸다. (없으면 만료될 때까지 대기)
+    public Long take() throws InterruptedException {
+        return queue.take().orderId;
+    }
+
+    // 만료 시각이 된 주문번호를 꺼낸다. (timeout 동안 없으면 null)
+    public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+        ReservationExpiry expiry = queue.poll(timeout, unit);
+        return expiry == null ? null : expiry.orderId;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private static class ReservationExpiry implements Delayed {
+
+        private final Long orderId;
+        private final long expiresAtNanos;
+
+        private ReservationExpiry(Long orderId, long expiresAtNanos) {
+            this.orderId = orderId;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtNanos, ((ReservationExpiry) other).expiresAtNanos);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 만료 시각이 된 재고 예약을 꺼내서 주문을 취소하고 예약을 해제하는 스레드
+ * - 이미 결제 완료/취소된 주문은 건너뛴다. (OrderService.expireOrder)
+ * - 결제 완료와 동시에 처리되어 충돌 등으로 실패하면 잠시 뒤 다시 시도한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservationExpiryWorker {
+
+    private static final long RETRY_DELAY_MILLIS = 1_000;
+
+    private final StockReservationExpiryQueue stockReservationExpiryQueue;
+    private final StockReservationRepository stockReservationRepository;
+    private final OrderService orderService;
+
+    private Thread worker;
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::expireLoop, "stock-reservation-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    // 서버 재시작으로 비어 있는 만료 타이머를 아직 예약중인 주문들로 다시 채운다. (기동 시 한 번)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        Map<Long, LocalDateTime> expirations = stockReservationRepository.findAllByStatus(StockReservationStatus.RESERVED).stream()
+                .collect(Collectors.toMap(StockReservation::getOrderId, StockReservation::getExpiresAt,
+                        BinaryOperator.minBy(LocalDateTime::compareTo)));
+        expirations.forEach(stockReservationExpiryQueue::schedule);
+    }
+
+    private void expireLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Long orderId;
+            try {
+                orderId = stockReservationExpiryQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                orderService.expireOrder(orderId);
+            } catch (RuntimeException e) {
+                log.warn("재고 예약 만료 처리 실패, 잠시 후 다시 시도합니다. (주문 ID: {})", orderId, e);
+                stockReservationExpiryQueue.schedule(orderId, LocalDateTime.now().plus(Duration.ofMillis(RETRY_DELAY_MILLIS)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservation;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 전 재고 예약 (재고 차감 방식: RESERVATION)
+ * - 주문 생성 시에는 재고를 차감하지 않고 예약(hold)만 걸어서 다른 주문이 팔 수 없게 한다.
+ * - 결제 완료 시 예약을 실제 차감으로 확정하고, 주문 취소/결제 실패/예약 만료 시 예약을 풀어서 다시 판매 가능한 재고로 돌린다.
+ * - 만료 처리는 StockReservationExpiryQueue(DelayQueue)에서 만료 시각이 된 주문만 꺼내서 처리한다.
+ */
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class StockReservationService {
+
+    private final StockRepository stockRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockReservationExpiryQueue stockReservationExpiryQueue;
+    private final StockProperties stockProperties;
+
+    /**
+     * 상품별 수량만큼 재고를 예약한다.
+     * 모든 상품의 판매 가능 재고를 먼저 확인한 뒤 예약하므로, 하나라도 부족하면 어떤 재고도 바뀌지 않는다.
+     * ++ 재고 부족(IllegalArgumentException)은 호출한 쪽 트랜잭션을 rollback-only로 만들지 않는다.
+     *    일괄 주문(createOrders)은 한 트랜잭션에서 실패한 주문만 건너뛰고 나머지 주문을 커밋한다.
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public void hold(Map<String, Stock> stockMap, Map<String, Long> productCountingMap) {
+        for (Map.Entry<String, Long> entry : productCountingMap.entrySet()) {
+            Stock stock = stockMap.get(entry.getKey());
+            if (stock == null || stock.isQuantityLessThan(entry.getValue().intValue())) {
+                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+            }
+        }
+        productCountingMap.forEach((productNumber, quantity) ->
+                stockMap.get(productNumber).reserve(quantity.intValue())
+        );
+    }
+
+    // hold로 잡아둔 재고를 주문에 연결하고, 트랜잭션 커밋 후 만료 타이머에 등록한다.
+    public void createReservations(Long orderId, Map<String, Long> productCountingMap, LocalDateTime reservedDateTime) {
+        if (productCountingMap.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime expiresAt = reservedDateTime.plus(Duration.ofMillis(stockProperties.getReservation().getTtlMillis()));
+        stockReservationRepository.saveAll(productCountingMap.entrySet().stream()
+                .map(entry -> StockReservation.create(orderId, entry.getKey(), entry.getValue().intValue(), expiresAt))
+                .collect(Collectors.toList()));
+
+        scheduleExpiryAfterCommit(orderId, expiresAt);
+    }
+
+    // 결제 완료: 예약 -> 차감 확정
+    public void confirm(Long orderId) {
+        applyToReservations(orderId, (stock, reservation) -> {
+            stock.confirmReservation(reservation.getQuantity());
+            reservation.confirm();
+        });
+    }
+
+    // 주문 취소 / 결제 실패: 예약 해제
+    public void release(Long orderId) {
+        applyToReservations(orderId, (stock, reservation) -> {
+            stock.releaseReservation(reservation.getQuantity());
+            reservation.release();
+        });
+    }
+
+    // 결제 대기 시간 초과: 예약 해제
+    public void expire(Long orderId) {
+        applyToReservations(orderId, (stock, reservation) -> {
+            stock.releaseReservation(reservation.getQuantity());
+            reservation.expire();
+        });
+    }
+
+    private void applyToReservations(Long orderId, ReservationAction action) {
+        List<StockReservation> reservations = stockReservationRepository.findAllByOrderIdAndStatus(orderId, StockReservationStatus.RESERVED);
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        List<String> productNumbers = reservations.stream()
+                .map(StockReservation::getProductNumber)
+                .collect(Collectors.toList());
+        Map<String, Stock> stockMap = stockRepository.findAllByProductNumberIn(productNumbers).stream()
+                .collect(Collectors.toMap(Stock::getProductNumber, s -> s));
+
+        reservations.forEach(reservation -> action.apply(stockMap.get(reservation.getProductNumber()), reservation));
+    }
+
+    private void scheduleExpiryAfterCommit(Long orderId, LocalDateTime expiresAt) {
+        Consumer<Long> schedule = id -> stockReservationExpiryQueue.schedule(id, expiresAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            schedule.accept(orderId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                schedule.accept(orderId);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ReservationAction {
+        void apply(Stock stock, StockReservation reservation);
+    }
+
+}
@@ -0,0 +1,120 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 상품의 재고를 N개의 칸(stripe)으로 나눠 들고 있는 카운터
+ * - 인기 상품 하나에 주문이 몰려도 스레드마다 다른 칸을 CAS 하므로 한 AtomicInteger에 경합이 집중되지 않는다.
+ * - 고른 칸의 재고가 부족하면 다른 칸에서 나머지를 모은다. 칸 하나가 비어도 전체 재고가 있으면 주문은 성공한다.
+ * - 여러 칸에서 모으는 경로는 lock으로 한 번에 하나씩만 실행한다. 부분 차감끼리 서로의 재고를 잡고 있다가 함께 실패하는 일이 없다.
+ *   -> 전체 재고(모든 칸의 합) 기준으로 판매 가능 여부가 정확하게 유지된다.
+ */
+class StripedStockCounter {
+
+    private final AtomicInteger[] quantities;
+    // 칸별 DB에 아직 반영되지 않은 차감 수량
+    private final AtomicInteger[] pendingDeductions;
+
+    StripedStockCounter(int quantity, int stripes) {
+        this.quantities = new AtomicInteger[stripes];
+        this.pendingDeductions = new AtomicInteger[stripes];
+        for (int i = 0; i < stripes; i++) {
+            // 재고를 칸마다 고르게 나누고, 나머지는 앞 칸부터 1개씩 더 준다.
+            int share = quantity / stripes + (i < quantity % stripes ? 1 : 0);
+            quantities[i] = new AtomicInteger(share);
+            pendingDeductions[i] = new AtomicInteger();
+        }
+    }
+
+    boolean tryDeduct(int quantity) {
+        // 1. 현재 스레드의 칸에서 한 번에 차감
+        int home = homeStripe();
+        if (tryDeductFrom(quantities[home], quantity)) {
+            return true;
+        }
+        if (quantities.length == 1) {
+            return false;
+        }
+
+        // 2. 다른 칸에서 모아서 차감
+        return tryDeductAcrossStripes(home, quantity);
+    }
+
+    // 차감을 되돌린다. (주문 트랜잭션 롤백)
+    void restore(int quantity) {
+        quantities[homeStripe()].addAndGet(quantity);
+    }
+
+    // 모든 칸의 합 = 현재고
+    int getQuantity() {
+        int sum = 0;
+        for (AtomicInteger quantity : quantities) {
+            sum += quantity.get();
+        }
+        return sum;
+    }
+
+    void addPendingDeduction(int quantity) {
+        pendingDeductions[homeStripe()].addAndGet(quantity);
+    }
+
+    int drainPendingDeductions() {
+        int sum = 0;
+        for (AtomicInteger pending : pendingDeductions) {
+            sum += pending.getAndSet(0);
+        }
+        return sum;
+    }
+
+    private synchronized boolean tryDeductAcrossStripes(int home, int quantity) {
+        int[] taken = new int[quantities.length];
+        int remaining = quantity;
+        for (int i = 0; i < quantities.length && remaining > 0; i++) {
+            int stripe = (home + i) % quantities.length;
+            taken[stripe] = takeUpTo(quantities[stripe], remaining);
+            remaining -= taken[stripe];
+        }
+        if (remaining == 0) {
+            return true;
+        }
+
+        // 전체 재고가 부족하면 모아둔 수량을 원래 칸에 돌려준다.
+        for (int i = 0; i < quantities.length; i++) {
+            if (taken[i] > 0) {
+                quantities[i].addAndGet(taken[i]);
+            }
+        }
+        return false;
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().getId() % quantities.length);
+    }
+
+    private static boolean tryDeductFrom(AtomicInteger counter, int quantity) {
+        while (true) {
+            int current = counter.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    // 칸에 남은 만큼(최대 quantity) 차감하고 실제로 차감한 수량을 돌려준다.
+    private static int takeUpTo(AtomicInteger counter, int quantity) {
+        while (true) {
+            int current = counter.get();
+            int taken = Math.min(current, quantity);
+            if (taken <= 0) {
+                return 0;
+            }
+            if (counter.compareAndSet(current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+
+}
@@ -7,17 +7,28 @@ import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.domain.BaseEntity;
 
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
 
+// 메일 전송 이력 겸 outbox (PENDING -> SENDING -> SENT / 실패 시 PENDING으로 재시도, 최대 횟수를 넘기면 FAILED)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_mail_send_history_status_next_attempt", columnList = "status, nextAttemptDateTime")
+})
 @Entity
 public class MailSendHistory extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_send_history_seq_generator")
+    @SequenceGenerator(name = "mail_send_history_seq_generator", sequenceName = "mail_send_history_seq", allocationSize = 50)
     private Long id;
 
     private String fromEmail;
@@ -25,12 +36,41 @@ public class MailSendHistory extends BaseEntity {
     private String subject;
     private String content;
 
+    @Enumerated(EnumType.STRING)
+    private MailSendStatus status;
+
+    // 전송을 시도한 횟수 (dispatcher가 선점할 때마다 1 증가)
+    private int attemptCount;
+
+    // 이 시각 이후에 전송(재시도)한다. SENDING 상태에서는 선점이 풀리는 시각이다.
+    private LocalDateTime nextAttemptDateTime;
+
+    private LocalDateTime sentDateTime;
+
+    private String lastError;
+
     @Builder
-    public MailSendHistory(String fromEmail, String toEmail, String subject, String content) {
+    public MailSendHistory(String fromEmail, String toEmail, String subject, String content,
+                           MailSendStatus status, LocalDateTime nextAttemptDateTime, LocalDateTime sentDateTime) {
         this.fromEmail = fromEmail;
         this.toEmail = toEmail;
         this.subject = subject;
         this.content = content;
+        this.status = status == null ? MailSendStatus.SENT : status; // 상태 없이 만든 이력은 동기로 전송이 끝난 메일이다.
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.sentDateTime = sentDateTime;
+    }
+
+    // 업무 트랜잭션 안에서 저장하고, 커밋된 뒤 MailOutboxDispatcher가 전송한다.
+    public static MailSendHistory pending(String fromEmail, String toEmail, String subject, String content, LocalDateTime now) {
+        return MailSendHistory.builder()
+                .fromEmail(fromEmail)
+                .toEmail(toEmail)
+                .subject(subject)
+                .content(content)
+                .status(MailSendStatus.PENDING)
+                .nextAttemptDateTime(now)
+                .build();
     }
 
 }
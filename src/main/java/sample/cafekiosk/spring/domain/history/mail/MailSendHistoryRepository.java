@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MailSendHistoryRepository extends JpaRepository<MailSendHistory, Long> {
+public interface MailSendHistoryRepository extends JpaRepository<MailSendHistory, Long>, MailSendHistoryRepositoryCustom {
 }
@@ -0,0 +1,29 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailSendHistoryRepositoryCustom {
+
+    /**
+     * 전송할 메일을 최대 batchSize 건 선점하고, 선점에 성공한 id만 반환한다.
+     * select id from mail_send_history where status in ('PENDING', 'SENDING') and next_attempt_date_time <= ? order by next_attempt_date_time limit ?;
+     * update mail_send_history set status = 'SENDING', attempt_count = attempt_count + 1, next_attempt_date_time = ?(leaseUntil)
+     * where id = ? and status in ('PENDING', 'SENDING') and next_attempt_date_time <= ?; (id마다 batch)
+     *
+     * ++ 다른 dispatcher가 먼저 선점한 row는 update 결과가 0건이므로 건너뛴다.
+     *    다른 dispatcher의 선점 트랜잭션이 아직 커밋되지 않았다면 그 row lock은 기다린다. (선점 트랜잭션은 UPDATE만 하고 바로 커밋하므로 짧다.
+     *    메일 전송은 선점 트랜잭션 밖에서 한다.) 커밋된 뒤 조건을 다시 확인해서 0건이 된다.
+     *    선점한 dispatcher가 leaseUntil까지 결과를 남기지 못하면(중단 등) 다시 선점 대상이 된다.
+     */
+    List<Long> claimForDispatch(LocalDateTime now, LocalDateTime leaseUntil, int batchSize);
+
+    /**
+     * 전송 결과를 남기고, 반영된 id만 반환한다.
+     * update mail_send_history set status = ?, next_attempt_date_time = ?, sent_date_time = ?, last_error = ?
+     * where id = ? and status = 'SENDING' and attempt_count = ?(선점할 때의 시도 횟수); (id마다 batch)
+     *
+     * ++ 전송이 leaseUntil보다 오래 걸려서 다른 dispatcher가 다시 선점했다면(attempt_count가 바뀜) 그 결과를 덮어쓰지 않도록 0건으로 무시된다.
+     */
+    List<Long> recordResults(List<MailSendResult> results);
+}
@@ -0,0 +1,74 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// MailSendHistoryRepositoryCustom 구현체
+@RequiredArgsConstructor
+public class MailSendHistoryRepositoryImpl implements MailSendHistoryRepositoryCustom {
+
+    private static final String FIND_DISPATCHABLE_IDS_SQL = "select id from mail_send_history" +
+            " where status in ('PENDING', 'SENDING') and next_attempt_date_time <= ?" +
+            " order by next_attempt_date_time, id limit ?";
+
+    private static final String CLAIM_SQL = "update mail_send_history" +
+            " set status = 'SENDING', attempt_count = attempt_count + 1, next_attempt_date_time = ?, modified_date_time = ?" +
+            " where id = ? and status in ('PENDING', 'SENDING') and next_attempt_date_time <= ?";
+
+    private static final String RECORD_RESULT_SQL = "update mail_send_history" +
+            " set status = ?, next_attempt_date_time = ?, sent_date_time = ?, last_error = ?, modified_date_time = ?" +
+            " where id = ? and status = 'SENDING' and attempt_count = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> claimForDispatch(LocalDateTime now, LocalDateTime leaseUntil, int batchSize) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        List<Long> candidateIds = jdbcTemplate.queryForList(FIND_DISPATCHABLE_IDS_SQL, Long.class, nowTimestamp, batchSize);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp leaseUntilTimestamp = Timestamp.valueOf(leaseUntil);
+        int[] results = jdbcTemplate.batchUpdate(CLAIM_SQL, candidateIds.stream()
+                .map(id -> new Object[]{leaseUntilTimestamp, nowTimestamp, id, nowTimestamp})
+                .collect(Collectors.toList()));
+
+        return updatedIds(candidateIds, results);
+    }
+
+    @Override
+    public List<Long> recordResults(List<MailSendResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = jdbcTemplate.batchUpdate(RECORD_RESULT_SQL, results.stream()
+                .map(result -> new Object[]{result.getStatus().name(), toTimestamp(result.getNextAttemptDateTime()),
+                        toTimestamp(result.getSentDateTime()), result.getLastError(), now, result.getId(), result.getAttemptCount()})
+                .collect(Collectors.toList()));
+        return updatedIds(results.stream().map(MailSendResult::getId).collect(Collectors.toList()), updated);
+    }
+
+    private List<Long> updatedIds(List<Long> ids, int[] updated) {
+        List<Long> updatedIds = new ArrayList<>(ids.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                updatedIds.add(ids.get(i));
+            }
+        }
+        return updatedIds;
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+}
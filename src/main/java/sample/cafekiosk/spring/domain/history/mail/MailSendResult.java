@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 선점한 메일 한 건의 전송 결과 (MailSendHistoryRepository.recordResults로 선점한 시도에만 반영한다.)
+@Getter
+public class MailSendResult {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final Long id;
+    private final int attemptCount; // 선점할 때의 시도 횟수
+    private final MailSendStatus status;
+    private final LocalDateTime nextAttemptDateTime;
+    private final LocalDateTime sentDateTime;
+    private final String lastError;
+
+    private MailSendResult(Long id, int attemptCount, MailSendStatus status, LocalDateTime nextAttemptDateTime,
+                           LocalDateTime sentDateTime, String lastError) {
+        this.id = id;
+        this.attemptCount = attemptCount;
+        this.status = status;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.sentDateTime = sentDateTime;
+        this.lastError = lastError;
+    }
+
+    public static MailSendResult sent(MailSendHistory mail, LocalDateTime sentDateTime) {
+        return new MailSendResult(mail.getId(), mail.getAttemptCount(), MailSendStatus.SENT, null, sentDateTime, null);
+    }
+
+    // 최대 시도 횟수에 도달하면 FAILED로 끝내고, 아니면 nextAttemptDateTime 이후에 다시 전송한다.
+    public static MailSendResult failed(MailSendHistory mail, String error, LocalDateTime nextAttemptDateTime, int maxAttempts) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (mail.getAttemptCount() >= maxAttempts) {
+            return new MailSendResult(mail.getId(), mail.getAttemptCount(), MailSendStatus.FAILED, null, null, lastError);
+        }
+        return new MailSendResult(mail.getId(), mail.getAttemptCount(), MailSendStatus.PENDING, nextAttemptDateTime, null, lastError);
+    }
+
+}
@@ -11,17 +11,20 @@ import sample.cafekiosk.spring.domain.product.Product;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_order_status_registered_date_time", columnList = "orderStatus, registeredDateTime"))
 @Entity
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq_generator")
+    @SequenceGenerator(name = "orders_seq_generator", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -37,11 +40,9 @@ public class Order extends BaseEntity {
     @Builder
     public Order(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
         this.orderStatus = orderStatus;
-        this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this, product))
-                .collect(Collectors.toList());
+        this.orderProducts = createOrderProducts(products);
+        this.totalPrice = calculateTotalPrice(this.orderProducts);
     }
 
     public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
@@ -52,9 +53,43 @@ public class Order extends BaseEntity {
                 .build();
     }
 
-    private int calculateTotalPrice(List<Product> products) {
-        return products.stream()
-                .mapToInt(Product::getPrice)
+    public boolean isInit() {
+        return this.orderStatus == OrderStatus.INIT;
+    }
+
+    public void completePayment() {
+        changeStatusFromInit(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    public void failPayment() {
+        changeStatusFromInit(OrderStatus.PAYMENT_FAILED);
+    }
+
+    public void cancel() {
+        changeStatusFromInit(OrderStatus.CANCELED);
+    }
+
+    // 결제 완료/실패, 취소는 결제 대기(INIT) 중인 주문에서만 가능하다.
+    private void changeStatusFromInit(OrderStatus orderStatus) {
+        if (!isInit()) {
+            throw new IllegalArgumentException("결제 대기 중인 주문만 처리할 수 있습니다.");
+        }
+        this.orderStatus = orderStatus;
+    }
+
+    // 같은 상품이 여러 번 주문되면 주문 상품 한 건(수량 N)으로 합친다. (처음 주문된 순서 유지)
+    private List<OrderProduct> createOrderProducts(List<Product> products) {
+        Map<String, List<Product>> productGroups = products.stream()
+                .collect(Collectors.groupingBy(Product::getProductNumber, LinkedHashMap::new, Collectors.toList()));
+
+        return productGroups.values().stream()
+                .map(sameProducts -> new OrderProduct(this, sameProducts.get(0), sameProducts.size()))
+                .collect(Collectors.toList());
+    }
+
+    private int calculateTotalPrice(List<OrderProduct> orderProducts) {
+        return orderProducts.stream()
+                .mapToInt(OrderProduct::calculateLinePrice)
                 .sum();
     }
 }
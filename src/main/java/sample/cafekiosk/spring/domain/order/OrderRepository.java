@@ -2,10 +2,19 @@ package sample.cafekiosk.spring.domain.order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.sales.HourlySalesAggregate;
+import sample.cafekiosk.spring.domain.sales.ProductSalesAggregate;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -15,4 +24,97 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             " and o.orderStatus = :orderStatus")
     List<Order> findOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
 
+    /**
+     * findOrdersBy 의 스트리밍 버전 (리포트, 내보내기 등 기간 안의 주문을 모두 훑어야 할 때 사용)
+     * 결과를 List로 한 번에 올리지 않고 forward-only 커서로 fetch size 만큼씩 읽는다.
+     * - 트랜잭션 안에서 호출하고, 다 쓴 Stream은 반드시 닫아야 한다. (try-with-resources)
+     * - 읽은 주문은 영속성 컨텍스트에 쌓이므로 호출하는 쪽에서 한 건씩 detach 해야 메모리 사용량이 일정하다. (OrderExportService)
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " order by o.id")
+    Stream<Order> streamOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    /**
+     * 해당 메서드에서 기대하는 쿼리 (주문 엔티티를 읽지 않고 DB에서 합계만 계산한다.)
+     * select coalesce(sum(total_price), 0)
+     * from orders
+     * where order_status = ? and registered_date_time >= ? and registered_date_time < ?;
+     */
+    @Query("select coalesce(sum(o.totalPrice), 0) from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus")
+    long sumTotalPriceBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    // 매출 집계 재계산용: 시간대별 주문 수와 매출 합계
+    @Query("select new sample.cafekiosk.spring.domain.sales.HourlySalesAggregate(hour(o.registeredDateTime), count(o), sum(o.totalPrice))" +
+            " from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by hour(o.registeredDateTime)")
+    List<HourlySalesAggregate> sumSalesByHour(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    // 매출 집계 재계산용: 시간대 x 상품별 판매 수량과 매출 합계
+    @Query("select new sample.cafekiosk.spring.domain.sales.ProductSalesAggregate(" +
+            "hour(o.registeredDateTime), p.productNumber, p.type, sum(op.quantity), sum(op.unitPrice * op.quantity))" +
+            " from OrderProduct op join op.order o join op.product p" +
+            " where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by hour(o.registeredDateTime), p.productNumber, p.type")
+    List<ProductSalesAggregate> sumProductSalesByHour(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    /**
+     * 매출 통계 조회용 집계 쿼리 (주문 row를 읽어오지 않고 DB에서 묶음별 주문 수와 매출 합계만 계산한다.)
+     * 주문 단위 집계(전체 / 일자별 / 시간대별)는 주문 금액(totalPrice)을,
+     * 상품 단위 집계(상품 타입별 / 상품별)는 주문 상품의 주문 시점 금액(unitPrice * quantity)을 합산하고 주문 수는 중복 없이 센다.
+     */
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesAggregate(count(o), coalesce(sum(o.totalPrice), 0))" +
+            " from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus")
+    OrderSalesAggregate sumSales(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesAggregate(" +
+            "year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime), count(o), sum(o.totalPrice))" +
+            " from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime)" +
+            " order by year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime)")
+    List<OrderSalesAggregate> sumSalesGroupByDay(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesAggregate(" +
+            "year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime), hour(o.registeredDateTime), count(o), sum(o.totalPrice))" +
+            " from Order o where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime), hour(o.registeredDateTime)" +
+            " order by year(o.registeredDateTime), month(o.registeredDateTime), day(o.registeredDateTime), hour(o.registeredDateTime)")
+    List<OrderSalesAggregate> sumSalesGroupByHour(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesAggregate(p.type, count(distinct o), sum(op.unitPrice * op.quantity))" +
+            " from OrderProduct op join op.order o join op.product p" +
+            " where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by p.type" +
+            " order by sum(op.unitPrice * op.quantity) desc, p.type")
+    List<OrderSalesAggregate> sumSalesGroupByProductType(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderSalesAggregate(p.productNumber, count(distinct o), sum(op.unitPrice * op.quantity))" +
+            " from OrderProduct op join op.order o join op.product p" +
+            " where o.registeredDateTime >= :startDateTime" +
+            " and o.registeredDateTime < :endDateTime" +
+            " and o.orderStatus = :orderStatus" +
+            " group by p.productNumber" +
+            " order by sum(op.unitPrice * op.quantity) desc, p.productNumber")
+    List<OrderSalesAggregate> sumSalesGroupByProduct(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
 }
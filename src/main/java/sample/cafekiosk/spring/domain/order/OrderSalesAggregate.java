@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DB에서 집계한 결제완료 매출 (OrderRepository.sumSales* 결과)
+ * 주문 엔티티를 읽지 않고 집계 결과만 받기 위한 프로젝션으로, 묶음 기준에 맞는 생성자가 JPQL의 select new 에서 사용된다.
+ * key : 묶음 기준 값 (일자 2023-03-05 / 시간대 2023-03-05T10:00 / 상품 타입 HANDMADE / 상품 번호 001), 전체 합계는 null
+ */
+@Getter
+public class OrderSalesAggregate {
+
+    private final String key;
+    private final long orderCount;
+    private final long totalAmount;
+
+    // 전체 합계
+    public OrderSalesAggregate(Long orderCount, Long totalAmount) {
+        this(null, orderCount, totalAmount);
+    }
+
+    // 일자별
+    public OrderSalesAggregate(Integer year, Integer month, Integer day, Long orderCount, Long totalAmount) {
+        this(LocalDate.of(year, month, day).toString(), orderCount, totalAmount);
+    }
+
+    // 시간대별
+    public OrderSalesAggregate(Integer year, Integer month, Integer day, Integer hour, Long orderCount, Long totalAmount) {
+        this(LocalDateTime.of(year, month, day, hour, 0).toString(), orderCount, totalAmount);
+    }
+
+    // 상품 타입별
+    public OrderSalesAggregate(ProductType type, Long orderCount, Long totalAmount) {
+        this(type.name(), orderCount, totalAmount);
+    }
+
+    // 상품별
+    public OrderSalesAggregate(String key, Long orderCount, Long totalAmount) {
+        this.key = key;
+        this.orderCount = orderCount == null ? 0 : orderCount;
+        this.totalAmount = totalAmount == null ? 0 : totalAmount;
+    }
+}
@@ -10,11 +10,21 @@ import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// unique: 상품번호 발급이 꼬이더라도 같은 번호의 상품이 두 개 저장되지 않도록 막는 안전장치
+// index: 상품 목록 keyset 조회(ProductRepositoryCustom.findAllByKeyset)의 등호 조건 + 정렬 순서에 맞춘 인덱스
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_product_number", columnNames = "productNumber"),
+        indexes = {
+                @Index(name = "idx_product_selling_status_id", columnList = "sellingStatus, id"),
+                @Index(name = "idx_product_type_selling_status_id", columnList = "type, sellingStatus, id")
+        }
+)
 @Entity
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
@@ -37,4 +47,9 @@ public class Product extends BaseEntity {
         this.name = name;
         this.price = price;
     }
+
+    // 이미 등록된 주문의 금액은 주문 상품(OrderProduct.unitPrice)에 저장된 단가를 사용하므로 바뀌지 않는다.
+    public void changePrice(int price) {
+        this.price = price;
+    }
 }
@@ -0,0 +1,41 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+// 상품번호 발급용 카운터 (여러 서버가 같은 row를 잠그고 번호 구간을 나눠 가져간다.)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ProductNumberSequence {
+
+    @Id
+    private String name;
+
+    // 다음에 발급할 번호 구간의 시작값
+    private long nextValue;
+
+    private ProductNumberSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    public static ProductNumberSequence create(String name, long nextValue) {
+        return new ProductNumberSequence(name, nextValue);
+    }
+
+    // [nextValue, nextValue + blockSize) 구간을 발급하고 시작값을 반환한다.
+    public long allocate(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("발급할 번호 구간의 크기는 1 이상이어야 합니다.");
+        }
+
+        long start = nextValue;
+        nextValue += blockSize;
+        return start;
+    }
+}
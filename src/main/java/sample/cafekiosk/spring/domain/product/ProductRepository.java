@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     /**
      * 해당 메서드에서 기대하는 쿼리
@@ -21,4 +21,12 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     @Query(value = "select p.product_number from product p order by id desc limit 1", nativeQuery = true)
     String findLatestProductNumber();
+
+    /**
+     * 숫자로 비교한 가장 큰 상품번호 (상품이 없으면 null)
+     * ++ id는 시퀀스에서 50개씩 구간으로 받아오기 때문에 서버마다 id 순서와 등록 순서가 다르다. -> id 기준 마지막 상품번호가 가장 큰 번호가 아닐 수 있다.
+     *    상품번호는 0으로 채운 문자열이라 문자열로 비교하면 "1000" < "999" 이므로 숫자로 바꿔서 비교한다.
+     */
+    @Query(value = "select max(cast(p.product_number as bigint)) from product p", nativeQuery = true)
+    Long findMaxProductNumber();
 }
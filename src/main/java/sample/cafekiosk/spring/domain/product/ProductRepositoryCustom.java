@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.domain.product;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 상품 목록을 id 기준 keyset 방식으로 조회한다. (OFFSET 없이 이전 페이지의 마지막 id 다음부터 읽는다.)
+     * (type, selling_status) 조합마다 아래 쿼리를 실행하고, 결과를 id 순으로 합쳐서 limit건을 돌려준다.
+     * select *
+     * from product
+     * where type = ? and selling_status = ? and id > ?
+     * order by id
+     * limit ?;
+     *
+     * ++ OFFSET은 앞 페이지의 row를 모두 읽고 버리기 때문에 뒤 페이지로 갈수록 느려지지만,
+     *    keyset은 인덱스에서 lastId 위치를 바로 찾아가므로 몇 번째 페이지든 비용이 같다.
+     * ++ in (?, ...) 조건을 한 쿼리로 걸면 인덱스 (type, selling_status, id)의 id 순서가 조합마다 끊어져서
+     *    조건에 맞는 row를 모두 읽고 정렬한 뒤에야 limit을 적용한다.
+     *    등호 조건으로 나누면 조합마다 인덱스 순서대로 limit건만 읽고 멈춘다. (최대 상품 타입 수 x 판매상태 수 번 조회)
+     *
+     * @param types  비어 있으면 상품 타입 조건을 걸지 않는다.
+     * @param lastId 이전 페이지의 마지막 상품 id, 첫 페이지는 null
+     */
+    List<Product> findAllByKeyset(List<ProductType> types, List<ProductSellingStatus> sellingStatuses, Long lastId, int limit);
+}
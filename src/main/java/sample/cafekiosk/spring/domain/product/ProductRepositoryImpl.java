@@ -0,0 +1,109 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// ProductRepositoryCustom 구현체 (Spring Data JPA가 Impl 접미사로 찾아서 ProductRepository에 합쳐준다.)
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public List<Product> findAllByKeyset(List<ProductType> types, List<ProductSellingStatus> sellingStatuses, Long lastId, int limit) {
+        // in 조건 조합마다 등호 조건으로 나눠서 읽는다. (인덱스의 id 순서를 그대로 쓰므로 정렬 없이 limit건만 읽고 멈춘다.)
+        List<List<Product>> runs = new ArrayList<>();
+        for (ProductSellingStatus sellingStatus : distinct(sellingStatuses)) {
+            if (types.isEmpty()) {
+                runs.add(findRunByKeyset(null, sellingStatus, lastId, limit));
+                continue;
+            }
+            for (ProductType type : distinct(types)) {
+                runs.add(findRunByKeyset(type, sellingStatus, lastId, limit));
+            }
+        }
+        return mergeById(runs, limit);
+    }
+
+    private List<Product> findRunByKeyset(ProductType type, ProductSellingStatus sellingStatus, Long lastId, int limit) {
+        // 조건이 있는 경우에만 where 절에 추가한다.
+        StringBuilder jpql = new StringBuilder("select p from Product p where p.sellingStatus = :sellingStatus");
+        if (type != null) {
+            jpql.append(" and p.type = :type");
+        }
+        if (lastId != null) {
+            jpql.append(" and p.id > :lastId");
+        }
+        jpql.append(" order by p.id");
+
+        TypedQuery<Product> query = em.createQuery(jpql.toString(), Product.class)
+                .setParameter("sellingStatus", sellingStatus)
+                .setMaxResults(limit);
+        if (type != null) {
+            query.setParameter("type", type);
+        }
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+        }
+        return query.getResultList();
+    }
+
+    // id 순으로 정렬된 조회 결과들을 id 순으로 합쳐서 앞에서부터 limit건만 남긴다. (k-way merge)
+    private List<Product> mergeById(List<List<Product>> runs, int limit) {
+        PriorityQueue<RunCursor> heads = new PriorityQueue<>(Comparator.comparing(RunCursor::currentId));
+        for (List<Product> run : runs) {
+            if (!run.isEmpty()) {
+                heads.add(new RunCursor(run));
+            }
+        }
+
+        List<Product> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            RunCursor head = heads.poll();
+            merged.add(head.current());
+            if (head.next()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private <T> List<T> distinct(List<T> values) {
+        List<T> distinct = new ArrayList<>(values.size());
+        for (T value : values) {
+            if (!distinct.contains(value)) {
+                distinct.add(value);
+            }
+        }
+        return distinct;
+    }
+
+    private static class RunCursor {
+
+        private final List<Product> run;
+        private int index;
+
+        private RunCursor(List<Product> run) {
+            this.run = run;
+        }
+
+        private Product current() {
+            return run.get(index);
+        }
+
+        private Long currentId() {
+            return current().getId();
+        }
+
+        private boolean next() {
+            return ++index < run.size();
+        }
+    }
+
+}
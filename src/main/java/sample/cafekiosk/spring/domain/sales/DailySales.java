@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDate;
+
+// 일자별 결제완료 매출 집계 (매출 통계는 주문을 읽지 않고 이 row 하나만 조회한다.)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class DailySales extends BaseEntity {
+
+    @Id
+    private LocalDate salesDate;
+
+    private long orderCount;
+
+    private long totalAmount;
+
+    @Builder
+    private DailySales(LocalDate salesDate, long orderCount, long totalAmount) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+
+    // 재집계 결과로 덮어쓴다.
+    public void overwrite(long orderCount, long totalAmount) {
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, LocalDate>, DailySalesRepositoryCustom {
+}
@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface DailySalesRepositoryCustom {
+
+    /**
+     * 주문 등록 시간이 속한 일자 / 시간대의 매출 집계에 증감분을 더한다. (집계 row가 없으면 만든다.)
+     * update daily_sales set order_count = order_count + ?, total_amount = total_amount + ? where sales_date = ?;
+     * (수정된 row가 없으면 별도 트랜잭션에서 0 row를 만들어 커밋한 뒤 다시 UPDATE, hourly_sales도 같은 방식)
+     *
+     * ++ 읽고-더하고-쓰는 대신 UPDATE 한 문장으로 더하기 때문에 같은 일자의 주문이 동시에 결제되어도 증감분이 유실되지 않는다.
+     *    항상 daily_sales -> hourly_sales 순서로 row lock을 잡는다. (재집계와 같은 순서)
+     */
+    void addSales(LocalDateTime registeredDateTime, long orderCount, long amount);
+
+    /**
+     * 일자 집계 row를 잠근다. (없으면 0으로 만든다. hourly_sales는 건드리지 않는다.)
+     * insert into daily_sales select ?, 0, 0 ... where not exists (select 1 from daily_sales where sales_date = ?); (별도 트랜잭션)
+     * select sales_date from daily_sales where sales_date = ? for update;
+     *
+     * ++ 재집계 중에 같은 일자의 주문이 결제완료되면 addSales가 이 lock을 기다렸다가 재집계 결과 위에 더한다.
+     */
+    void lockDailySales(LocalDate salesDate);
+}
@@ -0,0 +1,65 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// DailySalesRepositoryCustom 구현체 (Spring Data JPA가 Impl 접미사로 찾아서 DailySalesRepository에 합쳐준다.)
+public class DailySalesRepositoryImpl implements DailySalesRepositoryCustom {
+
+    private static final String ADD_DAILY_SALES_SQL = "update daily_sales" +
+            " set order_count = order_count + ?, total_amount = total_amount + ?, modified_date_time = ?" +
+            " where sales_date = ?";
+
+    private static final String ADD_HOURLY_SALES_SQL = "update hourly_sales" +
+            " set order_count = order_count + ?, total_amount = total_amount + ?, modified_date_time = ?" +
+            " where sales_date = ? and sales_hour = ?";
+
+    private static final String INSERT_DAILY_SALES_IF_ABSENT_SQL = "insert into daily_sales" +
+            " (sales_date, order_count, total_amount, create_date_time, modified_date_time)" +
+            " select cast(? as date), 0, 0, ?, ?" +
+            " where not exists (select 1 from daily_sales where sales_date = ?)";
+
+    private static final String INSERT_HOURLY_SALES_IF_ABSENT_SQL = "insert into hourly_sales" +
+            " (sales_date, sales_hour, order_count, total_amount, create_date_time, modified_date_time)" +
+            " select cast(? as date), cast(? as integer), 0, 0, ?, ?" +
+            " where not exists (select 1 from hourly_sales where sales_date = ? and sales_hour = ?)";
+
+    private static final String LOCK_DAILY_SALES_SQL = "select sales_date from daily_sales where sales_date = ? for update";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalesCounterUpdater salesCounterUpdater;
+
+    public DailySalesRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.salesCounterUpdater = new SalesCounterUpdater(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    public void addSales(LocalDateTime registeredDateTime, long orderCount, long amount) {
+        Date salesDate = Date.valueOf(registeredDateTime.toLocalDate());
+        int salesHour = registeredDateTime.getHour();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        salesCounterUpdater.add(
+                ADD_DAILY_SALES_SQL, new Object[]{orderCount, amount, now, salesDate},
+                INSERT_DAILY_SALES_IF_ABSENT_SQL, new Object[]{salesDate, now, now, salesDate});
+        salesCounterUpdater.add(
+                ADD_HOURLY_SALES_SQL, new Object[]{orderCount, amount, now, salesDate, salesHour},
+                INSERT_HOURLY_SALES_IF_ABSENT_SQL, new Object[]{salesDate, salesHour, now, now, salesDate, salesHour});
+    }
+
+    @Override
+    public void lockDailySales(LocalDate salesDate) {
+        Date date = Date.valueOf(salesDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        salesCounterUpdater.insertIfAbsent(INSERT_DAILY_SALES_IF_ABSENT_SQL, date, now, now, date);
+        jdbcTemplate.queryForList(LOCK_DAILY_SALES_SQL, date);
+    }
+
+}
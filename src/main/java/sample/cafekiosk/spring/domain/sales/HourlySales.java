@@ -0,0 +1,38 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import java.time.LocalDate;
+
+// 시간대별 결제완료 매출 집계 (DailySales와 같은 트랜잭션에서 함께 갱신한다.)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(HourlySalesId.class)
+@Entity
+public class HourlySales extends BaseEntity {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Id
+    private int salesHour;
+
+    private long orderCount;
+
+    private long totalAmount;
+
+    @Builder
+    private HourlySales(LocalDate salesDate, int salesHour, long orderCount, long totalAmount) {
+        this.salesDate = salesDate;
+        this.salesHour = salesHour;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+}
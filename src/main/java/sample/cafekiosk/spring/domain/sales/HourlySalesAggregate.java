@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.Getter;
+
+// 주문 테이블에서 시간대별로 집계한 결제완료 매출 (OrderRepository.sumSalesByHour 결과)
+@Getter
+public class HourlySalesAggregate {
+
+    private final int salesHour;
+    private final long orderCount;
+    private final long totalAmount;
+
+    public HourlySalesAggregate(Integer salesHour, Long orderCount, Long totalAmount) {
+        this.salesHour = salesHour;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HourlySalesRepository extends JpaRepository<HourlySales, HourlySalesId> {
+
+    List<HourlySales> findAllBySalesDateOrderBySalesHour(LocalDate salesDate);
+
+    @Modifying
+    @Query("delete from HourlySales h where h.salesDate = :salesDate")
+    int deleteAllBySalesDate(LocalDate salesDate);
+}
@@ -0,0 +1,52 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+// 상품 x 일자 x 시간대별 결제완료 판매 수량 / 매출 집계 (리포트는 주문, 주문 상품 테이블 대신 이 집계를 조회한다.)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ProductHourlySalesId.class)
+@Table(indexes = @Index(name = "idx_product_hourly_sales_type_date_hour", columnList = "productType, salesDate, salesHour"))
+@Entity
+public class ProductHourlySales extends BaseEntity {
+
+    @Id
+    private LocalDate salesDate;
+
+    @Id
+    private int salesHour;
+
+    @Id
+    private String productNumber;
+
+    @Enumerated(EnumType.STRING)
+    private ProductType productType;
+
+    private long quantity;
+
+    private long totalAmount;
+
+    @Builder
+    private ProductHourlySales(LocalDate salesDate, int salesHour, String productNumber, ProductType productType, long quantity, long totalAmount) {
+        this.salesDate = salesDate;
+        this.salesHour = salesHour;
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// ProductHourlySales 복합키 (일자 + 시 + 상품번호)
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ProductHourlySalesId implements Serializable {
+
+    private LocalDate salesDate;
+    private int salesHour;
+    private String productNumber;
+}
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProductHourlySalesRepository extends JpaRepository<ProductHourlySales, ProductHourlySalesId>, ProductHourlySalesRepositoryCustom {
+
+    /**
+     * 기간 [startDate, endDate], 시간대 [startHour, endHour) 의 상품별 판매 수량 / 매출 합계 (매출이 큰 순서)
+     * 주문, 주문 상품 테이블을 조인하지 않고 집계 row(일수 x 시간 수 x 상품 수)만 읽는다.
+     * ex) 최근 30일 7~9시 베이커리 매출 : productTypes = [BAKERY], startHour = 7, endHour = 9
+     */
+    @Query("select new sample.cafekiosk.spring.domain.sales.ProductSalesAggregate(c.productNumber, c.productType, sum(c.quantity), sum(c.totalAmount))" +
+            " from ProductHourlySales c" +
+            " where c.productType in :productTypes" +
+            " and c.salesDate >= :startDate and c.salesDate <= :endDate" +
+            " and c.salesHour >= :startHour and c.salesHour < :endHour" +
+            " group by c.productNumber, c.productType" +
+            " order by sum(c.totalAmount) desc, c.productNumber")
+    List<ProductSalesAggregate> sumSalesByProduct(List<ProductType> productTypes, LocalDate startDate, LocalDate endDate, int startHour, int endHour);
+
+    @Modifying
+    @Query("delete from ProductHourlySales c where c.salesDate = :salesDate")
+    int deleteAllBySalesDate(LocalDate salesDate);
+}
@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductHourlySalesRepositoryCustom {
+
+    /**
+     * 주문 등록 시간이 속한 일자 / 시간대의 상품별 집계에 주문 상품들의 증감분을 더한다. (집계 row가 없으면 만든다.)
+     * update product_hourly_sales set quantity = quantity + ?, total_amount = total_amount + ?
+     * where sales_date = ? and sales_hour = ? and product_number = ?;
+     * (수정된 row가 없으면 별도 트랜잭션에서 0 row를 만들어 커밋한 뒤 다시 UPDATE)
+     *
+     * ++ DailySalesRepository.addSales 다음에 호출한다. (daily_sales -> hourly_sales -> product_hourly_sales 순서로 row lock)
+     *    상품번호 순서로 갱신해서 같은 상품들이 담긴 주문끼리 서로 다른 순서로 lock을 잡지 않는다.
+     */
+    void addSales(LocalDateTime registeredDateTime, List<ProductSalesLine> lines);
+}
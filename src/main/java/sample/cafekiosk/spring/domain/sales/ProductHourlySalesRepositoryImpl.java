@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// ProductHourlySalesRepositoryCustom 구현체
+public class ProductHourlySalesRepositoryImpl implements ProductHourlySalesRepositoryCustom {
+
+    private static final String ADD_PRODUCT_HOURLY_SALES_SQL = "update product_hourly_sales" +
+            " set quantity = quantity + ?, total_amount = total_amount + ?, modified_date_time = ?" +
+            " where sales_date = ? and sales_hour = ? and product_number = ?";
+
+    private static final String INSERT_PRODUCT_HOURLY_SALES_IF_ABSENT_SQL = "insert into product_hourly_sales" +
+            " (sales_date, sales_hour, product_number, product_type, quantity, total_amount, create_date_time, modified_date_time)" +
+            " select cast(? as date), cast(? as integer), cast(? as varchar(255)), cast(? as varchar(255)), 0, 0, ?, ?" +
+            " where not exists (select 1 from product_hourly_sales where sales_date = ? and sales_hour = ? and product_number = ?)";
+
+    private final SalesCounterUpdater salesCounterUpdater;
+
+    public ProductHourlySalesRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.salesCounterUpdater = new SalesCounterUpdater(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    public void addSales(LocalDateTime registeredDateTime, List<ProductSalesLine> lines) {
+        Date salesDate = Date.valueOf(registeredDateTime.toLocalDate());
+        int salesHour = registeredDateTime.getHour();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<ProductSalesLine> sortedLines = lines.stream()
+                .sorted(Comparator.comparing(ProductSalesLine::getProductNumber))
+                .collect(Collectors.toList());
+        for (ProductSalesLine line : sortedLines) {
+            salesCounterUpdater.add(
+                    ADD_PRODUCT_HOURLY_SALES_SQL,
+                    new Object[]{line.getQuantity(), line.getAmount(), now, salesDate, salesHour, line.getProductNumber()},
+                    INSERT_PRODUCT_HOURLY_SALES_IF_ABSENT_SQL,
+                    new Object[]{salesDate, salesHour, line.getProductNumber(), line.getProductType().name(), now, now,
+                            salesDate, salesHour, line.getProductNumber()});
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+// 상품별 판매 수량 / 매출 합계 (ProductHourlySalesRepository.sumSalesByProduct 결과)
+// 재집계용(OrderRepository.sumProductSalesByHour)은 시간대(salesHour)도 함께 담는다.
+@Getter
+public class ProductSalesAggregate {
+
+    private final Integer salesHour;
+    private final String productNumber;
+    private final ProductType productType;
+    private final long quantity;
+    private final long totalAmount;
+
+    public ProductSalesAggregate(String productNumber, ProductType productType, Long quantity, Long totalAmount) {
+        this(null, productNumber, productType, quantity, totalAmount);
+    }
+
+    public ProductSalesAggregate(Integer salesHour, String productNumber, ProductType productType, Long quantity, Long totalAmount) {
+        this.salesHour = salesHour;
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.quantity = quantity == null ? 0 : quantity;
+        this.totalAmount = totalAmount == null ? 0 : totalAmount;
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+// 상품 x 시간대 집계에 더할 주문 상품 한 줄의 증감분 (취소 등으로 결제완료에서 벗어나면 음수)
+@Getter
+public class ProductSalesLine {
+
+    private final String productNumber;
+    private final ProductType productType;
+    private final long quantity;
+    private final long amount;
+
+    public ProductSalesLine(String productNumber, ProductType productType, long quantity, long amount) {
+        this.productNumber = productNumber;
+        this.productType = productType;
+        this.quantity = quantity;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매출 집계 row에 증감분을 더한다. (row가 없으면 0으로 만든 뒤 더한다.)
+ * - 증감분 UPDATE는 호출한 쪽 트랜잭션(주문 상태 변경 등)에서 실행한다. -> 주문이 롤백되면 집계도 같이 롤백된다.
+ * - 0 row INSERT만 별도 트랜잭션(REQUIRES_NEW)에서 실행하고 바로 커밋한다.
+ *   두 트랜잭션이 동시에 같은 row를 만들면 한쪽은 PK 중복으로 실패하는데, 이미 row가 있다는 뜻이므로 무시한다.
+ *   (PostgreSQL 등은 실패한 문장이 있으면 트랜잭션 전체를 abort 상태로 만들기 때문에 호출한 쪽 트랜잭션에서 INSERT를 시도하지 않는다.)
+ * - 0 row를 만들 때만 커넥션을 하나 더 쓴다. (일자 / 시간대 / 상품별로 처음 한 번, 커넥션을 얻지 못하면 풀의 connectionTimeout 후 실패한다.)
+ */
+class SalesCounterUpdater {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    SalesCounterUpdater(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // updateSql은 증감분을 더하는 UPDATE, insertZeroSql은 row가 없을 때만 0 row를 만드는 INSERT
+    void add(String updateSql, Object[] updateArgs, String insertZeroSql, Object[] insertZeroArgs) {
+        if (jdbcTemplate.update(updateSql, updateArgs) > 0) {
+            return;
+        }
+
+        insertIfAbsent(insertZeroSql, insertZeroArgs);
+        if (jdbcTemplate.update(updateSql, updateArgs) == 0) {
+            throw new IllegalStateException("매출 집계 row를 만들지 못했습니다.");
+        }
+    }
+
+    // row가 없을 때만 별도 트랜잭션에서 INSERT하고 커밋한다. 동시에 INSERT되어 PK 중복이 나면 이미 row가 있는 것이므로 무시한다.
+    void insertIfAbsent(String insertZeroSql, Object... insertZeroArgs) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> jdbcTemplate.update(insertZeroSql, insertZeroArgs));
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 만들었다.
+        }
+    }
+
+}
@@ -10,20 +10,33 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.persistence.Version;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_number", columnNames = "productNumber"))
 @Entity
 public class Stock extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_seq_generator")
+    @SequenceGenerator(name = "stock_seq_generator", sequenceName = "stock_seq", allocationSize = 50)
     private Long id;
 
     private String productNumber;
 
     private int quantity;
 
+    // 결제 대기 중인 주문이 잡아둔 수량 (판매 가능 재고 = quantity - reservedQuantity)
+    private int reservedQuantity;
+
+    // 낙관적 락: 같은 재고를 동시에 변경하면 나중에 커밋하는 쪽이 실패한다.
+    @Version
+    private Long version;
+
     @Builder
     private Stock(String productNumber, int quantity) {
         this.productNumber = productNumber;
@@ -38,8 +51,13 @@ public class Stock extends BaseEntity {
     }
 
     // 현재고 수량이 요청하는 재고 수량보다 적은지 확인하는 메서드
+    // ++ 결제 대기 중인 주문이 예약한 수량은 팔 수 없으므로 제외하고 비교한다.
     public boolean isQuantityLessThan(int quantity) {
-        return this.quantity < quantity;
+        return getAvailableQuantity() < quantity;
+    }
+
+    public int getAvailableQuantity() {
+        return this.quantity - this.reservedQuantity;
     }
 
     public void deductQuantity(int quantity) {
@@ -48,4 +66,29 @@ public class Stock extends BaseEntity {
         }
         this.quantity -= quantity;
     }
+
+    // 결제 전까지 재고를 잡아둔다. (현재고는 그대로)
+    public void reserve(int quantity) {
+        if (isQuantityLessThan(quantity)) {
+            throw new IllegalArgumentException("예약할 재고 수량이 없습니다.");
+        }
+        this.reservedQuantity += quantity;
+    }
+
+    // 예약을 풀어서 다시 판매 가능한 재고로 돌린다. (주문 취소 / 결제 실패 / 예약 만료)
+    public void releaseReservation(int quantity) {
+        if (this.reservedQuantity < quantity) {
+            throw new IllegalArgumentException("해제할 예약 수량이 없습니다.");
+        }
+        this.reservedQuantity -= quantity;
+    }
+
+    // 예약한 수량을 실제 차감으로 확정한다. (결제 완료)
+    public void confirmReservation(int quantity) {
+        if (this.reservedQuantity < quantity) {
+            throw new IllegalArgumentException("확정할 예약 수량이 없습니다.");
+        }
+        this.reservedQuantity -= quantity;
+        this.quantity -= quantity;
+    }
 }
@@ -1,12 +1,25 @@
 package sample.cafekiosk.spring.domain.stock;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockRepositoryCustom {
 
     List<Stock> findAllByProductNumberIn(List<String> productNumbers);
+
+    /**
+     * 해당 메서드에서 기대하는 쿼리
+     * update stock
+     * set quantity = quantity - ?, version = version + 1
+     * where product_number = ?;
+     */
+    @Modifying
+    @Query("update Stock s set s.quantity = s.quantity - :quantity, s.version = s.version + 1" +
+            " where s.productNumber = :productNumber")
+    int deductQuantity(String productNumber, int quantity);
 }
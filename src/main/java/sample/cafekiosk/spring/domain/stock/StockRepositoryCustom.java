@@ -0,0 +1,35 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StockRepositoryCustom {
+
+    /**
+     * 여러 상품의 재고를 조건부 UPDATE 한 번의 JDBC batch로 차감한다.
+     * update stock
+     * set quantity = quantity - ?
+     * where product_number = ? and quantity >= ?;
+     *
+     * ++ 갱신 건수가 정확히 1인 상품만 차감된 것으로 본다. 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO)
+     *    그 상품도 실패로 돌려주고, 이후 호출부터는 한 건씩 UPDATE 해서 건수를 확인한다.
+     *    실패한 상품이 하나라도 있으면 호출한 쪽에서 트랜잭션을 롤백해야 한다. (이미 차감된 상품이 섞여 있을 수 있다.)
+     *
+     * @return 재고가 부족하거나 재고가 없어 차감하지 못한(또는 차감 여부를 알 수 없는) 상품번호 리스트
+     */
+    List<String> deductQuantities(Map<String, Long> productCountingMap);
+
+    /**
+     * 상품번호 리스트로 재고를 조회하면서 비관적 락(row lock)을 건다.
+     * select *
+     * from stock
+     * where product_number in (?, ...)
+     * order by product_number
+     * for update;
+     *
+     * ++ 항상 상품번호 순으로 잠그기 때문에 같은 상품들을 주문하는 두 트랜잭션이 서로를 기다리는 데드락이 생기지 않는다.
+     *
+     * @param lockTimeoutMillis 락 대기 최대 시간, 초과하면 PessimisticLockingFailureException 또는 QueryTimeoutException
+     */
+    List<Stock> findAllByProductNumberInForUpdate(List<String> productNumbers, int lockTimeoutMillis);
+}
@@ -0,0 +1,100 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// StockRepositoryCustom 구현체 (Spring Data JPA가 Impl 접미사로 찾아서 StockRepository에 합쳐준다.)
+@Slf4j
+@RequiredArgsConstructor
+public class StockRepositoryImpl implements StockRepositoryCustom {
+
+    private static final String DEDUCT_QUANTITY_SQL = "update stock" +
+            " set quantity = quantity - ?, version = version + 1, modified_date_time = ?" +
+            " where product_number = ? and quantity - reserved_quantity >= ?"; // 예약된 수량은 차감할 수 없다.
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+
+    // 드라이버가 batch의 row별 갱신 건수를 알려주지 않으면(SUCCESS_NO_INFO) 그 뒤로는 한 건씩 UPDATE 한다.
+    private volatile boolean batchUpdateCountsUnavailable;
+
+    @Override
+    public List<String> deductQuantities(Map<String, Long> productCountingMap) {
+        if (productCountingMap.isEmpty()) {
+            return List.of();
+        }
+
+        // 상품번호 순으로 정렬해서 UPDATE -> 여러 주문이 같은 상품들의 row lock을 항상 같은 순서로 잡는다. (데드락 방지)
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(new TreeMap<>(productCountingMap).entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        if (batchUpdateCountsUnavailable) {
+            return deductQuantitiesOneByOne(entries, now);
+        }
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(DEDUCT_QUANTITY_SQL, entries, entries.size(), (ps, entry) -> {
+            int quantity = entry.getValue().intValue();
+            ps.setInt(1, quantity);
+            ps.setTimestamp(2, now);
+            ps.setString(3, entry.getKey());
+            ps.setInt(4, quantity);
+        });
+
+        // 정확히 1 row가 갱신된 상품만 차감된 것으로 본다.
+        // 0 = 재고 부족 또는 재고 미등록, SUCCESS_NO_INFO / EXECUTE_FAILED = 차감 여부를 알 수 없음
+        // -> 모두 실패로 돌려주고, 호출한 쪽이 트랜잭션을 롤백하므로 실제로 차감되었더라도 함께 되돌아간다.
+        List<String> failedProductNumbers = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            int updateCount = updateCounts[0][i];
+            if (updateCount == Statement.SUCCESS_NO_INFO && !batchUpdateCountsUnavailable) {
+                log.warn("JDBC 드라이버가 batch UPDATE 건수를 알려주지 않아 이후 재고 차감은 한 건씩 UPDATE 합니다.");
+                batchUpdateCountsUnavailable = true;
+            }
+            if (updateCount != 1) {
+                failedProductNumbers.add(entries.get(i).getKey());
+            }
+        }
+        return failedProductNumbers;
+    }
+
+    private List<String> deductQuantitiesOneByOne(List<Map.Entry<String, Long>> entries, Timestamp now) {
+        List<String> failedProductNumbers = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            int quantity = entry.getValue().intValue();
+            if (jdbcTemplate.update(DEDUCT_QUANTITY_SQL, quantity, now, entry.getKey(), quantity) != 1) {
+                failedProductNumbers.add(entry.getKey());
+            }
+        }
+        return failedProductNumbers;
+    }
+
+    @Override
+    public List<Stock> findAllByProductNumberInForUpdate(List<String> productNumbers, int lockTimeoutMillis) {
+        if (productNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return em.createQuery("select s from Stock s" +
+                        " where s.productNumber in :productNumbers" +
+                        " order by s.productNumber", Stock.class)
+                .setParameter("productNumbers", productNumbers)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                // lock.timeout을 지원하지 않는 DB(H2 등)도 있어서, 쿼리 타임아웃도 함께 걸어 대기 시간을 제한한다.
+                .setHint("javax.persistence.lock.timeout", lockTimeoutMillis)
+                .setHint("javax.persistence.query.timeout", lockTimeoutMillis)
+                .getResultList();
+    }
+
+}
@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+
+// 결제 대기 중인 주문이 잡아둔 재고 (주문 x 상품당 한 건)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_stock_reservation_order_id_status", columnList = "orderId, status"),
+        @Index(name = "idx_stock_reservation_status_expires_at", columnList = "status, expiresAt")
+})
+@Entity
+public class StockReservation extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_seq_generator")
+    @SequenceGenerator(name = "stock_reservation_seq_generator", sequenceName = "stock_reservation_seq", allocationSize = 50)
+    private Long id;
+
+    private Long orderId;
+
+    private String productNumber;
+
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    private StockReservationStatus status;
+
+    private LocalDateTime expiresAt;
+
+    // 결제 완료와 예약 만료가 동시에 처리되는 경우 한쪽만 성공하도록 한다.
+    @Version
+    private Long version;
+
+    @Builder
+    private StockReservation(Long orderId, String productNumber, int quantity, StockReservationStatus status, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.productNumber = productNumber;
+        this.quantity = quantity;
+        this.status = status;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockReservation create(Long orderId, String productNumber, int quantity, LocalDateTime expiresAt) {
+        return StockReservation.builder()
+                .orderId(orderId)
+                .productNumber(productNumber)
+                .quantity(quantity)
+                .status(StockReservationStatus.RESERVED)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    public void confirm() {
+        changeStatus(StockReservationStatus.CONFIRMED);
+    }
+
+    public void release() {
+        changeStatus(StockReservationStatus.RELEASED);
+    }
+
+    public void expire() {
+        changeStatus(StockReservationStatus.EXPIRED);
+    }
+
+    private void changeStatus(StockReservationStatus status) {
+        if (this.status != StockReservationStatus.RESERVED) {
+            throw new IllegalArgumentException("이미 처리된 재고 예약입니다.");
+        }
+        this.status = status;
+    }
+}
@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    List<StockReservation> findAllByOrderIdAndStatus(Long orderId, StockReservationStatus status);
+
+    List<StockReservation> findAllByStatus(StockReservationStatus status);
+
+}
@@ -0,0 +1,17 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum StockReservationStatus {
+
+    RESERVED("예약중"),
+    CONFIRMED("차감확정"),
+    RELEASED("예약해제"),
+    EXPIRED("예약만료");
+
+    private final String text;
+
+}
@@ -0,0 +1,113 @@
+-- 초기 스키마 (엔티티 매핑과 같은 테이블 / 컬럼, ddl-auto: validate로 검증한다.)
+-- 시퀀스 increment = 엔티티의 allocationSize (pooled-lo 옵티마이저가 한 번에 50개씩 ID를 가져간다.)
+
+create sequence product_seq start with 1 increment by 50;
+create sequence orders_seq start with 1 increment by 50;
+create sequence order_product_seq start with 1 increment by 50;
+create sequence stock_seq start with 1 increment by 50;
+create sequence stock_reservation_seq start with 1 increment by 50;
+create sequence mail_send_history_seq start with 1 increment by 50;
+
+create table product
+(
+    id                 bigint       not null,
+    product_number     varchar(255) not null,
+    type               varchar(255),
+    selling_status     varchar(255),
+    name               varchar(255),
+    price              integer      not null,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (id),
+    -- findAllByProductNumberIn / 주문 시 상품 조회
+    constraint uk_product_product_number unique (product_number)
+);
+
+-- findAllBySellingStatusIn (판매 상품 목록), findAllByKeyset (판매상태 조건만 있는 경우)
+create index idx_product_selling_status_id on product (selling_status, id);
+-- findAllByKeyset (상품 타입 + 판매상태 조건)
+create index idx_product_type_selling_status_id on product (type, selling_status, id);
+
+create table product_number_sequence
+(
+    name       varchar(255) not null,
+    next_value bigint       not null,
+    primary key (name)
+);
+
+create table orders
+(
+    id                   bigint  not null,
+    order_status         varchar(255),
+    total_price          integer not null,
+    registered_date_time timestamp,
+    create_date_time     timestamp,
+    modified_date_time   timestamp,
+    primary key (id)
+);
+
+-- findOrdersBy: order_status = ? and registered_date_time >= ? and registered_date_time < ?
+-- 동등 조건 컬럼을 앞에, 범위 조건 컬럼을 뒤에 둬야 범위 끝에서 인덱스 탐색을 멈출 수 있다.
+create index idx_orders_order_status_registered_date_time on orders (order_status, registered_date_time);
+
+create table order_product
+(
+    id                 bigint  not null,
+    order_id           bigint,
+    product_id         bigint,
+    quantity           integer not null,
+    unit_price         integer not null,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (id),
+    constraint fk_order_product_order foreign key (order_id) references orders (id),
+    constraint fk_order_product_product foreign key (product_id) references product (id)
+);
+
+create index idx_order_product_order_id on order_product (order_id);
+create index idx_order_product_product_id on order_product (product_id);
+
+create table stock
+(
+    id                 bigint       not null,
+    product_number     varchar(255) not null,
+    quantity           integer      not null,
+    reserved_quantity  integer      not null,
+    version            bigint,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (id),
+    -- findAllByProductNumberIn, findAllByProductNumberInForUpdate, 조건부 UPDATE (상품당 재고 1건)
+    constraint uk_stock_product_number unique (product_number)
+);
+
+create table stock_reservation
+(
+    id                 bigint  not null,
+    order_id           bigint,
+    product_number     varchar(255),
+    quantity           integer not null,
+    status             varchar(255),
+    expires_at         timestamp,
+    version            bigint,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (id)
+);
+
+-- findAllByOrderIdAndStatus (결제 완료 / 취소 / 만료 시 주문의 예약 조회)
+create index idx_stock_reservation_order_id_status on stock_reservation (order_id, status);
+-- findAllByStatus (서버 시작 시 만료 대기열 복구)
+create index idx_stock_reservation_status_expires_at on stock_reservation (status, expires_at);
+
+create table mail_send_history
+(
+    id                 bigint not null,
+    from_email         varchar(255),
+    to_email           varchar(255),
+    subject            varchar(255),
+    content            varchar(255),
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (id)
+);
@@ -0,0 +1,21 @@
+-- 결제완료 주문의 일자별 / 시간대별 매출 집계 (주문 상태가 결제완료로 바뀌거나 결제완료에서 벗어날 때 갱신한다.)
+create table daily_sales
+(
+    sales_date         date   not null,
+    order_count        bigint not null,
+    total_amount       bigint not null,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (sales_date)
+);
+
+create table hourly_sales
+(
+    sales_date         date    not null,
+    sales_hour         integer not null,
+    order_count        bigint  not null,
+    total_amount       bigint  not null,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (sales_date, sales_hour)
+);
@@ -0,0 +1,16 @@
+-- 결제완료 주문 상품의 상품 x 일자 x 시간대 매출 집계 (daily_sales / hourly_sales와 같은 트랜잭션에서 갱신한다.)
+create table product_hourly_sales
+(
+    sales_date         date         not null,
+    sales_hour         integer      not null,
+    product_number     varchar(255) not null,
+    product_type       varchar(255) not null,
+    quantity           bigint       not null,
+    total_amount       bigint       not null,
+    create_date_time   timestamp,
+    modified_date_time timestamp,
+    primary key (sales_date, sales_hour, product_number)
+);
+
+-- 상품 타입 + 기간 + 시간대 조회 (ex. 최근 30일 7~9시 베이커리 매출)
+create index idx_product_hourly_sales_type_date_hour on product_hourly_sales (product_type, sales_date, sales_hour);
@@ -0,0 +1,10 @@
+-- 메일 전송 이력을 outbox로 사용한다. (업무 트랜잭션에서 PENDING으로 저장하고, MailOutboxDispatcher가 비동기로 전송한다.)
+-- 기존 이력은 모두 동기로 전송이 끝난 메일이므로 SENT로 채운다.
+alter table mail_send_history add column status varchar(255) default 'SENT' not null;
+alter table mail_send_history add column attempt_count integer default 0 not null;
+alter table mail_send_history add column next_attempt_date_time timestamp;
+alter table mail_send_history add column sent_date_time timestamp;
+alter table mail_send_history add column last_error varchar(255);
+
+-- 전송할 메일 선점 (status in ('PENDING', 'SENDING') and next_attempt_date_time <= ?)
+create index idx_mail_send_history_status_next_attempt on mail_send_history (status, next_attempt_date_time);
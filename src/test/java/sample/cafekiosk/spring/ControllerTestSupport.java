@@ -6,14 +6,26 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.api.controller.order.OrderController;
+import sample.cafekiosk.spring.api.controller.order.OrderStatisticsController;
 import sample.cafekiosk.spring.api.controller.product.ProductController;
+import sample.cafekiosk.spring.api.controller.product.ProductImportController;
+import sample.cafekiosk.spring.api.service.order.OrderFacade;
+import sample.cafekiosk.spring.api.service.order.OrderIdempotencyCache;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.OrderStatisticsService;
+import sample.cafekiosk.spring.api.service.product.ProductImportService;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.sales.BestSellerTracker;
+import sample.cafekiosk.spring.api.service.sales.LiveSalesDashboard;
+import sample.cafekiosk.spring.api.service.sales.ProductSalesService;
+import sample.cafekiosk.spring.api.service.sales.SalesReportService;
 
 // 환경 통합을 위해 사용될 Controller 전용 테스트 추상클래스
 @WebMvcTest(controllers = {
         OrderController.class,
-        ProductController.class
+        OrderStatisticsController.class,
+        ProductController.class,
+        ProductImportController.class
 })
 public abstract class ControllerTestSupport {
 
@@ -26,7 +38,31 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected OrderService orderService;
 
+    @MockBean
+    protected OrderFacade orderFacade;
+
+    @MockBean
+    protected OrderIdempotencyCache orderIdempotencyCache;
+
+    @MockBean
+    protected OrderStatisticsService orderStatisticsService;
+
     @MockBean
     protected ProductService productService;
 
+    @MockBean
+    protected ProductImportService productImportService;
+
+    @MockBean
+    protected SalesReportService salesReportService;
+
+    @MockBean
+    protected LiveSalesDashboard liveSalesDashboard;
+
+    @MockBean
+    protected BestSellerTracker bestSellerTracker;
+
+    @MockBean
+    protected ProductSalesService productSalesService;
+
 }
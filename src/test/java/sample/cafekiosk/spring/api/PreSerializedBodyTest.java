@@ -0,0 +1,48 @@
+package sample.cafekiosk.spring.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreSerializedBodyTest {
+
+    @DisplayName("Accept-Encoding의 q값을 보고 gzip 압축본을 받을 수 있는지 판단한다.")
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "gzip                    | true",
+            "gzip, deflate, br       | true",
+            "GZIP;q=0.5              | true",
+            "x-gzip                  | true",
+            "gzip;q=0                | false",
+            "gzip; q=0.0, identity   | false",
+            "deflate                 | false",
+            "*                       | true",
+            "*;q=0                   | false",
+            "gzip;q=0, *             | false",
+            "gzip;q=abc              | false",
+    })
+    void acceptsGzip(String acceptEncoding, boolean expected) {
+        // when
+        boolean acceptsGzip = PreSerializedBody.acceptsGzip(acceptEncoding);
+
+        // then
+        assertThat(acceptsGzip).isEqualTo(expected);
+    }
+
+    @DisplayName("gzip 압축본을 받는 클라이언트에게는 따옴표 안에 -gzip을 붙인 ETag를 준다.")
+    @ParameterizedTest(name = "[{0}] -> {1}")
+    @CsvSource(delimiter = '|', value = {
+            "gzip      | '\"abc-gzip\"'",
+            "identity  | '\"abc\"'",
+    })
+    void eTagFor(String acceptEncoding, String expected) {
+        // when
+        String eTag = PreSerializedBody.eTagFor(acceptEncoding, "\"abc\"");
+
+        // then
+        assertThat(eTag).isEqualTo(expected);
+    }
+
+}
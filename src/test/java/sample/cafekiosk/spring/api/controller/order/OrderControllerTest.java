@@ -9,14 +9,31 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderLineResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.stock.StockLockTimeoutException;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,4 +101,197 @@ class OrderControllerTest extends ControllerTestSupport {
         ;
     }
 
-}
\ No newline at end of file
+    @DisplayName("신규 주문을 등록하고 같은 상품을 한 줄(상품 + 수량)로 묶은 응답을 받는다.")
+    @Test
+    void createOrderCompact() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "001", "002"))
+                .build();
+
+        ProductResponse americano = createProductResponse("001", "아메리카노", 4000);
+        ProductResponse latte = createProductResponse("002", "카페라떼", 4500);
+        given(orderFacade.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willReturn(OrderResponse.builder()
+                        .id(1L)
+                        .totalPrice(12500)
+                        .registeredDateTime(LocalDateTime.of(2023, 1, 1, 0, 0))
+                        .products(List.of(americano, americano, latte))
+                        .lines(List.of(
+                                createOrderLineResponse("001", "아메리카노", 4000, 2),
+                                createOrderLineResponse("002", "카페라떼", 4500, 1)
+                        ))
+                        .build());
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new/compact")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.totalPrice").value(12500))
+                .andExpect(jsonPath("$.data.lines.length()").value(2))
+                .andExpect(jsonPath("$.data.lines[0].productNumber").value("001"))
+                .andExpect(jsonPath("$.data.lines[0].quantity").value(2))
+                .andExpect(jsonPath("$.data.lines[0].linePrice").value(8000))
+                .andExpect(jsonPath("$.data.lines[1].productNumber").value("002"))
+                .andExpect(jsonPath("$.data.lines[1].quantity").value(1));
+    }
+
+    @DisplayName("Idempotency-Key 헤더가 있으면 해당 키로 주문 생성 결과를 재사용한다.")
+    @Test
+    void createOrderWithIdempotencyKey() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+
+        given(orderIdempotencyCache.execute(eq("kiosk-1-order-42"), any()))
+                .willReturn(OrderResponse.builder()
+                        .id(42L)
+                        .totalPrice(4000)
+                        .registeredDateTime(LocalDateTime.of(2023, 1, 1, 0, 0))
+                        .products(List.of(createProductResponse("001", "아메리카노", 4000)))
+                        .build());
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .header("Idempotency-Key", "kiosk-1-order-42")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(42));
+
+        verify(orderIdempotencyCache).execute(eq("kiosk-1-order-42"), any());
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록하고 주문별 결과를 받는다.")
+    @Test
+    void createOrders() throws Exception {
+        // given
+        OrderBulkCreateRequest request = OrderBulkCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of("002")).build()
+                ))
+                .build();
+
+        given(orderFacade.createOrders(anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of(
+                        OrderCreateResult.success(OrderResponse.builder().id(1L).totalPrice(4000).products(List.of()).build()),
+                        OrderCreateResult.failure("재고가 부족한 상품이 있습니다.")
+                ));
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/bulk")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].success").value(true))
+                .andExpect(jsonPath("$.data[0].order.id").value(1))
+                .andExpect(jsonPath("$.data[1].success").value(false))
+                .andExpect(jsonPath("$.data[1].errorMessage").value("재고가 부족한 상품이 있습니다."));
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록할 때 각 주문의 상품번호는 1개 이상이어야 한다.")
+    @Test
+    void createOrdersWithEmptyProductNumbers() throws Exception {
+        // given
+        OrderBulkCreateRequest request = OrderBulkCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNumbers(List.of("001")).build(),
+                        OrderCreateRequest.builder().productNumbers(List.of()).build()
+                ))
+                .build();
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/bulk")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("상품 번호 리스트는 필수입니다."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    @DisplayName("결제 대기 중인 주문을 결제 완료 처리한다.")
+    @Test
+    void completePayment() throws Exception {
+        // given
+        given(orderService.completePayment(1L))
+                .willReturn(OrderResponse.builder()
+                        .id(1L)
+                        .orderStatus(OrderStatus.PAYMENT_COMPLETED)
+                        .totalPrice(4000)
+                        .products(List.of())
+                        .build());
+
+        // when // then
+        mockMvc.perform(post("/api/v1/orders/{orderId}/payment-complete", 1L))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.orderStatus").value("PAYMENT_COMPLETED"));
+    }
+
+    @DisplayName("재고 잠금 대기 시간이 초과되면 재시도할 수 있도록 503 응답과 Retry-After 헤더를 내려준다.")
+    @Test
+    void createOrderWithStockLockTimeout() throws Exception {
+        // given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+
+        given(orderFacade.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willThrow(new StockLockTimeoutException("재고 잠금 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", null));
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("503"))
+                .andExpect(jsonPath("$.status").value("SERVICE_UNAVAILABLE"))
+                .andExpect(jsonPath("$.message").value("재고 잠금 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."))
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+
+    private ProductResponse createProductResponse(String productNumber, String name, int price) {
+        return ProductResponse.builder()
+                .productNumber(productNumber)
+                .type(ProductType.HANDMADE)
+                .sellingStatus(ProductSellingStatus.SELLING)
+                .name(name)
+                .price(price)
+                .build();
+    }
+
+    private OrderLineResponse createOrderLineResponse(String productNumber, String name, int unitPrice, int quantity) {
+        return OrderLineResponse.builder()
+                .productNumber(productNumber)
+                .name(name)
+                .unitPrice(unitPrice)
+                .quantity(quantity)
+                .linePrice(unitPrice * quantity)
+                .build();
+    }
+
+}
@@ -0,0 +1,255 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.SalesGroupBy;
+import sample.cafekiosk.spring.api.service.order.request.SalesStatisticsServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.SalesBreakdownResponse;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.api.service.sales.BestSellerWindow;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellerResponse;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellersResponse;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesResponse;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesWindowResponse;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.ProductSalesAggregate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderStatisticsControllerTest extends ControllerTestSupport {
+
+    @DisplayName("기간 매출 통계를 묶음 기준별로 조회한다.")
+    @Test
+    void getSalesStatistics() throws Exception {
+        // given
+        when(orderStatisticsService.getSalesStatistics(any(SalesStatisticsServiceRequest.class))).thenReturn(SalesStatisticsResponse.builder()
+                .startDate(LocalDate.of(2023, 3, 1))
+                .endDate(LocalDate.of(2023, 3, 31))
+                .groupBy(SalesGroupBy.DAY)
+                .orderCount(2)
+                .totalAmount(7000)
+                .averageAmount(3500)
+                .breakdowns(List.of(SalesBreakdownResponse.builder()
+                        .key("2023-03-05")
+                        .orderCount(2)
+                        .totalAmount(7000)
+                        .averageAmount(3500)
+                        .build()))
+                .build());
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics")
+                        .param("startDate", "2023-03-01")
+                        .param("endDate", "2023-03-31")
+                        .param("groupBy", "DAY")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.totalAmount").value(7000))
+            .andExpect(jsonPath("$.data.averageAmount").value(3500))
+            .andExpect(jsonPath("$.data.breakdowns[0].key").value("2023-03-05"))
+        ;
+    }
+
+    @DisplayName("기간 매출 통계를 조회할 때 조회 시작일은 필수값이다.")
+    @Test
+    void getSalesStatisticsWithoutStartDate() throws Exception {
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics")
+                        .param("endDate", "2023-03-31")
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.message").value("조회 시작일은 필수입니다."))
+            .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    @DisplayName("기간 매출 통계를 조회할 때 조회 종료일은 시작일보다 빠를 수 없다.")
+    @Test
+    void getSalesStatisticsWithInvalidPeriod() throws Exception {
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics")
+                        .param("startDate", "2023-03-31")
+                        .param("endDate", "2023-03-01")
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.message").value("조회 종료일은 시작일보다 빠를 수 없습니다."))
+        ;
+    }
+
+    @DisplayName("기간 안의 일자별 매출 리포트를 조회한다.")
+    @Test
+    void getDailySalesReport() throws Exception {
+        // given
+        when(salesReportService.getDailySalesReport(eq(LocalDate.of(2023, 3, 1)), eq(LocalDate.of(2023, 3, 2)))).thenReturn(SalesStatisticsResponse.builder()
+                .startDate(LocalDate.of(2023, 3, 1))
+                .endDate(LocalDate.of(2023, 3, 2))
+                .groupBy(SalesGroupBy.DAY)
+                .orderCount(1)
+                .totalAmount(4000)
+                .averageAmount(4000)
+                .breakdowns(List.of(
+                        SalesBreakdownResponse.builder().key("2023-03-01").orderCount(1).totalAmount(4000).averageAmount(4000).build(),
+                        SalesBreakdownResponse.builder().key("2023-03-02").orderCount(0).totalAmount(0).averageAmount(0).build()
+                ))
+                .build());
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/daily")
+                        .param("startDate", "2023-03-01")
+                        .param("endDate", "2023-03-02")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.totalAmount").value(4000))
+            .andExpect(jsonPath("$.data.breakdowns.length()").value(2))
+            .andExpect(jsonPath("$.data.breakdowns[1].totalAmount").value(0))
+        ;
+    }
+
+    @DisplayName("최근 1분 / 15분 / 1시간의 실시간 매출을 조회한다.")
+    @Test
+    void getLiveSales() throws Exception {
+        // given
+        when(liveSalesDashboard.getLiveSales()).thenReturn(LiveSalesResponse.builder()
+                .asOf(LocalDateTime.of(2023, 3, 5, 10, 0))
+                .windows(List.of(
+                        LiveSalesWindowResponse.builder().windowSeconds(60).orderCount(2).orderAmount(7000).paidOrderCount(1).revenue(4000).build(),
+                        LiveSalesWindowResponse.builder().windowSeconds(900).orderCount(5).orderAmount(16000).paidOrderCount(3).revenue(10000).build(),
+                        LiveSalesWindowResponse.builder().windowSeconds(3600).orderCount(9).orderAmount(30000).paidOrderCount(6).revenue(21000).build()
+                ))
+                .build());
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/live")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.windows.length()").value(3))
+            .andExpect(jsonPath("$.data.windows[0].windowSeconds").value(60))
+            .andExpect(jsonPath("$.data.windows[0].revenue").value(4000))
+        ;
+    }
+
+    @DisplayName("이번 시간의 인기 상품을 조회한다.")
+    @Test
+    void getBestSellers() throws Exception {
+        // given
+        when(bestSellerTracker.getBestSellers(BestSellerWindow.HOUR, 10)).thenReturn(BestSellersResponse.builder()
+                .window(BestSellerWindow.HOUR)
+                .windowStart(LocalDateTime.of(2023, 3, 5, 10, 0))
+                .products(List.of(BestSellerResponse.builder()
+                        .rank(1)
+                        .productNumber("001")
+                        .name("아메리카노")
+                        .quantity(42)
+                        .maxOverestimate(0)
+                        .build()))
+                .build());
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/best-sellers")
+                        .param("window", "HOUR")
+                        .param("limit", "10")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.products[0].productNumber").value("001"))
+            .andExpect(jsonPath("$.data.products[0].quantity").value(42))
+        ;
+    }
+
+    @DisplayName("인기 상품을 조회할 때 조회 개수는 50 이하여야 한다.")
+    @Test
+    void getBestSellersWithTooLargeLimit() throws Exception {
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/best-sellers")
+                        .param("limit", "51")
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.message").value("조회 개수는 50 이하여야 합니다."))
+        ;
+    }
+
+    @DisplayName("기간과 시간대 안의 상품 타입별 매출을 조회한다.")
+    @Test
+    void getProductSales() throws Exception {
+        // given
+        ProductSalesServiceRequest serviceRequest = ProductSalesServiceRequest.builder()
+                .startDate(LocalDate.of(2023, 3, 1))
+                .endDate(LocalDate.of(2023, 3, 30))
+                .productTypes(List.of(ProductType.BAKERY))
+                .startHour(7)
+                .endHour(9)
+                .build();
+        when(productSalesService.getProductSales(any(ProductSalesServiceRequest.class))).thenReturn(ProductSalesResponse.of(serviceRequest,
+                List.of(new ProductSalesAggregate("003", ProductType.BAKERY, 3L, 9000L))));
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/products")
+                        .param("startDate", "2023-03-01")
+                        .param("endDate", "2023-03-30")
+                        .param("productTypes", "BAKERY")
+                        .param("startHour", "7")
+                        .param("endHour", "9")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.totalAmount").value(9000))
+            .andExpect(jsonPath("$.data.products[0].productNumber").value("003"))
+            .andExpect(jsonPath("$.data.products[0].quantity").value(3))
+        ;
+    }
+
+    @DisplayName("상품 x 시간대 매출을 조회할 때 시작 시각은 종료 시각보다 빨라야 한다.")
+    @Test
+    void getProductSalesWithInvalidHours() throws Exception {
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/orders/statistics/products")
+                        .param("startDate", "2023-03-01")
+                        .param("endDate", "2023-03-30")
+                        .param("startHour", "9")
+                        .param("endHour", "7")
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.message").value("조회 시작 시각은 종료 시각보다 빨라야 합니다."))
+        ;
+    }
+
+}
@@ -1,23 +1,31 @@
 package sample.cafekiosk.spring.api.controller.product;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.ControllerTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
+import sample.cafekiosk.spring.api.service.product.request.ProductSearchServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductPageResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
@@ -176,7 +184,7 @@ class ProductControllerTest extends ControllerTestSupport {
         // given
         List<ProductResponse> result = List.of();
 
-        when(productService.getSellingProducts()).thenReturn(result);
+        when(productService.getSellingProductsSnapshot()).thenReturn(SellingProductsSnapshot.of(1L, result, objectMapper));
 
         // when // then
         // .perform(): 특정 HTTP 요청을 시뮬레이션하는 메서드
@@ -193,4 +201,158 @@ class ProductControllerTest extends ControllerTestSupport {
         ;
     }
 
+    @DisplayName("판매 상품 목록이 바뀌지 않았으면 ETag를 비교해서 본문 없이 304로 응답한다.")
+    @Test
+    void getSellingProductsNotModified() throws Exception {
+        // given
+        SellingProductsSnapshot snapshot = createSnapshot();
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/products/selling")
+                        .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag())
+            )
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+            .andExpect(content().string(""));
+    }
+
+    @DisplayName("gzip을 받을 수 있는 클라이언트에게는 미리 압축해둔 판매 상품 목록을 응답한다.")
+    @Test
+    void getSellingProductsWithGzip() throws Exception {
+        // given
+        SellingProductsSnapshot snapshot = createSnapshot();
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        // when
+        byte[] body = mockMvc.perform(
+                get("/api/v1/products/selling")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, gzipETag(snapshot)))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // then
+        try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            JsonNode response = objectMapper.readTree(gzipIn);
+            assertEquals(200, response.get("code").asInt());
+            assertEquals("001", response.get("data").get(0).get("productNumber").asText());
+        }
+    }
+
+    @DisplayName("gzip 압축본의 ETag로 다시 요청하면 304로 응답하고, 원본 JSON의 ETag와는 구분한다.")
+    @Test
+    void getSellingProductsNotModifiedWithGzip() throws Exception {
+        // given
+        SellingProductsSnapshot snapshot = createSnapshot();
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/products/selling")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipETag(snapshot))
+            )
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, gzipETag(snapshot)));
+
+        mockMvc.perform(
+                get("/api/v1/products/selling")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag())
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.ETAG, gzipETag(snapshot)));
+    }
+
+    @DisplayName("gzip의 q값이 0이면 압축하지 않은 판매 상품 목록을 응답한다.")
+    @Test
+    void getSellingProductsWithGzipNotAcceptable() throws Exception {
+        // given
+        SellingProductsSnapshot snapshot = createSnapshot();
+        when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/products/selling")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(header().string(HttpHeaders.ETAG, snapshot.getETag()))
+            .andExpect(jsonPath("$.data[0].productNumber").value("001"));
+    }
+
+    @DisplayName("상품 목록을 상품 타입과 판매상태로 걸러서 페이지 단위로 조회한다.")
+    @Test
+    void getProducts() throws Exception {
+        // given
+        when(productService.getProducts(any(ProductSearchServiceRequest.class))).thenReturn(ProductPageResponse.builder()
+                .products(List.of())
+                .nextCursor(null)
+                .hasNext(false)
+                .build());
+
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/products")
+                        .param("types", "HANDMADE", "BAKERY")
+                        .param("sellingStatuses", "SELLING")
+                        .param("cursor", "100")
+                        .param("size", "20")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value("200"))
+            .andExpect(jsonPath("$.data.products").isArray())
+            .andExpect(jsonPath("$.data.hasNext").value(false))
+        ;
+    }
+
+    @DisplayName("상품 목록을 페이지 단위로 조회할 때 페이지 크기는 100 이하여야 한다.")
+    @Test
+    void getProductsWithTooLargeSize() throws Exception {
+        // when // then
+        mockMvc.perform(
+                get("/api/v1/products")
+                        .param("size", "101")
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("400"))
+            .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+            .andExpect(jsonPath("$.message").value("페이지 크기는 100 이하여야 합니다."))
+            .andExpect(jsonPath("$.data").isEmpty())
+        ;
+    }
+
+    private String gzipETag(SellingProductsSnapshot snapshot) {
+        String eTag = snapshot.getETag();
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    private SellingProductsSnapshot createSnapshot() {
+        return SellingProductsSnapshot.of(1L, List.of(
+                ProductResponse.builder()
+                        .id(1L)
+                        .productNumber("001")
+                        .type(ProductType.HANDMADE)
+                        .sellingStatus(ProductSellingStatus.SELLING)
+                        .name("아메리카노")
+                        .price(4000)
+                        .build()
+        ), objectMapper);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.controller.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportError;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProductImportControllerTest extends ControllerTestSupport {
+
+    @DisplayName("CSV로 상품을 일괄 등록하면 신규 상품 등록과 같은 규칙으로 검증한 결과를 줄 번호와 함께 응답한다.")
+    @Test
+    void importProductsFromCsv() throws Exception {
+        // given
+        String body = "type,sellingStatus,name,price\n" +
+                "HANDMADE,SELLING,아메리카노,4000\n" +
+                "\n" +
+                "HANDMADE,SELLING,\"카페라떼, 샷 추가\",4500\n" +
+                ",SELLING,크루아상,3500\n" +
+                "BAKERY,SELLING,케이크,-1000\n";
+        givenImportReportsRows();
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/products/import")
+                                .content(body.getBytes(StandardCharsets.UTF_8))
+                                .contentType("text/csv")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(4))
+                .andExpect(jsonPath("$.data.importedCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(2))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(5))
+                .andExpect(jsonPath("$.data.errors[0].message").value("상품 타입은 필수입니다."))
+                .andExpect(jsonPath("$.data.errors[1].lineNumber").value(6))
+                .andExpect(jsonPath("$.data.errors[1].message").value("상품 가격은 양수여야 합니다."));
+    }
+
+    @DisplayName("NDJSON으로 상품을 일괄 등록할 때 읽을 수 없는 줄은 실패한 줄로 응답한다.")
+    @Test
+    void importProductsFromNdjson() throws Exception {
+        // given
+        String body = "{\"type\":\"HANDMADE\",\"sellingStatus\":\"SELLING\",\"name\":\"아메리카노\",\"price\":4000}\n" +
+                "{\"type\":\"COFFEE\",\"sellingStatus\":\"SELLING\",\"name\":\"카페라떼\",\"price\":4500}\n" +
+                "{\"type\":\"BAKERY\",\"sellingStatus\":\"SELLING\",\"name\":\" \",\"price\":3500}\n";
+        givenImportReportsRows();
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/products/import")
+                                .content(body.getBytes(StandardCharsets.UTF_8))
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(3))
+                .andExpect(jsonPath("$.data.importedCount").value(1))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(2))
+                .andExpect(jsonPath("$.data.errors[0].message").value("상품 정보를 읽을 수 없습니다."))
+                .andExpect(jsonPath("$.data.errors[1].lineNumber").value(3))
+                .andExpect(jsonPath("$.data.errors[1].message").value("상품 이름은 필수입니다."));
+    }
+
+    @DisplayName("상품 일괄 등록은 CSV와 NDJSON 형식만 지원한다.")
+    @Test
+    void importProductsWithUnsupportedContentType() throws Exception {
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/products/import")
+                                .content("[]")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    // Service 대신 읽어온 줄들을 그대로 결과로 돌려준다. (유효한 줄은 등록된 것으로 본다.)
+    private void givenImportReportsRows() {
+        given(productImportService.importProducts(any())).willAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            long totalCount = 0;
+            long importedCount = 0;
+            List<ProductImportError> errors = new ArrayList<>();
+            while (rows.hasNext()) {
+                ProductImportRow row = rows.next();
+                totalCount++;
+                if (row.isValid()) {
+                    importedCount++;
+                } else {
+                    errors.add(ProductImportError.of(row.getLineNumber(), row.getErrorMessage()));
+                }
+            }
+            return ProductImportResponse.builder()
+                    .totalCount(totalCount)
+                    .importedCount(importedCount)
+                    .failedCount(totalCount - importedCount)
+                    .errors(errors)
+                    .build();
+        });
+    }
+
+}
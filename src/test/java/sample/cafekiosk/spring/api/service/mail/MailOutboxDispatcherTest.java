@@ -0,0 +1,209 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.client.mail.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendResult;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 테스트 프로파일에서는 dispatcher 빈이 꺼져 있으므로(cafekiosk.mail.outbox.enabled: false) 가짜 메일 클라이언트로 직접 만들어서 실행한다.
+class MailOutboxDispatcherTest extends IntegrationTestSupport {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 8, 6, 10, 0);
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private FakeMailSendClient fakeMailSendClient;
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MailProperties mailProperties = new MailProperties();
+        mailProperties.getOutbox().setBatchSize(100);
+        mailProperties.getOutbox().setParallelism(2);
+        mailProperties.getOutbox().setMaxAttempts(3);
+        mailProperties.getOutbox().setInitialBackoffMillis(1000);
+        mailProperties.getOutbox().setMaxBackoffMillis(60000);
+        mailProperties.getOutbox().setLeaseMillis(30000);
+
+        fakeMailSendClient = new FakeMailSendClient();
+        mailOutboxDispatcher = new MailOutboxDispatcher(mailSendHistoryRepository, fakeMailSendClient, mailProperties, transactionManager);
+        mailOutboxDispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxDispatcher.stop();
+        mailSendHistoryRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("전송대기 메일을 선점해서 제한된 수의 스레드로 전송하고 전송완료로 바꾼다.")
+    @Test
+    void dispatch() {
+        // given
+        mailSendHistoryRepository.saveAll(IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> createPendingMail("user" + i + "@test.com"))
+                .collect(Collectors.toList()));
+
+        // when
+        int dispatched = mailOutboxDispatcher.dispatch(NOW);
+
+        // then
+        assertThat(dispatched).isEqualTo(10);
+        assertThat(fakeMailSendClient.sentEmails).hasSize(10);
+        assertThat(fakeMailSendClient.maxConcurrentSends.get()).isLessThanOrEqualTo(2);
+        assertThat(mailSendHistoryRepository.findAll())
+                .allSatisfy(mail -> {
+                    assertThat(mail.getStatus()).isEqualTo(MailSendStatus.SENT);
+                    assertThat(mail.getAttemptCount()).isEqualTo(1);
+                    assertThat(mail.getSentDateTime()).isNotNull();
+                });
+
+        // 이미 전송한 메일은 다시 선점하지 않는다.
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusMinutes(10))).isZero();
+        assertThat(fakeMailSendClient.sentEmails).hasSize(10);
+    }
+
+    @DisplayName("전송에 실패한 메일은 시도 횟수마다 2배씩 늘어나는 대기 시간 후에 재시도하고, 최대 시도 횟수를 넘기면 전송실패로 끝낸다.")
+    @Test
+    void dispatchWithExponentialBackoff() {
+        // given
+        MailSendHistory mail = mailSendHistoryRepository.save(createPendingMail(FakeMailSendClient.FAILING_EMAIL));
+
+        // when // then
+        assertThat(mailOutboxDispatcher.dispatch(NOW)).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findById(mail.getId())).get()
+                .extracting("status", "attemptCount", "nextAttemptDateTime")
+                .containsExactly(MailSendStatus.PENDING, 1, NOW.plusSeconds(1));
+
+        // 재시도 시각 전에는 선점하지 않는다.
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusNanos(999_000_000))).isZero();
+
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusSeconds(1))).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findById(mail.getId())).get()
+                .extracting("status", "attemptCount", "nextAttemptDateTime")
+                .containsExactly(MailSendStatus.PENDING, 2, NOW.plusSeconds(1 + 2));
+
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusSeconds(3))).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findById(mail.getId())).get()
+                .extracting("status", "attemptCount", "nextAttemptDateTime", "lastError")
+                .containsExactly(MailSendStatus.FAILED, 3, null, "메일 서버 응답 없음");
+
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusHours(1))).isZero();
+        assertThat(fakeMailSendClient.attempts.get()).isEqualTo(3);
+    }
+
+    @DisplayName("다른 dispatcher가 선점한 메일은 기다리지 않고 건너뛰고, 선점 시간이 지나도록 결과가 없으면 다시 선점해서 전송한다.")
+    @Test
+    void dispatchSkipsClaimedMails() {
+        // given
+        mailSendHistoryRepository.saveAll(List.of(
+                createPendingMail("user1@test.com"),
+                createPendingMail("user2@test.com")
+        ));
+        List<Long> claimedByOther = mailSendHistoryRepository.claimForDispatch(NOW, NOW.plusSeconds(30), 1);
+
+        // when
+        int dispatched = mailOutboxDispatcher.dispatch(NOW);
+
+        // then
+        assertThat(claimedByOther).hasSize(1);
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(fakeMailSendClient.sentEmails).containsExactly("user2@test.com");
+
+        // 다른 dispatcher가 선점 시간(30초) 안에 결과를 남기지 못했다.
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusSeconds(30))).isEqualTo(1);
+        assertThat(fakeMailSendClient.sentEmails).containsExactly("user2@test.com", "user1@test.com");
+        assertThat(mailSendHistoryRepository.findAll())
+                .extracting("toEmail", "status", "attemptCount")
+                .containsExactlyInAnyOrder(
+                        tuple("user1@test.com", MailSendStatus.SENT, 2),
+                        tuple("user2@test.com", MailSendStatus.SENT, 1)
+                );
+    }
+
+    @DisplayName("전송이 선점 시간보다 오래 걸려 다른 dispatcher가 다시 선점해서 보냈다면, 늦게 끝난 전송 결과로 덮어쓰지 않는다.")
+    @Test
+    void dispatchIgnoresResultAfterLeaseExpired() {
+        // given
+        MailSendHistory mail = mailSendHistoryRepository.save(createPendingMail(FakeMailSendClient.FAILING_EMAIL));
+
+        // 첫 번째 전송이 끝나기 전에 선점 시간(30초)이 지나고, 다른 dispatcher가 다시 선점해서 전송에 성공했다.
+        LocalDateTime otherDispatchTime = NOW.plusSeconds(30);
+        fakeMailSendClient.onSend = () -> {
+            List<Long> reclaimedIds = mailSendHistoryRepository.claimForDispatch(otherDispatchTime, otherDispatchTime.plusSeconds(30), 10);
+            MailSendHistory reclaimed = mailSendHistoryRepository.findById(reclaimedIds.get(0)).orElseThrow();
+            mailSendHistoryRepository.recordResults(List.of(MailSendResult.sent(reclaimed, otherDispatchTime)));
+        };
+
+        // when
+        int dispatched = mailOutboxDispatcher.dispatch(NOW);
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(mailSendHistoryRepository.findById(mail.getId())).get()
+                .extracting("status", "attemptCount", "sentDateTime", "lastError")
+                .containsExactly(MailSendStatus.SENT, 2, otherDispatchTime, null);
+        assertThat(mailOutboxDispatcher.dispatch(NOW.plusHours(1))).isZero();
+    }
+
+    private MailSendHistory createPendingMail(String toEmail) {
+        return MailSendHistory.pending("no-reply@cafekiosk.com", toEmail, "[매출통계] 2024-08-06", "총 매출 합계는 12000원입니다.", NOW);
+    }
+
+    // 실제 메일 서버 대신 사용하는 가짜 클라이언트 (FAILING_EMAIL로 가는 메일은 항상 실패한다.)
+    private static class FakeMailSendClient extends MailSendClient {
+
+        private static final String FAILING_EMAIL = "fail@test.com";
+
+        private final Queue<String> sentEmails = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger concurrentSends = new AtomicInteger();
+        private final AtomicInteger maxConcurrentSends = new AtomicInteger();
+        private volatile Runnable onSend = () -> {
+        };
+
+        @Override
+        public boolean sendEmail(String fromEmail, String toEmail, String subject, String content) {
+            attempts.incrementAndGet();
+            onSend.run();
+            maxConcurrentSends.accumulateAndGet(concurrentSends.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20); // 느린 메일 서버
+                if (FAILING_EMAIL.equals(toEmail)) {
+                    throw new IllegalStateException("메일 서버 응답 없음");
+                }
+                sentEmails.add(toEmail);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                concurrentSends.decrementAndGet();
+            }
+        }
+    }
+
+}
@@ -8,6 +8,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,4 +68,21 @@ class MailServiceTest {
         verify(mailSendHistoryRepository, times(1)).save(any(MailSendHistory.class));
     }
 
-}
\ No newline at end of file
+    @DisplayName("메일을 outbox에 전송대기로 저장하고, 메일 서버로는 바로 보내지 않는다.")
+    @Test
+    void enqueueMail() {
+        // given
+        BDDMockito.given(mailSendHistoryRepository.save(any(MailSendHistory.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        MailSendHistory history = mailService.enqueueMail("from@test.com", "to@test.com", "제목", "내용");
+
+        // then
+        assertThat(history.getStatus()).isEqualTo(MailSendStatus.PENDING);
+        assertThat(history.getAttemptCount()).isZero();
+        assertThat(history.getNextAttemptDateTime()).isNotNull();
+        verify(mailSendClient, never()).sendEmail(anyString(), anyString(), anyString(), anyString());
+    }
+
+}
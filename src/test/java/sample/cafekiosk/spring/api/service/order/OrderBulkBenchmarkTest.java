@@ -0,0 +1,104 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.benchmark.BenchmarkResult;
+import sample.cafekiosk.spring.benchmark.ConcurrentBenchmark;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class OrderBulkBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int CLIENTS = 8;
+    private static final int ORDERS = 4_000;
+    private static final int BULK_SIZE = 50;
+
+    private static final OrderCreateServiceRequest REQUEST = OrderCreateServiceRequest.builder()
+            .productNumbers(List.of("001", "002", "003"))
+            .build();
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("같은 수의 주문을 단건 요청으로 보낼 때와 일괄 요청으로 보낼 때의 주문 처리량을 비교한다.")
+    @Test
+    void compareSingleAndBulk() {
+        // given
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(BAKERY, "002", 3000),
+                createProduct(HANDMADE, "003", 5000)
+        ));
+        stockRepository.saveAll(List.of(Stock.create("001", 1_000_000), Stock.create("002", 1_000_000)));
+
+        List<OrderCreateServiceRequest> bulkRequests = Collections.nCopies(BULK_SIZE, REQUEST);
+
+        // when
+        BenchmarkResult single = ConcurrentBenchmark.run("single", CLIENTS, ORDERS,
+                () -> orderFacade.createOrder(REQUEST, LocalDateTime.now()));
+        BenchmarkResult bulk = ConcurrentBenchmark.run("bulk-" + BULK_SIZE, CLIENTS, ORDERS / BULK_SIZE,
+                () -> orderFacade.createOrders(bulkRequests, LocalDateTime.now()));
+
+        // then
+        double singleOrdersPerSecond = single.getThroughput();
+        double bulkOrdersPerSecond = bulk.getThroughput() * BULK_SIZE;
+        System.out.printf("orders/s single=%.1f bulk=%.1f (x%.2f)%n",
+                singleOrdersPerSecond, bulkOrdersPerSecond, bulkOrdersPerSecond / singleOrdersPerSecond);
+
+        assertThat(orderRepository.count()).isEqualTo(ORDERS * 2L - single.getErrors() - bulk.getErrors() * (long) BULK_SIZE);
+        assertThat(bulkOrdersPerSecond).isGreaterThan(singleOrdersPerSecond);
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .type(type)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,105 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderExportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 안의 주문을 한 번 읽어서 합계 누적과 CSV 쓰기 파이프라인에 순서대로 흘려보낸다.")
+    @Test
+    void forEachOrder() {
+        // given
+        Product product1 = createProduct("001", 1000);
+        Product product2 = createProduct("002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Order order1 = createOrder(List.of(product1, product2), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 0, 0));
+        Order order2 = createOrder(List.of(product2), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 6, 23, 59, 59));
+        createOrder(List.of(product1), OrderStatus.CANCELED, LocalDateTime.of(2023, 3, 5, 12, 0));
+        createOrder(List.of(product1), OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 7, 0, 0));
+
+        OrderTotalsAccumulator totals = new OrderTotalsAccumulator();
+        StringWriter csv = new StringWriter();
+
+        // when
+        long count = orderExportService.forEachOrder(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 6),
+                OrderStatus.PAYMENT_COMPLETED, totals.andThen(new OrderCsvWriter(csv)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(totals.getOrderCount()).isEqualTo(2);
+        assertThat(totals.getTotalAmount()).isEqualTo(7000);
+        assertThat(csv.toString().split("\n")).containsExactly(
+                "id,orderStatus,totalPrice,registeredDateTime",
+                order1.getId() + ",PAYMENT_COMPLETED,4000,2023-03-05T00:00",
+                order2.getId() + ",PAYMENT_COMPLETED,3000,2023-03-06T23:59:59"
+        );
+    }
+
+    @DisplayName("주문을 스트리밍으로 조회할 때 조회 종료일은 시작일보다 빠를 수 없다.")
+    @Test
+    void forEachOrderWithInvalidPeriod() {
+        // when // then
+        assertThatThrownBy(() -> orderExportService.forEachOrder(LocalDate.of(2023, 3, 6), LocalDate.of(2023, 3, 5),
+                OrderStatus.PAYMENT_COMPLETED, new OrderTotalsAccumulator()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 종료일은 시작일보다 빠를 수 없습니다.");
+    }
+
+    private Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return orderRepository.save(Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+
+}
@@ -0,0 +1,117 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
+import sample.cafekiosk.spring.domain.stock.Stock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderFacadeTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderGroupCommitPipeline orderGroupCommitPipeline;
+
+    private OrderProperties orderProperties;
+
+    private OrderFacade orderFacade;
+
+    @BeforeEach
+    void setUp() {
+        StockProperties stockProperties = new StockProperties();
+        stockProperties.getRetry().setMaxAttempts(3);
+        stockProperties.getRetry().setBackoffMillis(0);
+        orderProperties = new OrderProperties();
+        orderFacade = new OrderFacade(orderService, orderGroupCommitPipeline, new VersionConflictRetrier(stockProperties), orderProperties);
+    }
+
+    @DisplayName("재고 버전 충돌이 발생하면 주문 생성을 다시 시도한다.")
+    @Test
+    void createOrderWithRetry() {
+        // given
+        OrderResponse orderResponse = OrderResponse.builder().id(1L).build();
+        given(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Stock.class, 1L))
+                .willReturn(orderResponse);
+
+        // when
+        OrderResponse result = orderFacade.createOrder(createRequest(), LocalDateTime.now());
+
+        // then
+        assertThat(result).isSameAs(orderResponse);
+        verify(orderService, times(2)).createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class));
+    }
+
+    @DisplayName("재고 버전 충돌이 최대 시도 횟수만큼 발생하면 예외가 발생한다.")
+    @Test
+    void createOrderWithRetryExhausted() {
+        // given
+        given(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Stock.class, 1L));
+
+        // when // then
+        assertThatThrownBy(() -> orderFacade.createOrder(createRequest(), LocalDateTime.now()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(orderService, times(3)).createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class));
+    }
+
+    @DisplayName("그룹 커밋 모드에서 주문 결과를 대기 시간 안에 받지 못하면 주문을 취소하고 대기 시간 초과 예외가 발생한다.")
+    @Test
+    void createOrderByGroupCommitWithTimeout() {
+        // given
+        orderProperties.getGroupCommit().setEnabled(true);
+        orderProperties.getGroupCommit().setResultTimeoutMillis(50);
+        CompletableFuture<OrderResponse> neverCompleted = new CompletableFuture<>();
+        given(orderGroupCommitPipeline.submit(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willReturn(neverCompleted);
+
+        // when // then
+        assertThatThrownBy(() -> orderFacade.createOrder(createRequest(), LocalDateTime.now()))
+                .isInstanceOf(OrderGroupCommitTimeoutException.class)
+                .hasMessage("주문 처리 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(neverCompleted).isCancelled();
+    }
+
+    @DisplayName("그룹 커밋 모드에서 주문이 실패하면 파이프라인이 완료시킨 예외를 그대로 던진다.")
+    @Test
+    void createOrderByGroupCommitWithFailure() {
+        // given
+        orderProperties.getGroupCommit().setEnabled(true);
+        CompletableFuture<OrderResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+        given(orderGroupCommitPipeline.submit(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willReturn(failed);
+
+        // when // then
+        assertThatThrownBy(() -> orderFacade.createOrder(createRequest(), LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+    }
+
+    private OrderCreateServiceRequest createRequest() {
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+    }
+
+}
@@ -0,0 +1,218 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class OrderGroupCommitPipelineTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    private OrderGroupCommitPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.getGroupCommit().setEnabled(true);
+        orderProperties.getGroupCommit().setMaxWaitMillis(20);
+        pipeline = new OrderGroupCommitPipeline(orderService, createRetrier(), orderProperties);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("동시에 들어온 주문들을 모아서 처리하고, 각 주문은 자신의 결과를 받는다.")
+    @Test
+    void submit() throws InterruptedException {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(HANDMADE, "002", 3000)
+        ));
+        stockRepository.save(Stock.create("001", 10));
+
+        // when
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(pipeline.submit(createRequest("001", "002"), registeredDateTime));
+        }
+
+        // then
+        int successCount = 0;
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<OrderResponse> future : futures) {
+            try {
+                OrderResponse orderResponse = future.get(10, TimeUnit.SECONDS);
+                assertThat(orderResponse.getTotalPrice()).isEqualTo(4000);
+                successCount++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            } catch (TimeoutException e) {
+                throw new AssertionError("주문 결과를 받지 못했습니다.", e);
+            }
+        }
+
+        assertThat(successCount).isEqualTo(10);
+        assertThat(failures).hasSize(10)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("재고가 부족한 상품이 있습니다."));
+        assertThat(orderRepository.count()).isEqualTo(10);
+        assertThat(stockRepository.findAll()).hasSize(1)
+                .extracting("productNumber", "quantity")
+                .containsExactly(tuple("001", 0));
+    }
+
+    @DisplayName("존재하지 않는 상품이 포함된 주문은 실패하고, 같은 배치의 다른 주문은 성공한다.")
+    @Test
+    void submitWithUnknownProduct() throws Exception {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        productRepository.save(createProduct(HANDMADE, "001", 1000));
+
+        // when
+        CompletableFuture<OrderResponse> success = pipeline.submit(createRequest("001"), registeredDateTime);
+        CompletableFuture<OrderResponse> failure = pipeline.submit(createRequest("001", "999"), registeredDateTime);
+
+        // then
+        assertThat(success.get(10, TimeUnit.SECONDS).getTotalPrice()).isEqualTo(1000);
+        assertThat(failure).failsWithin(10, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalArgumentException.class)
+                .withMessageContaining("존재하지 않는 상품이 포함되어 있습니다.");
+    }
+
+    @DisplayName("배치 트랜잭션이 실패한 뒤 주문을 하나씩 다시 처리할 때도 재고 버전 충돌이 나면 다시 시도한다.")
+    @Test
+    void submitWithVersionConflictInFallback() throws Exception {
+        // given
+        OrderService failingOrderService = mock(OrderService.class);
+        OrderResponse orderResponse = OrderResponse.builder().id(1L).build();
+        given(failingOrderService.createOrders(anyList(), anyList()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Stock.class, 1L));
+        given(failingOrderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Stock.class, 1L))
+                .willReturn(orderResponse);
+
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.getGroupCommit().setEnabled(true);
+        OrderGroupCommitPipeline fallbackPipeline = new OrderGroupCommitPipeline(failingOrderService, createRetrier(), orderProperties);
+        fallbackPipeline.start();
+
+        try {
+            // when
+            CompletableFuture<OrderResponse> future = fallbackPipeline.submit(createRequest("001"), LocalDateTime.now());
+
+            // then
+            assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(orderResponse);
+            verify(failingOrderService, times(2)).createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class));
+        } finally {
+            fallbackPipeline.stop();
+        }
+    }
+
+    @DisplayName("대기를 포기하고 취소된 주문은 배치에 넣지 않는다.")
+    @Test
+    void submitCancelledBeforeCommit() throws Exception {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        productRepository.save(createProduct(HANDMADE, "001", 1000));
+
+        OrderProperties orderProperties = new OrderProperties();
+        orderProperties.getGroupCommit().setEnabled(true);
+        orderProperties.getGroupCommit().setMaxWaitMillis(500);
+        OrderGroupCommitPipeline slowPipeline = new OrderGroupCommitPipeline(orderService, createRetrier(), orderProperties);
+        slowPipeline.start();
+
+        try {
+            // when
+            CompletableFuture<OrderResponse> cancelled = slowPipeline.submit(createRequest("001"), registeredDateTime);
+            cancelled.cancel(false);
+            CompletableFuture<OrderResponse> success = slowPipeline.submit(createRequest("001"), registeredDateTime);
+
+            // then
+            assertThat(success.get(10, TimeUnit.SECONDS).getTotalPrice()).isEqualTo(1000);
+            assertThat(orderRepository.count()).isEqualTo(1);
+        } finally {
+            slowPipeline.stop();
+        }
+    }
+
+    private VersionConflictRetrier createRetrier() {
+        StockProperties stockProperties = new StockProperties();
+        stockProperties.getRetry().setBackoffMillis(0);
+        return new VersionConflictRetrier(stockProperties);
+    }
+
+    private OrderCreateServiceRequest createRequest(String... productNumbers) {
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .type(type)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,119 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderIdempotencyCacheTest {
+
+    private final OrderIdempotencyCache orderIdempotencyCache = new OrderIdempotencyCache(new OrderProperties());
+
+    @DisplayName("같은 Idempotency-Key로 다시 요청하면 주문을 다시 생성하지 않고 처음 결과를 돌려준다.")
+    @Test
+    void executeWithSameKey() {
+        // given
+        AtomicInteger createCount = new AtomicInteger();
+
+        // when
+        OrderResponse first = orderIdempotencyCache.execute("key-1", () -> createOrderResponse(createCount.incrementAndGet()));
+        OrderResponse retried = orderIdempotencyCache.execute("key-1", () -> createOrderResponse(createCount.incrementAndGet()));
+
+        // then
+        assertThat(createCount.get()).isEqualTo(1);
+        assertThat(retried).isSameAs(first);
+        assertThat(orderIdempotencyCache.getMissCount()).isEqualTo(1);
+        assertThat(orderIdempotencyCache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("주문 생성에 실패하면 결과를 보관하지 않아서 같은 Idempotency-Key로 다시 시도할 수 있다.")
+    @Test
+    void executeAfterFailure() {
+        // given
+        orderIdempotencyCache.execute("key-1", () -> createOrderResponse(1L));
+
+        // when // then
+        assertThatThrownBy(() -> orderIdempotencyCache.execute("key-2", () -> {
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        OrderResponse response = orderIdempotencyCache.execute("key-2", () -> createOrderResponse(2L));
+        assertThat(response.getId()).isEqualTo(2L);
+        assertThat(orderIdempotencyCache.getSize()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 Idempotency-Key로 동시에 요청이 들어오면 한 번만 실행하고 나머지는 그 결과를 기다린다.")
+    @Test
+    void executeConcurrentlyWithSameKey() throws Exception {
+        // given
+        int retryCount = 8;
+        AtomicInteger createCount = new AtomicInteger();
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(retryCount + 1);
+        Future<OrderResponse> firstRequest = executorService.submit(() ->
+                orderIdempotencyCache.execute("key-1", () -> {
+                    createCount.incrementAndGet();
+                    creating.countDown();
+                    await(release);
+                    return createOrderResponse(1L);
+                })
+        );
+        creating.await(5, TimeUnit.SECONDS);
+
+        // when
+        List<Future<OrderResponse>> retriedRequests = new ArrayList<>();
+        for (int i = 0; i < retryCount; i++) {
+            retriedRequests.add(executorService.submit(() ->
+                    orderIdempotencyCache.execute("key-1", () -> createOrderResponse(createCount.incrementAndGet()))
+            ));
+        }
+        while (orderIdempotencyCache.getCoalescedCount() < retryCount) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // then
+        OrderResponse first = firstRequest.get(5, TimeUnit.SECONDS);
+        for (Future<OrderResponse> retriedRequest : retriedRequests) {
+            assertThat(retriedRequest.get(5, TimeUnit.SECONDS)).isSameAs(first);
+        }
+        assertThat(createCount.get()).isEqualTo(1);
+        assertThat(orderIdempotencyCache.getCoalescedCount()).isEqualTo(retryCount);
+
+        executorService.shutdown();
+    }
+
+    private OrderResponse createOrderResponse(long id) {
+        return OrderResponse.builder()
+                .id(id)
+                .totalPrice(4000)
+                .registeredDateTime(LocalDateTime.now())
+                .products(List.of())
+                .build();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -1,24 +1,54 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderCompactResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderCreateResult;
+import sample.cafekiosk.spring.api.service.order.response.OrderLineResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.sales.LiveSalesDashboard;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesWindowResponse;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionMode;
+import sample.cafekiosk.spring.api.service.stock.StockLockTimeoutException;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySales;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
 import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
@@ -41,9 +71,33 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private StockRepository stockRepository;
 
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private LiveSalesDashboard liveSalesDashboard;
+
+    @Autowired
+    private StockProperties stockProperties;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     // 1. 전체 테스트를 진행했을 때, createOrderWithDuplicateProductNumbers 테스트가 createOrder 테스트에 영향을 미쳐 createOrder 테스트는 실패하게 된다.
     //   -> Map을 만들면서 키에 대한 (productNumber 001 데이터) 중복이 발생한다.
     // 2. 따라서, @AfterEach문을 통해 데이터 클렌징 작업을 수행해야 한다.
@@ -58,6 +112,12 @@ class OrderServiceTest extends IntegrationTestSupport {
         productRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
         stockRepository.deleteAllInBatch();
+        stockReservationRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        productHourlySalesRepository.deleteAllInBatch();
+        stockProperties.setMode(StockDeductionMode.ENTITY);
+        stockProperties.getLock().setTimeoutMillis(3000);
 
         // ++ deleteAllInBatch()는 내부적으로 관계를 맺고 있는 객체(OrderProduct)를 직접 지워야 하지만, deleteAll()은 지우지 않아도 된다.
         //    하지만 deleteAllInBatch()은 테이블 전체를 한번에 지워주는 반면, deleteAll()은 데이터를 건건이 지우기 때문에 실행되는 쿼리가 많아 성능 상 좋지 않다.
@@ -137,6 +197,46 @@ class OrderServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("주문 후 상품 가격이 바뀌어도 주문 응답의 상품 가격과 한 줄 응답의 금액은 주문 시점 단가를 사용해 주문 총 금액과 일치한다.")
+    @Test
+    void orderResponseUsesUnitPriceAfterProductPriceChange() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        OrderResponse createdOrder = orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001", "001", "002"))
+                .build(), registeredDateTime);
+
+        product1.changePrice(1500);
+        productRepository.save(product1);
+
+        // when
+        OrderResponse orderResponse = orderService.completePayment(createdOrder.getId());
+        OrderCompactResponse compactResponse = OrderCompactResponse.of(orderResponse);
+
+        // then
+        assertThat(orderResponse.getTotalPrice()).isEqualTo(5000);
+        assertThat(orderResponse.getProducts())
+                .extracting("productNumber", "price")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 1000),
+                        tuple("001", 1000),
+                        tuple("002", 3000)
+                );
+        assertThat(compactResponse.getLines())
+                .extracting(OrderLineResponse::getProductNumber, OrderLineResponse::getUnitPrice,
+                        OrderLineResponse::getQuantity, OrderLineResponse::getLinePrice)
+                .containsExactlyInAnyOrder(
+                        tuple("001", 1000, 2, 2000),
+                        tuple("002", 3000, 1, 3000)
+                );
+        assertThat(compactResponse.getLines().stream().mapToInt(OrderLineResponse::getLinePrice).sum())
+                .isEqualTo(compactResponse.getTotalPrice());
+    }
+
     @DisplayName("재고와 관련된 상품이 포함되어 있는 주문번호 리스트를 받아 주문을 생성한다.")
     @Test
     void createOrderWithStock() {
@@ -225,6 +325,490 @@ class OrderServiceTest extends IntegrationTestSupport {
                 .hasMessage("재고가 부족한 상품이 있습니다.");
     }
     
+    @DisplayName("조건부 UPDATE 모드에서 재고와 관련된 상품이 포함되어 있는 주문번호 리스트를 받아 주문을 생성한다.")
+    @Test
+    void createOrderWithStockByConditionalUpdate() {
+        // given
+        stockProperties.setMode(StockDeductionMode.CONDITIONAL_UPDATE);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        Product product3 = createProduct(HANDMADE, "003", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        Stock stock1 = Stock.create("001", 2);
+        Stock stock2 = Stock.create("002", 2);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "001", "002", "003"))
+                .build();
+
+        // when
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        // then
+        assertThat(orderResponse.getId()).isNotNull();
+        assertThat(orderResponse.getTotalPrice()).isEqualTo(10000);
+
+        List<Stock> stocks = stockRepository.findAll();
+        assertThat(stocks).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("조건부 UPDATE 모드에서 재고가 부족한 상품이 있으면 예외가 발생하고, 다른 상품의 재고도 차감되지 않는다.")
+    @Test
+    void createOrderWithNoStockByConditionalUpdate() {
+        // given
+        stockProperties.setMode(StockDeductionMode.CONDITIONAL_UPDATE);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+
+        Stock stock1 = Stock.create("001", 1);
+        Stock stock2 = Stock.create("002", 2);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "001", "002"))
+                .build();
+
+        // when // then
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        List<Stock> stocks = stockRepository.findAll();
+        assertThat(stocks).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 1),
+                        tuple("002", 2)
+                );
+    }
+
+    @DisplayName("비관적 락 모드에서 재고와 관련된 상품이 포함되어 있는 주문번호 리스트를 받아 주문을 생성한다.")
+    @Test
+    void createOrderWithStockByPessimisticLock() {
+        // given
+        stockProperties.setMode(StockDeductionMode.PESSIMISTIC_LOCK);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        Product product1 = createProduct(BOTTLE, "001", 1000);
+        Product product2 = createProduct(BAKERY, "002", 3000);
+        Product product3 = createProduct(HANDMADE, "003", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        Stock stock1 = Stock.create("001", 2);
+        Stock stock2 = Stock.create("002", 2);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("002", "001", "001", "003"))
+                .build();
+
+        // when
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        // then
+        assertThat(orderResponse.getId()).isNotNull();
+        assertThat(orderResponse.getTotalPrice()).isEqualTo(10000);
+
+        List<Stock> stocks = stockRepository.findAll();
+        assertThat(stocks).hasSize(2)
+                .extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
+    @DisplayName("비관적 락 모드에서 다른 트랜잭션이 재고 row lock을 잡고 있으면 설정한 대기 시간이 지난 뒤 재고 잠금 대기 시간 초과로 실패한다.")
+    @Test
+    void createOrderWithStockByPessimisticLockTimeout() throws Exception {
+        // given
+        stockProperties.setMode(StockDeductionMode.PESSIMISTIC_LOCK);
+        stockProperties.getLock().setTimeoutMillis(1000);
+
+        productRepository.save(createProduct(BOTTLE, "001", 1000));
+        stockRepository.save(Stock.create("001", 2));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            // 다른 주문: 재고 row lock(SELECT ... FOR UPDATE)을 잡고 커밋하지 않는다.
+            Future<?> lockHolder = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                stockRepository.findAllByProductNumberInForUpdate(List.of("001"), 10_000);
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            OrderCreateRequest request = OrderCreateRequest.builder()
+                    .productNumbers(List.of("001"))
+                    .build();
+
+            // when
+            long startNanos = System.nanoTime();
+            Throwable thrown = catchThrowable(() -> orderService.createOrder(request.toServiceRequest(), LocalDateTime.now()));
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            release.countDown();
+            lockHolder.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(thrown).isInstanceOf(StockLockTimeoutException.class)
+                    .hasMessage("재고 잠금 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+            assertThat(waitedMillis).isBetween(900L, 5_000L);
+            assertThat(stockRepository.findAll()).extracting("quantity")
+                    .containsExactly(2);
+            assertThat(orderRepository.count()).isZero();
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("비관적 락 모드에서 같은 상품들을 서로 다른 순서로 담은 주문이 동시에 들어와도 상품번호 순으로 잠그므로 교착 없이 모두 생성된다.")
+    @Test
+    void createOrdersConcurrentlyWithStockByPessimisticLock() throws Exception {
+        // given
+        stockProperties.setMode(StockDeductionMode.PESSIMISTIC_LOCK);
+        int ordersPerThread = 20;
+
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(BAKERY, "002", 3000)
+        ));
+        stockRepository.saveAll(List.of(Stock.create("001", 100), Stock.create("002", 100)));
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            List<Future<?>> futures = Stream.of(List.of("001", "002"), List.of("002", "001"))
+                    .map(productNumbers -> executorService.submit(() -> {
+                        startLatch.await();
+                        for (int i = 0; i < ordersPerThread; i++) {
+                            orderService.createOrder(OrderCreateServiceRequest.builder()
+                                    .productNumbers(productNumbers)
+                                    .build(), LocalDateTime.now());
+                        }
+                        return null;
+                    }))
+                    .collect(Collectors.toList());
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        assertThat(orderRepository.count()).isEqualTo(ordersPerThread * 2);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 60),
+                        tuple("002", 60)
+                );
+    }
+
+    @DisplayName("재고 예약 모드에서 주문을 생성하면 재고는 예약만 되고, 결제 완료 시 예약한 수량만큼 차감된다.")
+    @Test
+    void createOrderWithStockReservationAndCompletePayment() {
+        // given
+        stockProperties.setMode(StockDeductionMode.RESERVATION);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(HANDMADE, "002", 3000)
+        ));
+        stockRepository.save(Stock.create("001", 3));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "001", "002"))
+                .build();
+
+        // when
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        // then
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity", "reservedQuantity")
+                .containsExactly(tuple("001", 3, 2));
+        assertThat(stockReservationRepository.findAll()).extracting("orderId", "productNumber", "quantity", "status")
+                .containsExactly(tuple(orderResponse.getId(), "001", 2, StockReservationStatus.RESERVED));
+
+        // when
+        OrderResponse paidOrderResponse = orderService.completePayment(orderResponse.getId());
+
+        // then
+        assertThat(paidOrderResponse.getOrderStatus()).isEqualByComparingTo(OrderStatus.PAYMENT_COMPLETED);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity", "reservedQuantity")
+                .containsExactly(tuple("001", 1, 0));
+        assertThat(stockReservationRepository.findAll()).extracting("status")
+                .containsExactly(StockReservationStatus.CONFIRMED);
+    }
+
+    @DisplayName("주문이 결제완료되면 주문 등록 일자와 시간대의 매출 집계에 주문 금액이 더해진다.")
+    @Test
+    void completePaymentAddsSales() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+        productRepository.saveAll(List.of(
+                createProduct(HANDMADE, "001", 1000),
+                createProduct(HANDMADE, "002", 3000)
+        ));
+
+        OrderResponse order1 = orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001", "002"))
+                .build(), registeredDateTime);
+        OrderResponse order2 = orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("002"))
+                .build(), registeredDateTime.plusHours(1));
+        OrderResponse order3 = orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001"))
+                .build(), registeredDateTime);
+
+        // when
+        orderService.completePayment(order1.getId());
+        orderService.completePayment(order2.getId());
+        orderService.cancelOrder(order3.getId());
+
+        // then
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactly(tuple(registeredDateTime.toLocalDate(), 2L, 7000L));
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(registeredDateTime.toLocalDate()))
+                .extracting(HourlySales::getSalesHour, HourlySales::getOrderCount, HourlySales::getTotalAmount)
+                .containsExactly(
+                        tuple(10, 1L, 4000L),
+                        tuple(11, 1L, 3000L)
+                );
+        assertThat(productHourlySalesRepository.findAll())
+                .extracting(ProductHourlySales::getSalesHour, ProductHourlySales::getProductNumber, ProductHourlySales::getProductType,
+                        ProductHourlySales::getQuantity, ProductHourlySales::getTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(10, "001", HANDMADE, 1L, 1000L),
+                        tuple(10, "002", HANDMADE, 1L, 3000L),
+                        tuple(11, "002", HANDMADE, 1L, 3000L)
+                );
+    }
+
+    @DisplayName("주문이 생성되거나 결제완료되면 커밋 후 실시간 매출 대시보드에 반영되고, 생성에 실패한 주문은 반영되지 않는다.")
+    @Test
+    void createOrderAndCompletePaymentRecordLiveSales() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(BOTTLE, "002", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+        stockRepository.save(Stock.create("002", 0));
+
+        LiveSalesWindowResponse before = liveSalesDashboard.getLiveSales(60 * 60);
+
+        // when
+        OrderResponse order = orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("001", "001"))
+                .build(), registeredDateTime);
+        orderService.completePayment(order.getId());
+        assertThatThrownBy(() -> orderService.createOrder(OrderCreateServiceRequest.builder()
+                .productNumbers(List.of("002"))
+                .build(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        LiveSalesWindowResponse after = liveSalesDashboard.getLiveSales(60 * 60);
+        assertThat(after.getOrderCount() - before.getOrderCount()).isEqualTo(1);
+        assertThat(after.getOrderAmount() - before.getOrderAmount()).isEqualTo(2000);
+        assertThat(after.getPaidOrderCount() - before.getPaidOrderCount()).isEqualTo(1);
+        assertThat(after.getRevenue() - before.getRevenue()).isEqualTo(2000);
+    }
+
+    @DisplayName("재고 예약 모드에서 다른 주문이 예약한 재고는 주문할 수 없고, 주문이 취소되면 다시 주문할 수 있다.")
+    @Test
+    void createOrderWithStockReservationAndCancel() {
+        // given
+        stockProperties.setMode(StockDeductionMode.RESERVATION);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        productRepository.save(createProduct(BAKERY, "001", 3000));
+        stockRepository.save(Stock.create("001", 1));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001"))
+                .build();
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        // when
+        OrderResponse canceledOrderResponse = orderService.cancelOrder(orderResponse.getId());
+
+        // then
+        assertThat(canceledOrderResponse.getOrderStatus()).isEqualByComparingTo(OrderStatus.CANCELED);
+        assertThat(stockRepository.findAll()).extracting("quantity", "reservedQuantity")
+                .containsExactly(tuple(1, 0));
+        assertThat(orderService.createOrder(request.toServiceRequest(), registeredDateTime).getId()).isNotNull();
+    }
+
+    @DisplayName("재고 예약이 만료되면 결제 대기 중인 주문은 취소되고 예약이 풀린다.")
+    @Test
+    void expireOrder() {
+        // given
+        stockProperties.setMode(StockDeductionMode.RESERVATION);
+
+        productRepository.save(createProduct(BOTTLE, "001", 1000));
+        stockRepository.save(Stock.create("001", 2));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(List.of("001", "001"))
+                .build();
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), LocalDateTime.now());
+
+        // when
+        orderService.expireOrder(orderResponse.getId());
+
+        // then
+        assertThat(orderRepository.findById(orderResponse.getId()).orElseThrow().getOrderStatus())
+                .isEqualByComparingTo(OrderStatus.CANCELED);
+        assertThat(stockRepository.findAll()).extracting("quantity", "reservedQuantity")
+                .containsExactly(tuple(2, 0));
+        assertThat(stockReservationRepository.findAll()).extracting("status")
+                .containsExactly(StockReservationStatus.EXPIRED);
+    }
+
+    @DisplayName("여러 주문을 한 번에 생성할 때 재고가 부족한 주문만 실패하고 나머지 주문은 생성된다.")
+    @Test
+    void createOrders() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(BAKERY, "002", 3000),
+                createProduct(HANDMADE, "003", 5000)
+        ));
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        List<OrderCreateServiceRequest> requests = List.of(
+                OrderCreateServiceRequest.builder().productNumbers(List.of("001", "002")).build(),
+                OrderCreateServiceRequest.builder().productNumbers(List.of("002", "003")).build(), // 002 재고 부족
+                OrderCreateServiceRequest.builder().productNumbers(List.of("001", "003")).build()
+        );
+
+        // when
+        List<OrderCreateResult> results = orderService.createOrders(requests, registeredDateTime);
+
+        // then
+        assertThat(results).extracting("success", "errorMessage")
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(false, "재고가 부족한 상품이 있습니다."),
+                        tuple(true, null)
+                );
+        assertThat(results.get(0).getOrder().getRegisteredDateTime()).isEqualTo(registeredDateTime);
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 0)
+                );
+    }
+
+    @DisplayName("재고 예약 모드에서 여러 주문을 한 번에 생성할 때 재고가 부족한 주문만 실패하고 나머지 주문은 예약과 함께 커밋된다.")
+    @Test
+    void createOrdersWithStockReservation() {
+        // given
+        stockProperties.setMode(StockDeductionMode.RESERVATION);
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(BAKERY, "002", 3000)
+        ));
+        stockRepository.saveAll(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        List<OrderCreateServiceRequest> requests = List.of(
+                OrderCreateServiceRequest.builder().productNumbers(List.of("001", "002")).build(),
+                OrderCreateServiceRequest.builder().productNumbers(List.of("002")).build(), // 002 재고 부족
+                OrderCreateServiceRequest.builder().productNumbers(List.of("001")).build()
+        );
+
+        // when
+        List<OrderCreateResult> results = orderService.createOrders(requests, registeredDateTime);
+
+        // then
+        assertThat(results).extracting("success", "errorMessage")
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(false, "재고가 부족한 상품이 있습니다."),
+                        tuple(true, null)
+                );
+        assertThat(orderRepository.count()).isEqualTo(2);
+        assertThat(stockRepository.findAll()).extracting("productNumber", "quantity", "reservedQuantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 2, 2),
+                        tuple("002", 1, 1)
+                );
+        assertThat(stockReservationRepository.findAll()).extracting("productNumber", "quantity", "status")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 1, StockReservationStatus.RESERVED),
+                        tuple("002", 1, StockReservationStatus.RESERVED),
+                        tuple("001", 1, StockReservationStatus.RESERVED)
+                );
+    }
+
+    @DisplayName("주문 상품 10개짜리 주문을 생성할 때 주문 상품 INSERT는 JDBC batch 한 번으로 나간다.")
+    @Test
+    void createOrderWithBatchInsert() {
+        // given
+        List<String> productNumbers = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> String.format("%03d", i))
+                .collect(Collectors.toList());
+        productRepository.saveAll(productNumbers.stream()
+                .map(productNumber -> createProduct(HANDMADE, productNumber, 1000))
+                .collect(Collectors.toList()));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNumbers(productNumbers)
+                .build();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        orderService.createOrder(request.toServiceRequest(), LocalDateTime.now());
+
+        // then
+        // 상품 조회 1 + 재고 조회 1 + 시퀀스 조회 최대 2 + 주문 INSERT 1 + 주문 상품 INSERT batch 1
+        // (IDENTITY 전략이었다면 주문 상품 INSERT만 10번)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(11);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
     private Product createProduct(ProductType type, String productNumber, int price) {
         return Product.builder()
                 .type(type)
@@ -0,0 +1,146 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogChangedEvent;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+// 테스트 프로파일은 상품 캐시를 끄기 때문에, 주문 생성 시 캐시된(준영속) 상품을 사용하는 경로는 여기서 캐시를 켜고 검증한다.
+@TestPropertySource(properties = "cafekiosk.product.cache.enabled=true")
+class OrderServiceWithProductCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productCatalogCache.invalidateAll();
+    }
+
+    @DisplayName("캐시된 상품 하나를 여러 스레드의 주문이 함께 사용해도 주문이 모두 생성되고, 주문 상품은 같은 상품을 참조한다.")
+    @Test
+    void createOrdersConcurrentlyWithCachedProducts() throws Exception {
+        // given
+        Product americano = createProduct("001", 4000);
+        Product latte = createProduct("002", 4500);
+        productRepository.saveAll(List.of(americano, latte));
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+
+        orderService.createOrder(createRequest("001", "002"), registeredDateTime); // 캐시에 올린다.
+        long loadCount = productCatalogCache.getLoadCount();
+
+        // when
+        int orderCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<OrderResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < orderCount; i++) {
+                futures.add(executorService.submit(() -> orderService.createOrder(createRequest("001", "001", "002"), registeredDateTime)));
+            }
+
+            // then
+            for (Future<OrderResponse> future : futures) {
+                assertThat(future.get().getTotalPrice()).isEqualTo(12500);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(productCatalogCache.getLoadCount()).isEqualTo(loadCount); // 캐시에 올린 뒤로는 상품 테이블을 조회하지 않았다.
+        assertThat(orderRepository.count()).isEqualTo(1 + orderCount);
+        assertThat(orderProductRepository.findAll())
+                .extracting(orderProduct -> orderProduct.getProduct().getId())
+                .containsOnly(americano.getId(), latte.getId());
+    }
+
+    @DisplayName("상품 가격 변경이 커밋되면 캐시에서 제거되어 다음 주문은 새 가격을 사용하고, 이미 등록된 주문의 금액은 바뀌지 않는다.")
+    @Test
+    void createOrderAfterProductPriceChangeCommitted() {
+        // given
+        productRepository.save(createProduct("001", 4000));
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+        OrderResponse firstOrder = orderService.createOrder(createRequest("001"), registeredDateTime);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = productRepository.findAllByProductNumberIn(List.of("001")).get(0);
+            product.changePrice(5000);
+            eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of("001")));
+
+            // 커밋 전에는 캐시를 비우지 않는다. (다른 주문이 변경 전 상품을 다시 올리지 않도록 커밋 후 무효화)
+            assertThat(productCatalogCache.getProductMapBy(List.of("001")).get("001").getPrice()).isEqualTo(4000);
+        });
+        OrderResponse secondOrder = orderService.createOrder(createRequest("001"), registeredDateTime.plusMinutes(1));
+
+        // then
+        assertThat(secondOrder.getTotalPrice()).isEqualTo(5000);
+        assertThat(orderRepository.findById(firstOrder.getId())).get()
+                .extracting("totalPrice")
+                .isEqualTo(4000);
+        assertThat(orderProductRepository.findAll())
+                .extracting(OrderProduct::getUnitPrice)
+                .containsExactlyInAnyOrder(4000, 5000);
+    }
+
+    private OrderCreateServiceRequest createRequest(String... productNumbers) {
+        return OrderCreateServiceRequest.builder()
+                .productNumbers(List.of(productNumbers))
+                .build();
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+
+}
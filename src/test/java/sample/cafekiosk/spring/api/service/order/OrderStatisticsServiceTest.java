@@ -7,9 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.SalesGroupBy;
+import sample.cafekiosk.spring.api.service.order.request.SalesStatisticsServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.SalesBreakdownResponse;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
 import sample.cafekiosk.spring.client.mail.MailSendClient;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailSendStatus;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderRepository;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
@@ -17,12 +22,15 @@ import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -47,6 +55,9 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
     // 테스트를 수행할 때마다 메일 전송이 되면 번거롭고, 시간과 비용이 낭비된다.
     // 이를 해결하기 위해 Mocking을 사용하여 MailSendClient를 MockBean으로 등록한다.
     // * Mocking이 잘 동작하는지 확인하기 위해 MailSendClient 클래스의 sendEmail()에 도달하면 예외가 발생해서 테스트가 실패하도록 설정했다.
@@ -59,6 +70,7 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
     }
 
     @DisplayName("결제완료 주문들을 조회하여 매출 통계 메일을 전송한다.")
@@ -95,6 +107,145 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
                 .contains("총 매출 합계는 12000원입니다.");
     }
 
+    @DisplayName("매출 통계 메일은 요청 스레드에서 보내지 않고 outbox에 전송대기로 저장하므로, 메일 서버가 실패해도 요청은 성공한다.")
+    @Test
+    void sendOrderStatisticsMailWithFailingMailServer() {
+        // given
+        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
+            .thenThrow(new IllegalStateException("메일 서버 응답 없음"));
+
+        // when
+        boolean result = orderStatisticsService.sendOrderStatisticsMail(LocalDate.of(2024, 8, 6), "test@test.com");
+
+        // then
+        assertThat(result).isTrue();
+        verify(mailSendClient, never()).sendEmail(any(String.class), any(String.class), any(String.class), any(String.class));
+
+        List<MailSendHistory> histories = mailSendHistoryRepository.findAll();
+        assertThat(histories).hasSize(1)
+                .extracting("toEmail", "status", "attemptCount")
+                .containsExactly(tuple("test@test.com", MailSendStatus.PENDING, 0));
+    }
+
+    @DisplayName("해당 일자의 매출 집계가 있으면 주문을 조회하지 않고 집계된 매출 합계로 통계 메일을 전송한다.")
+    @Test
+    void sendOrderStatisticsMailWithDailySales() {
+        // given
+        dailySalesRepository.save(DailySales.builder()
+                .salesDate(LocalDate.of(2024, 8, 6))
+                .orderCount(30)
+                .totalAmount(150000)
+                .build());
+
+        when(mailSendClient.sendEmail(any(String.class), any(String.class), any(String.class), any(String.class)))
+            .thenReturn(true);
+
+        // when
+        boolean result = orderStatisticsService.sendOrderStatisticsMail(LocalDate.of(2024, 8, 6), "test@test.com");
+
+        // then
+        assertThat(result).isTrue();
+
+        List<MailSendHistory> histories = mailSendHistoryRepository.findAll();
+        assertThat(histories).hasSize(1)
+                .extracting("content")
+                .contains("총 매출 합계는 150000원입니다.");
+    }
+
+    @DisplayName("기간 안의 결제완료 주문으로 총 매출, 주문 수, 주문당 평균 금액을 조회한다.")
+    @Test
+    void getSalesStatistics() {
+        // given
+        saveOrdersForStatistics();
+
+        // when
+        SalesStatisticsResponse response = orderStatisticsService.getSalesStatistics(createStatisticsRequest(null));
+
+        // then
+        assertThat(response)
+                .extracting("orderCount", "totalAmount", "averageAmount")
+                .contains(3L, 11000L, 3667L);
+        assertThat(response.getBreakdowns()).isEmpty();
+    }
+
+    @DisplayName("기간 매출 통계를 일자별, 시간대별로 묶어서 조회한다.")
+    @Test
+    void getSalesStatisticsGroupByDayAndHour() {
+        // given
+        saveOrdersForStatistics();
+
+        // when
+        SalesStatisticsResponse byDay = orderStatisticsService.getSalesStatistics(createStatisticsRequest(SalesGroupBy.DAY));
+        SalesStatisticsResponse byHour = orderStatisticsService.getSalesStatistics(createStatisticsRequest(SalesGroupBy.HOUR));
+
+        // then
+        assertThat(byDay.getBreakdowns())
+                .extracting(SalesBreakdownResponse::getKey, SalesBreakdownResponse::getOrderCount, SalesBreakdownResponse::getTotalAmount, SalesBreakdownResponse::getAverageAmount)
+                .containsExactly(
+                        tuple("2024-08-05", 2L, 9000L, 4500L),
+                        tuple("2024-08-06", 1L, 2000L, 2000L)
+                );
+        assertThat(byHour.getBreakdowns())
+                .extracting(SalesBreakdownResponse::getKey, SalesBreakdownResponse::getOrderCount, SalesBreakdownResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("2024-08-05T10:00", 2L, 9000L),
+                        tuple("2024-08-06T23:00", 1L, 2000L)
+                );
+    }
+
+    @DisplayName("기간 매출 통계를 상품 타입별, 상품별로 묶으면 주문 상품의 주문 시점 금액을 합산하고 주문 수는 중복 없이 센다.")
+    @Test
+    void getSalesStatisticsGroupByProduct() {
+        // given
+        saveOrdersForStatistics();
+
+        // when
+        SalesStatisticsResponse byProductType = orderStatisticsService.getSalesStatistics(createStatisticsRequest(SalesGroupBy.PRODUCT_TYPE));
+        SalesStatisticsResponse byProduct = orderStatisticsService.getSalesStatistics(createStatisticsRequest(SalesGroupBy.PRODUCT));
+
+        // then
+        assertThat(byProductType.getBreakdowns())
+                .extracting(SalesBreakdownResponse::getKey, SalesBreakdownResponse::getOrderCount, SalesBreakdownResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("HANDMADE", 3L, 8000L),
+                        tuple("BAKERY", 1L, 3000L)
+                );
+        assertThat(byProduct.getBreakdowns())
+                .extracting(SalesBreakdownResponse::getKey, SalesBreakdownResponse::getOrderCount, SalesBreakdownResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("002", 3L, 6000L),
+                        tuple("003", 1L, 3000L),
+                        tuple("001", 2L, 2000L)
+                );
+    }
+
+    // 2024-08-05 10시 : [001, 002] 3000원, [001, 002, 003] 6000원 / 2024-08-06 23시 : [002] 2000원
+    // 기간 밖 주문과 결제완료가 아닌 주문은 집계하지 않는다.
+    private void saveOrdersForStatistics() {
+        Product product1 = createProduct(HANDMADE, "001", 1000);
+        Product product2 = createProduct(HANDMADE, "002", 2000);
+        Product product3 = createProduct(BAKERY, "003", 3000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        createPaymentCompletedOrder(LocalDateTime.of(2024, 8, 5, 10, 0), List.of(product1, product2));
+        createPaymentCompletedOrder(LocalDateTime.of(2024, 8, 5, 10, 30), List.of(product1, product2, product3));
+        createPaymentCompletedOrder(LocalDateTime.of(2024, 8, 6, 23, 59, 59), List.of(product2));
+        createPaymentCompletedOrder(LocalDateTime.of(2024, 8, 7, 0, 0), List.of(product3));
+        orderRepository.save(Order.builder()
+                .products(List.of(product3))
+                .orderStatus(OrderStatus.CANCELED)
+                .registeredDateTime(LocalDateTime.of(2024, 8, 5, 11, 0))
+                .build());
+    }
+
+    private SalesStatisticsServiceRequest createStatisticsRequest(SalesGroupBy groupBy) {
+        return SalesStatisticsServiceRequest.builder()
+                .startDate(LocalDate.of(2024, 8, 5))
+                .endDate(LocalDate.of(2024, 8, 6))
+                .groupBy(groupBy)
+                .build();
+    }
+
     private Order createPaymentCompletedOrder(LocalDateTime now, List<Product> products) {
         Order order = Order.builder()
                 .products(products)
@@ -0,0 +1,80 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.io.Writer;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행
+// 힙을 작게 잡고 실행하려면 ./gradlew benchmark -PbenchmarkMaxHeap=128m --tests '*OrderStreamBenchmarkTest'
+@Tag("benchmark")
+class OrderStreamBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int ORDERS = 1_000_000;
+    private static final int SAMPLE_INTERVAL = 100_000;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 100만 건을 스트리밍으로 읽어서 합계와 CSV를 만들어도 힙 사용량이 늘어나지 않는다.")
+    @Test
+    void forEachOrder() {
+        // given
+        // 2023-03-01 부터 1초 간격으로 100만 건 (약 11.5일), 주문 금액은 1000 ~ 1900원
+        jdbcTemplate.update("insert into orders (id, order_status, total_price, registered_date_time, create_date_time, modified_date_time)" +
+                " select x, 'PAYMENT_COMPLETED', 1000 + mod(x, 10) * 100, dateadd(second, x, timestamp '2023-03-01 00:00:00'), now(), now()" +
+                " from system_range(1, " + ORDERS + ")");
+
+        OrderTotalsAccumulator totals = new OrderTotalsAccumulator();
+        OrderCsvWriter csvWriter = new OrderCsvWriter(Writer.nullWriter());
+        long[] maxUsedHeap = {usedHeapAfterGc()};
+        long baseline = maxUsedHeap[0];
+
+        // when
+        long begin = System.nanoTime();
+        long count = orderExportService.forEachOrder(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 31), OrderStatus.PAYMENT_COMPLETED,
+                totals.andThen(csvWriter).andThen(order -> {
+                    if (totals.getOrderCount() % SAMPLE_INTERVAL == 0) {
+                        maxUsedHeap[0] = Math.max(maxUsedHeap[0], usedHeapAfterGc());
+                    }
+                }));
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        // then
+        long growthMegabytes = (maxUsedHeap[0] - baseline) / 1024 / 1024;
+        System.out.printf("stream %d orders: %d ms, max heap %d MB (baseline + %d MB, -Xmx %d MB)%n",
+                count, elapsedMillis, maxUsedHeap[0] / 1024 / 1024, growthMegabytes, Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        assertThat(count).isEqualTo(ORDERS);
+        assertThat(totals.getTotalAmount()).isEqualTo(ORDERS / 10L * (1000 + 1900) * 10 / 2);
+        // 100만 건을 List로 올리면 수백 MB가 필요하다. 스트리밍은 주문 수와 상관없이 일정해야 한다.
+        assertThat(growthMegabytes).isLessThan(64);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
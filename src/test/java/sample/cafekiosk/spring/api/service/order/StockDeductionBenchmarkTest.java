@@ -0,0 +1,150 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.stock.StockDeductionMode;
+import sample.cafekiosk.spring.api.service.stock.StockProperties;
+import sample.cafekiosk.spring.benchmark.BenchmarkResult;
+import sample.cafekiosk.spring.benchmark.ConcurrentBenchmark;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class StockDeductionBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int[] CLIENTS = {1, 8, 32, 128};
+    private static final int REQUESTS = 2_000;
+    private static final List<String> PRODUCT_NUMBERS = List.of("001", "002", "003");
+    private static final int INITIAL_QUANTITY = 1_000_000;
+    private static final int PRODUCTS_PER_ORDER = 2;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockProperties stockProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+        stockProperties.setMode(StockDeductionMode.ENTITY);
+    }
+
+    // ENTITY 모드는 락이 없는 방식이 아니라 재고 @Version 충돌 시 OrderFacade가 트랜잭션 전체를 다시 시도하는 낙관적 락 방식이다.
+    // 재시도 횟수를 넘긴 주문은 errors로 집계된다.
+    @DisplayName("겹치는 상품을 주문할 때 낙관적 락(@Version + 재시도) 방식과 비관적 락 방식의 처리량과 p99 지연시간을 비교한다.")
+    @Test
+    void compareOptimisticAndPessimisticLock() {
+        // given
+        productRepository.saveAll(List.of(
+                createProduct(BOTTLE, "001", 1000),
+                createProduct(BOTTLE, "002", 1500),
+                createProduct(BAKERY, "003", 3000)
+        ));
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (StockDeductionMode mode : List.of(StockDeductionMode.ENTITY, StockDeductionMode.PESSIMISTIC_LOCK)) {
+            stockProperties.setMode(mode);
+            for (int clients : CLIENTS) {
+                resetStocks();
+
+                // when
+                BenchmarkResult result = ConcurrentBenchmark.run(benchmarkName(mode), clients, REQUESTS, this::createRandomOrder);
+                results.add(result);
+
+                // then
+                // 성공한 주문 수만큼만 재고가 차감되어야 한다. (유실되거나 중복 차감된 재고가 없다.)
+                int succeeded = REQUESTS - result.getErrors();
+                assertThat(orderRepository.count()).isEqualTo(succeeded);
+                assertThat(deductedQuantity()).isEqualTo((long) succeeded * PRODUCTS_PER_ORDER);
+                if (mode == StockDeductionMode.PESSIMISTIC_LOCK) {
+                    // 재고가 충분하고 잠금 대기 시간 안에 처리되면 실패하는 주문이 없다.
+                    assertThat(result.getErrors()).isZero();
+                }
+            }
+        }
+
+        // then
+        assertThat(results).hasSize(CLIENTS.length * 2);
+    }
+
+    private String benchmarkName(StockDeductionMode mode) {
+        return mode == StockDeductionMode.ENTITY ? "OPTIMISTIC_VERSION_RETRY" : mode.name();
+    }
+
+    private long deductedQuantity() {
+        return stockRepository.findAll().stream()
+                .mapToLong(stock -> INITIAL_QUANTITY - stock.getQuantity())
+                .sum();
+    }
+
+    private void createRandomOrder() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> productNumbers = List.of(
+                PRODUCT_NUMBERS.get(random.nextInt(PRODUCT_NUMBERS.size())),
+                PRODUCT_NUMBERS.get(random.nextInt(PRODUCT_NUMBERS.size()))
+        );
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .productNumbers(productNumbers)
+                .build();
+        orderFacade.createOrder(request, LocalDateTime.now());
+    }
+
+    private void resetStocks() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+        stockRepository.saveAll(List.of(
+                Stock.create("001", INITIAL_QUANTITY),
+                Stock.create("002", INITIAL_QUANTITY),
+                Stock.create("003", INITIAL_QUANTITY)
+        ));
+    }
+
+    private Product createProduct(ProductType type, String productNumber, int price) {
+        return Product.builder()
+                .type(type)
+                .productNumber(productNumber)
+                .price(price)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,95 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @DisplayName("캐시에 없는 상품만 한 번에 조회해서 캐시에 올리고, 다음 조회부터는 DB를 조회하지 않는다.")
+    @Test
+    void getProductMapBy() {
+        // given
+        ProductCatalogCache productCatalogCache = new ProductCatalogCache(productRepository, new ProductProperties());
+        Product americano = createProduct("001");
+        Product latte = createProduct("002");
+        given(productRepository.findAllByProductNumberIn(List.of("001", "002")))
+                .willReturn(List.of(americano, latte));
+
+        // when
+        productCatalogCache.getProductMapBy(List.of("001", "002", "001"));
+        Map<String, Product> productMap = productCatalogCache.getProductMapBy(List.of("002", "001"));
+
+        // then
+        assertThat(productMap).containsEntry("001", americano).containsEntry("002", latte);
+        verify(productRepository, times(1)).findAllByProductNumberIn(List.of("001", "002"));
+        assertThat(productCatalogCache.getMissCount()).isEqualTo(2);
+        assertThat(productCatalogCache.getHitCount()).isEqualTo(2);
+        assertThat(productCatalogCache.getLoadCount()).isEqualTo(1);
+    }
+
+    @DisplayName("상품 변경 이벤트를 받으면 해당 상품을 캐시에서 제거하고, 다음 조회 때 다시 DB에서 조회한다.")
+    @Test
+    void onProductCatalogChanged() {
+        // given
+        ProductCatalogCache productCatalogCache = new ProductCatalogCache(productRepository, new ProductProperties());
+        given(productRepository.findAllByProductNumberIn(List.of("001")))
+                .willReturn(List.of(createProduct("001")));
+        productCatalogCache.getProductMapBy(List.of("001"));
+
+        // when
+        productCatalogCache.onProductCatalogChanged(new ProductCatalogChangedEvent(List.of("001")));
+        productCatalogCache.getProductMapBy(List.of("001"));
+
+        // then
+        verify(productRepository, times(2)).findAllByProductNumberIn(List.of("001"));
+    }
+
+    @DisplayName("상품 캐시를 사용하지 않으면 매번 DB에서 조회한다.")
+    @Test
+    void getProductMapByWithoutCache() {
+        // given
+        ProductProperties productProperties = new ProductProperties();
+        productProperties.getCache().setEnabled(false);
+        ProductCatalogCache productCatalogCache = new ProductCatalogCache(productRepository, productProperties);
+        given(productRepository.findAllByProductNumberIn(List.of("001")))
+                .willReturn(List.of(createProduct("001")));
+
+        // when
+        productCatalogCache.getProductMapBy(List.of("001"));
+        productCatalogCache.getProductMapBy(List.of("001"));
+
+        // then
+        verify(productRepository, times(2)).findAllByProductNumberIn(List.of("001"));
+        assertThat(productCatalogCache.getSize()).isZero();
+    }
+
+    private Product createProduct(String productNumber) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(4000)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .build();
+    }
+
+}
@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class ProductImportBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int PRODUCTS = 100_000;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    private ProductNumberFactory productNumberFactory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
+        productNumberFactory.discardBlock();
+    }
+
+    @DisplayName("상품 10만 건을 일괄 등록한다.")
+    @Test
+    void importProducts() {
+        // given
+        // 요청 본문을 읽는 것처럼 한 줄씩 만들어서 넘긴다. (10만 건을 미리 메모리에 올리지 않는다.)
+        Iterator<ProductImportRow> rows = IntStream.rangeClosed(1, PRODUCTS)
+                .mapToObj(i -> ProductImportRow.valid(i, ProductCreateServiceRequest.builder()
+                        .type(HANDMADE)
+                        .sellingStatus(SELLING)
+                        .name("메뉴 이름 " + i)
+                        .price(1000 + i % 100 * 100)
+                        .build()))
+                .iterator();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        long begin = System.nanoTime();
+        ProductImportResponse response = productImportService.importProducts(rows);
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        // then
+        System.out.printf("import %d products: %d ms, prepared statements=%d, used heap=%d MB%n",
+                PRODUCTS, elapsedMillis, statistics.getPrepareStatementCount(), usedHeapMegabytes());
+        assertThat(response.getImportedCount()).isEqualTo(PRODUCTS);
+        assertThat(productRepository.count()).isEqualTo(PRODUCTS);
+    }
+
+    private long usedHeapMegabytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024;
+    }
+
+}
@@ -0,0 +1,153 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductImportRow;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportError;
+import sample.cafekiosk.spring.api.service.product.response.ProductImportResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductImportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductProperties productProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    private ProductNumberFactory productNumberFactory;
+
+    @AfterEach
+    void tearDown() {
+        productProperties.setImportChunkSize(1_000);
+        productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
+        productNumberFactory.discardBlock();
+    }
+
+    @DisplayName("검증을 통과한 줄만 chunk 단위로 저장하고, 실패한 줄은 줄 번호와 함께 알려준다.")
+    @Test
+    void importProducts() {
+        // given
+        productProperties.setImportChunkSize(2);
+        productRepository.save(createProduct("001", "아메리카노"));
+
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.valid(2, createRequest("카페라떼")),
+                ProductImportRow.invalid(3, "상품 이름은 필수입니다."),
+                ProductImportRow.valid(4, createRequest("카푸치노")),
+                ProductImportRow.valid(5, createRequest("크루아상"))
+        );
+
+        // when
+        ProductImportResponse response = productImportService.importProducts(rows.iterator());
+
+        // then
+        assertThat(response)
+                .extracting(ProductImportResponse::getTotalCount, ProductImportResponse::getImportedCount, ProductImportResponse::getFailedCount)
+                .containsExactly(4L, 3L, 1L);
+        assertThat(response.getErrors())
+                .extracting(ProductImportError::getLineNumber, ProductImportError::getMessage)
+                .containsExactly(tuple(3L, "상품 이름은 필수입니다."));
+
+        List<Product> products = productRepository.findAll();
+        assertThat(products).hasSize(4)
+                .extracting(Product::getProductNumber, Product::getName)
+                .containsExactlyInAnyOrder(
+                        tuple("001", "아메리카노"),
+                        tuple("002", "카페라떼"),
+                        tuple("003", "카푸치노"),
+                        tuple("004", "크루아상")
+                );
+    }
+
+    @DisplayName("chunk 저장이 실패하면 한 줄씩 다시 저장해서, 저장하지 못한 줄만 실패 원인과 함께 알려준다.")
+    @Test
+    void importProductsWithFailedRowInChunk() {
+        // given
+        productProperties.setImportChunkSize(3);
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.valid(1, createRequest("카페라떼")),
+                ProductImportRow.valid(2, createRequest("크".repeat(256))),
+                ProductImportRow.valid(3, createRequest("카푸치노"))
+        );
+
+        // when
+        ProductImportResponse response = productImportService.importProducts(rows.iterator());
+
+        // then
+        assertThat(response)
+                .extracting(ProductImportResponse::getTotalCount, ProductImportResponse::getImportedCount, ProductImportResponse::getFailedCount)
+                .containsExactly(3L, 2L, 1L);
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(response.getErrors().get(0).getLineNumber()).isEqualTo(2L);
+        assertThat(response.getErrors().get(0).getMessage())
+                .startsWith("상품을 저장하지 못했습니다. (")
+                .containsIgnoringCase("too long");
+
+        assertThat(productRepository.findAll())
+                .extracting(Product::getName)
+                .containsExactlyInAnyOrder("카페라떼", "카푸치노");
+    }
+
+    @DisplayName("일괄 등록한 뒤에 한 건씩 등록한 상품은 일괄 등록한 상품번호와 겹치지 않는다.")
+    @Test
+    void createNextProductNumberAfterImport() {
+        // given
+        productNumberFactory.createNextProductNumber();
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.valid(1, createRequest("카페라떼")),
+                ProductImportRow.valid(2, createRequest("카푸치노"))
+        );
+        productImportService.importProducts(rows.iterator());
+
+        // when
+        String productNumber = productNumberFactory.createNextProductNumber();
+
+        // then
+        assertThat(productRepository.findAll())
+                .extracting(Product::getProductNumber)
+                .doesNotContain(productNumber);
+    }
+
+    private ProductCreateServiceRequest createRequest(String name) {
+        return ProductCreateServiceRequest.builder()
+                .type(BAKERY)
+                .sellingStatus(SELLING)
+                .name(name)
+                .price(3000)
+                .build();
+    }
+
+    private Product createProduct(String productNumber, String name) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name(name)
+                .price(4000)
+                .build();
+    }
+
+}
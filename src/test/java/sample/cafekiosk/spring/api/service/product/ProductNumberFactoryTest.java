@@ -1,7 +1,204 @@
 package sample.cafekiosk.spring.api.service.product;
 
-import static org.junit.jupiter.api.Assertions.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequence;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
 
-class ProductNumberFactoryTest {
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-}
\ No newline at end of file
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductNumberFactoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductNumberFactory productNumberFactory;
+
+    @Autowired
+    private ProductNumberBlockAllocator productNumberBlockAllocator;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+        productNumberSequenceRepository.deleteAllInBatch();
+        productNumberFactory.discardBlock();
+    }
+
+    @DisplayName("상품번호 카운터가 없으면 가장 최근 상품의 상품번호 다음 번호부터 발급한다.")
+    @Test
+    void createNextProductNumberAfterLatestProduct() {
+        // given
+        productRepository.save(createProduct("005"));
+
+        // when
+        String first = productNumberFactory.createNextProductNumber();
+        String second = productNumberFactory.createNextProductNumber();
+
+        // then
+        assertThat(first).isEqualTo("006");
+        assertThat(second).isEqualTo("007");
+    }
+
+    @DisplayName("상품번호 카운터가 없으면 id 순서와 상관없이 가장 큰 상품번호 다음 번호부터 발급한다.")
+    @Test
+    void createNextProductNumberAfterMaxProductNumber() {
+        // given
+        productRepository.save(createProduct("010"));
+        productRepository.save(createProduct("003")); // id는 더 크지만 번호는 더 작은 상품
+
+        // when
+        String productNumber = productNumberFactory.createNextProductNumber();
+
+        // then
+        assertThat(productNumber).isEqualTo("011");
+    }
+
+    @DisplayName("상품번호 카운터가 없을 때 다른 서버가 카운터를 먼저 만들면, PK 중복으로 실패한 뒤 다시 시도해서 그 카운터에서 번호를 발급받는다.")
+    @Test
+    void createNextProductNumberWhenSequenceIsCreatedByAnotherInstance() throws Exception {
+        // given
+        CountDownLatch sequenceInserted = new CountDownLatch(1);
+        CountDownLatch commitSequence = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            // 다른 서버: 카운터 row를 INSERT하고 커밋하기 전에 멈춘다.
+            Future<?> anotherInstance = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                productNumberSequenceRepository.saveAndFlush(ProductNumberSequence.create(ProductNumberBlockAllocator.SEQUENCE_NAME, 100));
+                sequenceInserted.countDown();
+                awaitQuietly(commitSequence);
+            }));
+            assertThat(sequenceInserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            // 카운터가 보이지 않으므로 카운터 row를 INSERT하고, 다른 서버의 커밋을 기다렸다가 PK 중복으로 실패한다.
+            Future<String> productNumber = executorService.submit(productNumberFactory::createNextProductNumber);
+            Thread.sleep(500);
+            commitSequence.countDown();
+            anotherInstance.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(productNumber.get(10, TimeUnit.SECONDS)).isEqualTo("100");
+            assertThat(productNumberSequenceRepository.findAll()).hasSize(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("발급받은 번호 구간 안에서는 DB를 조회하지 않고 상품번호를 발급한다.")
+    @Test
+    void createNextProductNumberWithinBlock() {
+        // given
+        productNumberFactory.createNextProductNumber();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<String> productNumbers = IntStream.range(0, 10)
+                .mapToObj(i -> productNumberFactory.createNextProductNumber())
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(productNumbers).containsExactly("002", "003", "004", "005", "006", "007", "008", "009", "010", "011");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("같은 DB를 쓰는 여러 서버에서 동시에 상품번호를 발급해도 번호가 겹치지 않는다.")
+    @Test
+    void createNextProductNumberConcurrentlyOnMultipleInstances() throws Exception {
+        // given
+        // 서버마다 자기 ProductNumberFactory를 가지고, 카운터 row만 공유한다.
+        int instanceCount = 4;
+        int threadsPerInstance = 4;
+        int numbersPerThread = 50;
+
+        ProductProperties properties = new ProductProperties();
+        properties.setNumberBlockSize(7);
+        List<ProductNumberFactory> instances = IntStream.range(0, instanceCount)
+                .mapToObj(i -> new ProductNumberFactory(productNumberBlockAllocator, properties))
+                .collect(Collectors.toList());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(instanceCount * threadsPerInstance);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Set<String> productNumbers = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (ProductNumberFactory instance : instances) {
+            for (int i = 0; i < threadsPerInstance; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < numbersPerThread; j++) {
+                        productNumbers.add(instance.createNextProductNumber());
+                    }
+                    return null;
+                }));
+            }
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        int totalCount = instanceCount * threadsPerInstance * numbersPerThread;
+        assertThat(productNumbers).hasSize(totalCount);
+        assertThat(productNumberSequenceRepository.findAll()).hasSize(1)
+                .allSatisfy(sequence -> assertThat(sequence.getNextValue()).isGreaterThan(totalCount));
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Product createProduct(String productNumber) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("아메리카노")
+                .price(4000)
+                .build();
+    }
+
+}
@@ -6,8 +6,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.product.dto.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductSearchServiceRequest;
+import sample.cafekiosk.spring.api.service.product.response.ProductPageResponse;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductNumberSequenceRepository;
 import sample.cafekiosk.spring.domain.product.ProductRepository;
 import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
@@ -30,9 +33,18 @@ class ProductServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductNumberSequenceRepository productNumberSequenceRepository;
+
+    @Autowired
+    private ProductNumberFactory productNumberFactory;
+
     @AfterEach
     void tearDown() {
         productRepository.deleteAllInBatch();
+        // 상품번호 카운터와 서버에 남은 번호 구간도 비워야 다음 테스트가 상품 테이블 기준으로 번호를 발급받는다.
+        productNumberSequenceRepository.deleteAllInBatch();
+        productNumberFactory.discardBlock();
     }
 
     // ++ BeforeAll/BeforeEach 는 공유자원과 동일하게 모든 테스트에 공통으로 영향을 주기 때문에 지양하는 것이 좋다.
@@ -105,6 +117,40 @@ class ProductServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("상품 목록을 페이지 단위로 조회하고, 다음 페이지는 응답의 nextCursor부터 이어서 조회한다.")
+    @Test
+    void getProducts() {
+        // given
+        productRepository.saveAll(List.of(
+                createProduct("001", HANDMADE, SELLING, "아메리카노", 4000),
+                createProduct("002", HANDMADE, HOLD, "카페라떼", 4500),
+                createProduct("003", HANDMADE, STOP_SELLING, "팥빙수", 7000),
+                createProduct("004", HANDMADE, SELLING, "카푸치노", 5000)
+        ));
+
+        // when
+        ProductPageResponse firstPage = productService.getProducts(ProductSearchServiceRequest.builder()
+                .size(2)
+                .build());
+        ProductPageResponse secondPage = productService.getProducts(ProductSearchServiceRequest.builder()
+                .cursor(firstPage.getNextCursor())
+                .size(2)
+                .build());
+
+        // then
+        // 판매상태 조건이 없으면 판매중, 판매보류 상품만 조회한다.
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getProducts())
+                .extracting("productNumber")
+                .containsExactly("001", "002");
+
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(secondPage.getProducts())
+                .extracting("productNumber")
+                .containsExactly("004");
+    }
+
     private Product createProduct(String productNumber, ProductType type, ProductSellingStatus sellingStatus, String name, int price) {
         return Product.builder()
                 .productNumber(productNumber)
@@ -0,0 +1,118 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+
+@ExtendWith(MockitoExtension.class)
+class SellingProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private SellingProductCatalog sellingProductCatalog;
+
+    @DisplayName("상품이 바뀌지 않았으면 같은 스냅샷을 DB 조회 없이 돌려준다.")
+    @Test
+    void getSnapshot() {
+        // given
+        given(productRepository.findAllBySellingStatusIn(anyList()))
+                .willReturn(List.of(createProduct("001", "아메리카노")));
+
+        // when
+        SellingProductsSnapshot first = sellingProductCatalog.getSnapshot();
+        SellingProductsSnapshot second = sellingProductCatalog.getSnapshot();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getProducts()).extracting("productNumber").containsExactly("001");
+        verify(productRepository, times(1)).findAllBySellingStatusIn(anyList());
+    }
+
+    @DisplayName("상품 변경 이벤트를 받으면 다음 조회 때 새 버전의 스냅샷을 만들고 ETag도 바뀐다.")
+    @Test
+    void getSnapshotAfterProductCatalogChanged() {
+        // given
+        given(productRepository.findAllBySellingStatusIn(anyList()))
+                .willReturn(List.of(createProduct("001", "아메리카노")))
+                .willReturn(List.of(createProduct("001", "아메리카노"), createProduct("002", "카페라떼")));
+        SellingProductsSnapshot before = sellingProductCatalog.getSnapshot();
+
+        // when
+        sellingProductCatalog.onProductCatalogChanged(new ProductCatalogChangedEvent(List.of("002")));
+        SellingProductsSnapshot after = sellingProductCatalog.getSnapshot();
+
+        // then
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        assertThat(after.getProducts()).extracting("productNumber").containsExactly("001", "002");
+    }
+
+    @DisplayName("판매 상품 목록 내용이 같으면 다른 인스턴스나 재시작 후에도 ETag가 같다.")
+    @Test
+    void getSnapshotETagWithSameProductsOnAnotherInstance() {
+        // given
+        given(productRepository.findAllBySellingStatusIn(anyList()))
+                .willReturn(List.of(createProduct("001", "아메리카노")));
+        SellingProductCatalog anotherInstance = new SellingProductCatalog(productRepository, objectMapper);
+        anotherInstance.invalidate();
+        anotherInstance.invalidate();
+
+        // when
+        SellingProductsSnapshot snapshot = sellingProductCatalog.getSnapshot();
+        SellingProductsSnapshot anotherSnapshot = anotherInstance.getSnapshot();
+
+        // then
+        assertThat(anotherSnapshot.getVersion()).isNotEqualTo(snapshot.getVersion());
+        assertThat(anotherSnapshot.getETag()).isEqualTo(snapshot.getETag());
+    }
+
+    @DisplayName("필드를 이어 붙이면 같아지는 판매 상품 목록이라도 ETag는 다르다.")
+    @Test
+    void createETagWithAmbiguousConcatenation() {
+        // given
+        List<ProductResponse> products = List.of(ProductResponse.of(createProduct("001", "아메리카노")));
+        List<ProductResponse> shiftedProducts = List.of(ProductResponse.of(createProduct("001아", "메리카노")));
+
+        // when
+        SellingProductsSnapshot snapshot = SellingProductsSnapshot.of(1, products, objectMapper);
+        SellingProductsSnapshot shiftedSnapshot = SellingProductsSnapshot.of(1, shiftedProducts, objectMapper);
+
+        // then
+        assertThat(shiftedSnapshot.getETag()).isNotEqualTo(snapshot.getETag());
+    }
+
+    private Product createProduct(String productNumber, String name) {
+        return Product.builder()
+                .type(ProductType.HANDMADE)
+                .productNumber(productNumber)
+                .price(4000)
+                .sellingStatus(SELLING)
+                .name(name)
+                .build();
+    }
+
+}
@@ -0,0 +1,135 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class SellingProductsSerializationBenchmarkTest {
+
+    private static final int PRODUCTS = 200;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 응답 본문을 받아서 버리는 출력 스트림 (서블릿 출력 스트림 대신)
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @DisplayName("판매 상품 목록 응답을 요청마다 직렬화/압축할 때와 미리 직렬화해둔 bytes를 쓸 때의 요청당 할당량과 처리량을 비교한다.")
+    @Test
+    void compareSerializePerRequestAndPreSerialized() {
+        // given
+        List<ProductResponse> products = IntStream.rangeClosed(1, PRODUCTS)
+                .mapToObj(this::createProductResponse)
+                .collect(Collectors.toList());
+        SellingProductsSnapshot snapshot = SellingProductsSnapshot.of(1L, products, objectMapper);
+
+        // when
+        Result perRequest = measure("jackson+gzip per request", () -> writeGzip(serialize(products)));
+        Result preSerialized = measure("pre-serialized gzip", () -> {
+            ResponseEntity<byte[]> response = snapshot.getBody().toResponseEntity("gzip", snapshot.getETag());
+            write(response.getBody());
+        });
+
+        // then
+        System.out.println(perRequest);
+        System.out.println(preSerialized);
+        assertThat(preSerialized.bytesPerRequest).isLessThan(perRequest.bytesPerRequest);
+        assertThat(preSerialized.requestsPerSecond).isGreaterThan(perRequest.requestsPerSecond);
+    }
+
+    private Result measure(String name, Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, allocated / ITERATIONS, ITERATIONS / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private byte[] serialize(List<ProductResponse> products) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ok(products));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeGzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(out.toByteArray());
+    }
+
+    private void write(byte[] body) {
+        try {
+            sink.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ProductResponse createProductResponse(int i) {
+        return ProductResponse.builder()
+                .id((long) i)
+                .productNumber(String.format("%03d", i))
+                .type(ProductType.HANDMADE)
+                .sellingStatus(ProductSellingStatus.SELLING)
+                .name("메뉴 이름 " + i)
+                .price(1000 + i * 10)
+                .build();
+    }
+
+    private static class Result {
+
+        private final String name;
+        private final long bytesPerRequest;
+        private final double requestsPerSecond;
+
+        private Result(String name, long bytesPerRequest, double requestsPerSecond) {
+            this.name = name;
+            this.bytesPerRequest = bytesPerRequest;
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s allocated=%10d B/request throughput=%12.1f/s", name, bytesPerRequest, requestsPerSecond);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellerResponse;
+import sample.cafekiosk.spring.api.service.sales.response.BestSellersResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+@ExtendWith(MockitoExtension.class)
+class BestSellerTrackerTest {
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private BestSellerTracker bestSellerTracker;
+
+    @BeforeEach
+    void setUp() {
+        bestSellerTracker = new BestSellerTracker(productCatalogCache, new SalesProperties());
+    }
+
+    @DisplayName("이번 시간과 오늘의 인기 상품을 주문 수량이 많은 순서로 조회하고, 정각이 지나면 이번 시간 집계만 새로 시작한다.")
+    @Test
+    void getBestSellers() {
+        // given
+        given(productCatalogCache.getProductMapBy(anyList())).willReturn(Map.of(
+                "001", createProduct("001", "아메리카노"),
+                "002", createProduct("002", "카페라떼")
+        ));
+
+        bestSellerTracker.record(LocalDateTime.of(2023, 3, 5, 9, 30), Map.of("001", 3));
+        bestSellerTracker.record(LocalDateTime.of(2023, 3, 5, 10, 0), Map.of("001", 1, "002", 2));
+        bestSellerTracker.record(LocalDateTime.of(2023, 3, 5, 10, 59), Map.of("002", 1));
+
+        // when
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 10, 59, 59);
+        BestSellersResponse thisHour = bestSellerTracker.getBestSellers(BestSellerWindow.HOUR, 10, now);
+        BestSellersResponse today = bestSellerTracker.getBestSellers(BestSellerWindow.DAY, 10, now);
+
+        // then
+        assertThat(thisHour.getWindowStart()).isEqualTo(LocalDateTime.of(2023, 3, 5, 10, 0));
+        assertThat(thisHour.getProducts())
+                .extracting(BestSellerResponse::getRank, BestSellerResponse::getProductNumber, BestSellerResponse::getName, BestSellerResponse::getQuantity)
+                .containsExactly(
+                        tuple(1, "002", "카페라떼", 3L),
+                        tuple(2, "001", "아메리카노", 1L)
+                );
+        assertThat(today.getProducts())
+                .extracting(BestSellerResponse::getProductNumber, BestSellerResponse::getQuantity)
+                .containsExactly(
+                        tuple("001", 4L),
+                        tuple("002", 3L)
+                );
+    }
+
+    @DisplayName("이번 시간에 아직 주문이 없으면 인기 상품은 비어 있다.")
+    @Test
+    void getBestSellersWithoutOrdersInWindow() {
+        // given
+        bestSellerTracker.record(LocalDateTime.of(2023, 3, 5, 9, 30), Map.of("001", 3));
+
+        // when
+        BestSellersResponse thisHour = bestSellerTracker.getBestSellers(BestSellerWindow.HOUR, 10, LocalDateTime.of(2023, 3, 5, 10, 0));
+
+        // then
+        assertThat(thisHour.getProducts()).isEmpty();
+    }
+
+    private Product createProduct(String productNumber, String name) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name(name)
+                .price(4000)
+                .build();
+    }
+
+}
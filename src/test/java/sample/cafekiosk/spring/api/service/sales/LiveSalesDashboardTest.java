@@ -0,0 +1,39 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveSalesDashboardTest {
+
+    @DisplayName("최근 N초 합계에 커밋된 결제완료 이벤트가 더해진다.")
+    @Test
+    void getLiveSalesWithWindowSeconds() {
+        // given
+        LiveSalesDashboard liveSalesDashboard = new LiveSalesDashboard();
+        liveSalesDashboard.onLiveSalesEvent(LiveSalesEvent.paymentCompleted(4000));
+        liveSalesDashboard.onLiveSalesEvent(LiveSalesEvent.paymentCompleted(3000));
+
+        // when // then
+        assertThat(liveSalesDashboard.getLiveSales(60))
+                .extracting("windowSeconds", "orderCount", "orderAmount", "paidOrderCount", "revenue")
+                .containsExactly(60, 0L, 0L, 2L, 7000L);
+    }
+
+    @DisplayName("최근 N초 합계는 1초에서 3600초 사이 구간만 조회할 수 있다.")
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 60 * 60 + 1})
+    void getLiveSalesWithInvalidWindowSeconds(int windowSeconds) {
+        // given
+        LiveSalesDashboard liveSalesDashboard = new LiveSalesDashboard();
+
+        // when // then
+        assertThatThrownBy(() -> liveSalesDashboard.getLiveSales(windowSeconds))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.benchmark.BenchmarkResult;
+import sample.cafekiosk.spring.benchmark.ConcurrentBenchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class LiveSalesRecordBenchmarkTest {
+
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS = 10_000_000;
+    private static final LiveSalesEvent EVENT = LiveSalesEvent.paymentCompleted(4000);
+
+    @DisplayName("32개 스레드가 동시에 결제완료를 기록할 때 초 단위 LongAdder 링 버퍼와 AtomicLong 카운터의 처리량과 지연시간을 비교한다.")
+    @Test
+    void recordPaymentCompleted() {
+        // given
+        LiveSalesDashboard liveSalesDashboard = new LiveSalesDashboard();
+        AtomicLong paidCount = new AtomicLong();
+        AtomicLong revenue = new AtomicLong();
+
+        // when
+        BenchmarkResult atomicLong = ConcurrentBenchmark.run("atomic-long", CLIENTS, REQUESTS, () -> {
+            paidCount.incrementAndGet();
+            revenue.addAndGet(EVENT.getAmount());
+        });
+        BenchmarkResult rollingWindow = ConcurrentBenchmark.run("rolling-window", CLIENTS, REQUESTS,
+                () -> liveSalesDashboard.onLiveSalesEvent(EVENT));
+
+        // then
+        assertThat(atomicLong.getErrors()).isZero();
+        assertThat(rollingWindow.getErrors()).isZero();
+        assertThat(liveSalesDashboard.getLiveSales(60 * 60).getPaidOrderCount()).isEqualTo(REQUESTS);
+        assertThat(liveSalesDashboard.getLiveSales(60 * 60).getRevenue()).isEqualTo(REQUESTS * EVENT.getAmount());
+    }
+
+}
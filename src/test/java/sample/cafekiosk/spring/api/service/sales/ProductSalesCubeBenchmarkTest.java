@@ -0,0 +1,78 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class ProductSalesCubeBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int DAYS = 365;
+    private static final int PRODUCTS = 300; // 상품번호 1 ~ 300, 3으로 나눈 나머지가 0이면 베이커리
+    private static final int RUNS = 20;
+
+    @Autowired
+    private ProductSalesService productSalesService;
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productHourlySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("1년치 상품 x 시간대 집계(365일 x 16시간 x 300개 = 약 175만 row)에서 최근 30일 7~9시 베이커리 매출을 조회한다.")
+    @Test
+    void getProductSales() {
+        // given
+        // 매일 영업시간(7 ~ 22시) 동안 모든 상품이 시간마다 1개씩 1000원에 팔렸다.
+        jdbcTemplate.update("insert into product_hourly_sales" +
+                " (sales_date, sales_hour, product_number, product_type, quantity, total_amount, create_date_time, modified_date_time)" +
+                " select dateadd(day, d.x - 1, date '2023-01-01'), h.x, lpad(p.x, 3, '0')," +
+                " case mod(p.x, 3) when 0 then 'BAKERY' when 1 then 'HANDMADE' else 'BOTTLE' end, 1, 1000, now(), now()" +
+                " from system_range(1, " + DAYS + ") d, system_range(7, 22) h, system_range(1, " + PRODUCTS + ") p");
+
+        ProductSalesServiceRequest request = ProductSalesServiceRequest.builder()
+                .startDate(LocalDate.of(2023, 12, 2))
+                .endDate(LocalDate.of(2023, 12, 31))
+                .productTypes(List.of(BAKERY))
+                .startHour(7)
+                .endHour(9)
+                .build();
+        productSalesService.getProductSales(request); // 워밍업
+
+        // when
+        long begin = System.nanoTime();
+        ProductSalesResponse response = null;
+        for (int i = 0; i < RUNS; i++) {
+            response = productSalesService.getProductSales(request);
+        }
+        double averageMillis = (System.nanoTime() - begin) / 1_000_000.0 / RUNS;
+
+        // then
+        System.out.printf("product sales cube (%d rows): bakery 07-09 over 30 days avg %.2f ms%n",
+                productHourlySalesRepository.count(), averageMillis);
+        assertThat(response.getProducts()).hasSize(PRODUCTS / 3);
+        assertThat(response.getQuantity()).isEqualTo(30L * 2 * (PRODUCTS / 3));
+        assertThat(response.getTotalAmount()).isEqualTo(30L * 2 * (PRODUCTS / 3) * 1000);
+    }
+
+}
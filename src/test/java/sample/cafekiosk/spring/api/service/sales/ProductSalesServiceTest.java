@@ -0,0 +1,97 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.sales.request.ProductSalesServiceRequest;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesBreakdownResponse;
+import sample.cafekiosk.spring.api.service.sales.response.ProductSalesResponse;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySales;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductSalesServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductSalesService productSalesService;
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        productHourlySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간과 시간대 안의 상품 타입별 매출을 상품 x 시간대 집계에서 조회한다.")
+    @Test
+    void getProductSales() {
+        // given
+        productHourlySalesRepository.saveAll(List.of(
+                createProductHourlySales(LocalDate.of(2023, 3, 1), 7, "003", BAKERY, 2, 6000),
+                createProductHourlySales(LocalDate.of(2023, 3, 1), 8, "003", BAKERY, 1, 3000),
+                createProductHourlySales(LocalDate.of(2023, 3, 15), 8, "004", BAKERY, 4, 10000),
+                createProductHourlySales(LocalDate.of(2023, 3, 15), 9, "003", BAKERY, 5, 15000), // 시간대 밖
+                createProductHourlySales(LocalDate.of(2023, 3, 15), 7, "001", HANDMADE, 3, 12000), // 다른 상품 타입
+                createProductHourlySales(LocalDate.of(2023, 3, 31), 7, "003", BAKERY, 1, 3000) // 기간 밖
+        ));
+
+        // when
+        ProductSalesResponse response = productSalesService.getProductSales(ProductSalesServiceRequest.builder()
+                .startDate(LocalDate.of(2023, 3, 1))
+                .endDate(LocalDate.of(2023, 3, 30))
+                .productTypes(List.of(BAKERY))
+                .startHour(7)
+                .endHour(9)
+                .build());
+
+        // then
+        assertThat(response.getQuantity()).isEqualTo(7);
+        assertThat(response.getTotalAmount()).isEqualTo(19000);
+        assertThat(response.getProducts())
+                .extracting(ProductSalesBreakdownResponse::getProductNumber, ProductSalesBreakdownResponse::getProductType,
+                        ProductSalesBreakdownResponse::getQuantity, ProductSalesBreakdownResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("004", BAKERY, 4L, 10000L),
+                        tuple("003", BAKERY, 3L, 9000L)
+                );
+    }
+
+    @DisplayName("상품 x 시간대 매출을 조회할 때 시작 시각은 종료 시각보다 빨라야 한다.")
+    @Test
+    void getProductSalesWithInvalidHours() {
+        // when // then
+        assertThatThrownBy(() -> ProductSalesServiceRequest.builder()
+                .startDate(LocalDate.of(2023, 3, 1))
+                .endDate(LocalDate.of(2023, 3, 30))
+                .startHour(9)
+                .endHour(7)
+                .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 시간대는 0시 이상 24시 이하이고, 시작 시각이 종료 시각보다 빨라야 합니다.");
+    }
+
+    private ProductHourlySales createProductHourlySales(LocalDate salesDate, int salesHour, String productNumber,
+                                                       ProductType productType, long quantity, long totalAmount) {
+        return ProductHourlySales.builder()
+                .salesDate(salesDate)
+                .salesHour(salesHour)
+                .productNumber(productNumber)
+                .productType(productType)
+                .quantity(quantity)
+                .totalAmount(totalAmount)
+                .build();
+    }
+
+}
@@ -0,0 +1,79 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.api.service.sales.response.LiveSalesWindowResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RollingSalesWindowTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    @DisplayName("최근 N초 구간 안에 기록된 주문 수와 매출만 더한다.")
+    @Test
+    void sum() {
+        // given
+        RollingSalesWindow window = new RollingSalesWindow(60);
+        window.recordOrderCreated(NOW - 60, 1000); // 구간 밖
+        window.recordOrderCreated(NOW - 59, 2000);
+        window.recordOrderCreated(NOW - 10, 3000);
+        window.recordPaymentCompleted(NOW - 10, 3000);
+        window.recordOrderCreated(NOW, 4000);
+
+        // when
+        LiveSalesWindowResponse lastMinute = window.sum(NOW, 60);
+        LiveSalesWindowResponse last10Seconds = window.sum(NOW, 10);
+
+        // then
+        assertThat(lastMinute)
+                .extracting("windowSeconds", "orderCount", "orderAmount", "paidOrderCount", "revenue")
+                .containsExactly(60, 3L, 9000L, 1L, 3000L);
+        assertThat(last10Seconds)
+                .extracting("orderCount", "orderAmount", "paidOrderCount", "revenue")
+                .containsExactly(1L, 4000L, 0L, 0L);
+    }
+
+    @DisplayName("한 바퀴 돌아서 같은 칸을 쓰게 되면 지난 바퀴의 기록은 버리고 새로 센다.")
+    @Test
+    void sumAfterWrapAround() {
+        // given
+        RollingSalesWindow window = new RollingSalesWindow(60);
+        window.recordOrderCreated(NOW, 1000);
+
+        // when
+        window.recordOrderCreated(NOW + 60, 2000); // 같은 칸
+        window.recordOrderCreated(NOW, 3000); // 이미 다음 바퀴가 기록 중인 칸의 오래된 기록
+
+        // then
+        assertThat(window.sum(NOW + 60, 60))
+                .extracting("orderCount", "orderAmount")
+                .containsExactly(1L, 2000L);
+    }
+
+    @DisplayName("링 버퍼 크기보다 긴 구간은 조회할 수 없다.")
+    @Test
+    void sumWithTooLongWindow() {
+        // given
+        RollingSalesWindow window = new RollingSalesWindow(60);
+
+        // when // then
+        assertThatThrownBy(() -> window.sum(NOW, 61))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 구간은 60초를 넘을 수 없습니다.");
+    }
+
+    @DisplayName("조회 구간은 1초 이상이어야 한다.")
+    @Test
+    void sumWithNonPositiveWindow() {
+        // given
+        RollingSalesWindow window = new RollingSalesWindow(60);
+
+        // when // then
+        assertThatThrownBy(() -> window.sum(NOW, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("조회 구간은 1초 이상이어야 합니다.");
+    }
+
+}
@@ -0,0 +1,92 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class SalesReportBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int ORDERS = 1_000_000;
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("한 달치 일자별 매출 리포트를 일자 단위로 동시에 집계하면 하루씩 차례로 집계하는 것보다 빠르다.")
+    @Test
+    void getDailySalesReport() {
+        // given
+        // 2023-03-01 부터 약 2.7초 간격으로 100만 건 (한 달치)
+        jdbcTemplate.update("insert into orders (id, order_status, total_price, registered_date_time, create_date_time, modified_date_time)" +
+                " select x, 'PAYMENT_COMPLETED', 1000 + mod(x, 10) * 100, dateadd(millisecond, x * 2678, timestamp '2023-03-01 00:00:00'), now(), now()" +
+                " from system_range(1, " + ORDERS + ")");
+        LocalDate startDate = LocalDate.of(2023, 3, 1);
+        LocalDate endDate = LocalDate.of(2023, 3, 31);
+
+        // 워밍업
+        sequentialTotals(startDate, endDate);
+        salesReportService.getDailySalesReport(startDate, endDate);
+
+        // when
+        long sequentialBegin = System.nanoTime();
+        List<Long> sequential = sequentialTotals(startDate, endDate);
+        long sequentialMillis = (System.nanoTime() - sequentialBegin) / 1_000_000;
+
+        long parallelBegin = System.nanoTime();
+        SalesStatisticsResponse report = salesReportService.getDailySalesReport(startDate, endDate);
+        long parallelMillis = (System.nanoTime() - parallelBegin) / 1_000_000;
+
+        // then
+        System.out.printf("daily report %s ~ %s (%d orders): sequential %d ms, parallel %d ms (x%.1f)%n",
+                startDate, endDate, ORDERS, sequentialMillis, parallelMillis, (double) sequentialMillis / Math.max(parallelMillis, 1));
+        assertThat(report.getOrderCount()).isEqualTo(ORDERS);
+        assertThat(report.getBreakdowns())
+                .extracting("totalAmount", Long.class)
+                .containsExactlyElementsOf(sequential);
+    }
+
+    // 비교 대상 : 하루씩 차례로 집계
+    private List<Long> sequentialTotals(LocalDate startDate, LocalDate endDate) {
+        TransactionTemplate readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        List<Long> totals = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDate salesDate = date;
+            totals.add(readOnlyTransactionTemplate.execute(status -> orderRepository.sumSales(
+                    salesDate.atStartOfDay(), salesDate.plusDays(1).atStartOfDay(), OrderStatus.PAYMENT_COMPLETED).getTotalAmount()));
+        }
+        return totals;
+    }
+
+}
@@ -0,0 +1,113 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.response.SalesBreakdownResponse;
+import sample.cafekiosk.spring.api.service.order.response.SalesStatisticsResponse;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class SalesReportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 안의 일자별 결제완료 매출을 동시에 집계해서 일자 순서대로 합친다. 주문이 없는 일자는 0으로 포함한다.")
+    @Test
+    void getDailySalesReport() {
+        // given
+        Product product = productRepository.save(createProduct("001", 1000));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 1, 0, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 1, 23, 59, 59));
+        createOrder(product, OrderStatus.CANCELED, LocalDateTime.of(2023, 3, 2, 12, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 3, 9, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 4, 0, 0)); // 기간 밖
+
+        // when
+        SalesStatisticsResponse report = salesReportService.getDailySalesReport(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 3));
+
+        // then
+        assertThat(report)
+                .extracting("orderCount", "totalAmount", "averageAmount")
+                .contains(3L, 3000L, 1000L);
+        assertThat(report.getBreakdowns())
+                .extracting(SalesBreakdownResponse::getKey, SalesBreakdownResponse::getOrderCount, SalesBreakdownResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("2023-03-01", 2L, 2000L),
+                        tuple("2023-03-02", 0L, 0L),
+                        tuple("2023-03-03", 1L, 1000L)
+                );
+    }
+
+    @DisplayName("일자별 매출 리포트는 최대 조회 일수(366일)까지 조회할 수 있다.")
+    @Test
+    void getDailySalesReportWithMaxDays() {
+        // when
+        SalesStatisticsResponse report = salesReportService.getDailySalesReport(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1));
+
+        // then
+        assertThat(report.getBreakdowns()).hasSize(366);
+        assertThat(report.getTotalAmount()).isZero();
+    }
+
+    @DisplayName("일자별 매출 리포트는 최대 조회 일수를 넘는 기간을 조회할 수 없다.")
+    @Test
+    void getDailySalesReportWithTooLongPeriod() {
+        // when // then
+        assertThatThrownBy(() -> salesReportService.getDailySalesReport(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("일자별 매출 리포트는 최대 366일까지 조회할 수 있습니다.");
+    }
+
+    private void createOrder(Product product, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        orderRepository.save(Order.builder()
+                .products(List.of(product))
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+
+}
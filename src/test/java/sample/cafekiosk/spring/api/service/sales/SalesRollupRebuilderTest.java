@@ -0,0 +1,134 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProductRepository;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.sales.DailySales;
+import sample.cafekiosk.spring.domain.sales.DailySalesRepository;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.HourlySalesRepository;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySales;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class SalesRollupRebuilderTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SalesRollupRebuilder salesRollupRebuilder;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        productHourlySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기간 안의 일자별 / 시간대별 매출 집계를 결제완료 주문으로 다시 계산해서 덮어쓴다.")
+    @Test
+    void rebuild() {
+        // given
+        Product product = productRepository.save(createProduct("001", 1000));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 9, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 9, 59, 59));
+        createOrder(product, OrderStatus.CANCELED, LocalDateTime.of(2023, 3, 5, 10, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 7, 23, 0));
+        createOrder(product, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 8, 0, 0)); // 기간 밖
+
+        // 어긋난 집계 (주문이 없는 일자에 남아 있는 집계도 0으로 덮어써야 한다.)
+        dailySalesRepository.save(DailySales.builder()
+                .salesDate(LocalDate.of(2023, 3, 6))
+                .orderCount(5)
+                .totalAmount(5000)
+                .build());
+
+        // when
+        int rebuiltDays = salesRollupRebuilder.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 7));
+
+        // then
+        assertThat(rebuiltDays).isEqualTo(3);
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2023, 3, 5), 2L, 2000L),
+                        tuple(LocalDate.of(2023, 3, 6), 0L, 0L),
+                        tuple(LocalDate.of(2023, 3, 7), 1L, 1000L)
+                );
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 5)))
+                .extracting(HourlySales::getSalesHour, HourlySales::getOrderCount, HourlySales::getTotalAmount)
+                .containsExactly(tuple(9, 2L, 2000L));
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 6))).isEmpty();
+        assertThat(productHourlySalesRepository.findAll())
+                .extracting(ProductHourlySales::getSalesDate, ProductHourlySales::getSalesHour, ProductHourlySales::getProductNumber,
+                        ProductHourlySales::getQuantity, ProductHourlySales::getTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2023, 3, 5), 9, "001", 2L, 2000L),
+                        tuple(LocalDate.of(2023, 3, 7), 23, "001", 1L, 1000L)
+                );
+    }
+
+    @DisplayName("매출 집계 재계산 종료일은 시작일보다 빠를 수 없다.")
+    @Test
+    void rebuildWithInvalidPeriod() {
+        // when // then
+        assertThatThrownBy(() -> salesRollupRebuilder.rebuild(LocalDate.of(2023, 3, 7), LocalDate.of(2023, 3, 5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재계산 종료일은 시작일보다 빠를 수 없습니다.");
+    }
+
+    private void createOrder(Product product, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        orderRepository.save(Order.builder()
+                .products(List.of(product))
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build());
+    }
+
+    private Product createProduct(String productNumber, int price) {
+        return Product.builder()
+                .productNumber(productNumber)
+                .type(HANDMADE)
+                .sellingStatus(SELLING)
+                .name("메뉴 이름")
+                .price(price)
+                .build();
+    }
+
+}
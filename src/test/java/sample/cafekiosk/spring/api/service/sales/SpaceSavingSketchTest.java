@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SpaceSavingSketchTest {
+
+    private static final int CAPACITY = 200;
+
+    @DisplayName("카탈로그가 카운터 수보다 훨씬 커도 인기 상품 TOP 10은 실제 수량으로 센 순위와 같고, 추정 수량은 오차 범위 안에 있다.")
+    @Test
+    void topMatchesExactCounts() {
+        // given
+        // 인기 상품 10개는 6000, 5500, ..., 1500개, 나머지 상품 2만 개는 1 ~ 3개씩 섞어서 주문된다.
+        // 오차 상한 = 전체 수량 / 카운터 수 (약 77500 / 200 = 387) < 인기 상품 사이의 수량 차이 (500)
+        List<String> orderedItems = new ArrayList<>();
+        IntStream.rangeClosed(1, 10).forEach(rank ->
+                orderedItems.addAll(Collections.nCopies(6500 - rank * 500, String.format("HOT-%02d", rank))));
+        Random random = new Random(42);
+        IntStream.rangeClosed(1, 20_000).forEach(i ->
+                orderedItems.addAll(Collections.nCopies(1 + random.nextInt(3), String.format("TAIL-%05d", i))));
+        Collections.shuffle(orderedItems, random);
+
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        Map<String, Long> exactCounts = new HashMap<>();
+
+        // when
+        for (String item : orderedItems) {
+            sketch.add(item, 1);
+            exactCounts.merge(item, 1L, Long::sum);
+        }
+
+        // then
+        List<String> exactTop10 = exactCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        List<SpaceSavingSketch.Counter> top10 = sketch.top(10);
+
+        assertThat(top10).extracting(SpaceSavingSketch.Counter::getItem).containsExactlyElementsOf(exactTop10);
+        long maxError = sketch.getTotalCount() / CAPACITY;
+        for (SpaceSavingSketch.Counter counter : top10) {
+            long exact = exactCounts.get(counter.getItem());
+            assertThat(counter.getCount()).isBetween(exact, exact + maxError);
+            assertThat(counter.getCount() - counter.getError()).isLessThanOrEqualTo(exact);
+        }
+    }
+
+    @DisplayName("카운터가 모두 차면 가장 적게 팔린 상품의 카운터를 새 상품에 넘겨주고, 넘겨받은 수량을 오차로 기록한다.")
+    @Test
+    void addWhenFull() {
+        // given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.add("001", 5);
+        sketch.add("002", 2);
+
+        // when
+        sketch.add("003", 1);
+
+        // then
+        assertThat(sketch.top(10))
+                .extracting(SpaceSavingSketch.Counter::getItem, SpaceSavingSketch.Counter::getCount, SpaceSavingSketch.Counter::getError)
+                .containsExactly(
+                        tuple("001", 5L, 0L),
+                        tuple("003", 3L, 2L)
+                );
+        assertThat(sketch.getTotalCount()).isEqualTo(8);
+    }
+
+}
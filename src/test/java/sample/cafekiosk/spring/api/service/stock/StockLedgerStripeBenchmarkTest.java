@@ -0,0 +1,60 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.benchmark.BenchmarkResult;
+import sample.cafekiosk.spring.benchmark.ConcurrentBenchmark;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+// ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@ExtendWith(MockitoExtension.class)
+class StockLedgerStripeBenchmarkTest {
+
+    private static final int[] STRIPES = {1, 4, 16};
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS = 2_000_000;
+    private static final Map<String, Long> HOT_PRODUCT_ORDER = Map.of("001", 1L);
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @DisplayName("인기 상품 하나에 주문이 몰릴 때 재고 칸 수(1, 4, 16)에 따른 처리량과 p99 지연시간을 비교한다.")
+    @Test
+    void compareStripes() {
+        // given
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willAnswer(invocation -> List.of(Stock.create("001", REQUESTS)));
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (int stripes : STRIPES) {
+            StockProperties stockProperties = new StockProperties();
+            stockProperties.getLedger().setStripes(stripes);
+            StockLedger stockLedger = new StockLedger(stockRepository, stockProperties);
+
+            // when
+            BenchmarkResult result = ConcurrentBenchmark.run("stripes-" + stripes, CLIENTS, REQUESTS,
+                    () -> stockLedger.deduct(HOT_PRODUCT_ORDER));
+            results.add(result);
+
+            // then - 칸 수와 관계없이 판매 수량은 정확해야 한다.
+            assertThat(result.getErrors()).isZero();
+            assertThat(stockLedger.getQuantity("001")).isZero();
+        }
+        assertThat(results).hasSize(STRIPES.length);
+    }
+
+}
@@ -0,0 +1,180 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private StockRepository stockRepository;
+
+    @Spy
+    private StockProperties stockProperties = new StockProperties();
+
+    @InjectMocks
+    private StockLedger stockLedger;
+
+    @DisplayName("재고 장부에서 주어진 수량만큼 재고를 차감하고, 차감 수량은 DB 반영 대기열에 쌓인다.")
+    @Test
+    void deduct() {
+        // given
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willReturn(List.of(Stock.create("001", 2), Stock.create("002", 2)));
+
+        // when
+        stockLedger.deduct(Map.of("001", 2L, "002", 1L));
+
+        // then
+        assertThat(stockLedger.getQuantity("001")).isZero();
+        assertThat(stockLedger.getQuantity("002")).isEqualTo(1);
+        assertThat(stockLedger.drainPendingDeductions())
+                .containsExactlyInAnyOrderEntriesOf(Map.of("001", 2, "002", 1));
+        assertThat(stockLedger.drainPendingDeductions()).isEmpty();
+    }
+
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 예외가 발생하고, 다른 상품의 재고도 차감되지 않는다.")
+    @Test
+    void deductWithNoStock() {
+        // given
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willReturn(List.of(Stock.create("001", 2), Stock.create("002", 1)));
+
+        // when // then
+        assertThatThrownBy(() -> stockLedger.deduct(Map.of("001", 1L, "002", 2L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+
+        assertThat(stockLedger.getQuantity("001")).isEqualTo(2);
+        assertThat(stockLedger.getQuantity("002")).isEqualTo(1);
+        assertThat(stockLedger.drainPendingDeductions()).isEmpty();
+    }
+
+    @DisplayName("적은 재고에 대해 10,000건의 주문이 동시에 들어와도 재고보다 많이 판매되지 않는다.")
+    @Test
+    void deductConcurrently() throws InterruptedException {
+        // given
+        int initialQuantity1 = 100;
+        int initialQuantity2 = 50;
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willReturn(List.of(Stock.create("001", initialQuantity1), Stock.create("002", initialQuantity2)));
+
+        int orderCount = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(orderCount);
+        AtomicInteger successCount1 = new AtomicInteger(); // 001 1개 + 002 1개 주문
+        AtomicInteger successCount2 = new AtomicInteger(); // 001 3개 주문
+
+        // when
+        for (int i = 0; i < orderCount; i++) {
+            boolean mixedOrder = i % 2 == 0;
+            executorService.submit(() -> {
+                try {
+                    if (mixedOrder) {
+                        stockLedger.deduct(Map.of("001", 1L, "002", 1L));
+                        successCount1.incrementAndGet();
+                    } else {
+                        stockLedger.deduct(Map.of("001", 3L));
+                        successCount2.incrementAndGet();
+                    }
+                } catch (IllegalArgumentException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        int soldQuantity1 = successCount1.get() + successCount2.get() * 3;
+        int soldQuantity2 = successCount1.get();
+
+        assertThat(stockLedger.getQuantity("001")).isEqualTo(initialQuantity1 - soldQuantity1).isNotNegative();
+        assertThat(stockLedger.getQuantity("002")).isEqualTo(initialQuantity2 - soldQuantity2).isNotNegative();
+        assertThat(stockLedger.drainPendingDeductions())
+                .containsEntry("001", soldQuantity1)
+                .containsEntry("002", soldQuantity2);
+    }
+
+    @DisplayName("재고를 여러 칸으로 나눠도 칸 하나의 재고가 부족하면 다른 칸에서 모아서 전체 재고만큼 정확히 판매한다.")
+    @Test
+    void deductWithStripes() {
+        // given
+        stockProperties.getLedger().setStripes(4); // 10개 -> 3, 3, 2, 2
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willReturn(List.of(Stock.create("001", 10)));
+
+        // when
+        stockLedger.deduct(Map.of("001", 3L));
+        stockLedger.deduct(Map.of("001", 3L));
+        stockLedger.deduct(Map.of("001", 3L));
+        stockLedger.deduct(Map.of("001", 1L));
+
+        // then
+        assertThat(stockLedger.getQuantity("001")).isZero();
+        assertThatThrownBy(() -> stockLedger.deduct(Map.of("001", 1L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("재고가 부족한 상품이 있습니다.");
+        assertThat(stockLedger.drainPendingDeductions()).containsEntry("001", 10);
+    }
+
+    @DisplayName("재고를 여러 칸으로 나눈 인기 상품에 주문이 동시에 몰려도 전체 재고만큼만 판매된다.")
+    @Test
+    void deductConcurrentlyWithStripes() throws InterruptedException {
+        // given
+        stockProperties.getLedger().setStripes(16);
+        int initialQuantity = 1_000;
+        given(stockRepository.findAllByProductNumberIn(anyList()))
+                .willReturn(List.of(Stock.create("001", initialQuantity)));
+
+        int orderCount = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(orderCount);
+        AtomicInteger soldQuantity = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < orderCount; i++) {
+            int quantity = i % 3 + 1; // 1 ~ 3개 주문
+            executorService.submit(() -> {
+                try {
+                    stockLedger.deduct(Map.of("001", (long) quantity));
+                    soldQuantity.addAndGet(quantity);
+                } catch (IllegalArgumentException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(soldQuantity.get()).isEqualTo(initialQuantity);
+        assertThat(stockLedger.getQuantity("001")).isZero();
+        assertThat(stockLedger.drainPendingDeductions()).containsEntry("001", initialQuantity);
+    }
+
+}
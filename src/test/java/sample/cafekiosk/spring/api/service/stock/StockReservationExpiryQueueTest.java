@@ -0,0 +1,30 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockReservationExpiryQueueTest {
+
+    @DisplayName("만료 시각이 지난 주문만 만료 시각 순서대로 꺼낸다.")
+    @Test
+    void poll() throws InterruptedException {
+        // given
+        StockReservationExpiryQueue queue = new StockReservationExpiryQueue();
+        LocalDateTime now = LocalDateTime.now();
+        queue.schedule(1L, now.plusMinutes(5));
+        queue.schedule(2L, now.minusSeconds(2));
+        queue.schedule(3L, now.minusSeconds(1));
+
+        // when // then
+        assertThat(queue.poll(1, TimeUnit.SECONDS)).isEqualTo(2L);
+        assertThat(queue.poll(1, TimeUnit.SECONDS)).isEqualTo(3L);
+        assertThat(queue.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+}
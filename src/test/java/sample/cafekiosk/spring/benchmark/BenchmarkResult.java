@@ -0,0 +1,45 @@
+package sample.cafekiosk.spring.benchmark;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+@Getter
+public class BenchmarkResult {
+
+    private final String name;
+    private final int clients;
+    private final int requests;
+    private final int errors;
+    private final double throughput; // 초당 처리 건수
+    private final double p50Millis;
+    private final double p99Millis;
+
+    BenchmarkResult(String name, int clients, int errors, long elapsedNanos, long[] latencyNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+
+        this.name = name;
+        this.clients = clients;
+        this.requests = sorted.length;
+        this.errors = errors;
+        this.throughput = sorted.length / (elapsedNanos / 1_000_000_000.0);
+        this.p50Millis = percentile(sorted, 0.50) / 1_000_000.0;
+        this.p99Millis = percentile(sorted, 0.99) / 1_000_000.0;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-24s clients=%4d requests=%6d errors=%5d throughput=%10.1f/s p50=%8.3fms p99=%8.3fms",
+                name, clients, requests, errors, throughput, p50Millis, p99Millis);
+    }
+
+}
@@ -0,0 +1,57 @@
+package sample.cafekiosk.spring.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 동시 클라이언트 수만큼 스레드를 띄워 같은 작업을 반복 실행하고, 처리량과 지연시간 분포를 측정한다.
+public final class ConcurrentBenchmark {
+
+    private ConcurrentBenchmark() {
+    }
+
+    public static BenchmarkResult run(String name, int clients, int totalRequests, Runnable task) {
+        long[] latencyNanos = new long[totalRequests];
+        AtomicInteger nextRequest = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    start.await();
+                    int request;
+                    while ((request = nextRequest.getAndIncrement()) < totalRequests) {
+                        long begin = System.nanoTime();
+                        try {
+                            task.run();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencyNanos[request] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, name + "-client-" + i);
+            client.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+
+        BenchmarkResult result = new BenchmarkResult(name, clients, errors.get(), elapsedNanos, latencyNanos);
+        System.out.println(result);
+        return result;
+    }
+
+}
@@ -0,0 +1,333 @@
+package sample.cafekiosk.spring.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistoryRepository;
+import sample.cafekiosk.spring.domain.order.OrderRepository;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.ProductRepository;
+import sample.cafekiosk.spring.domain.product.ProductSellingStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.sales.ProductHourlySalesRepository;
+import sample.cafekiosk.spring.domain.stock.StockRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationRepository;
+import sample.cafekiosk.spring.domain.stock.StockReservationStatus;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리포지토리 쿼리들이 Flyway 마이그레이션(db/migration)에서 만든 인덱스를 타는지 실행 계획으로 검증한다.
+// 손으로 옮겨 적은 SQL이 아니라 리포지토리 메서드를 실제로 호출했을 때 Hibernate / JdbcTemplate 이 실행한 SQL을
+// DataSource 프록시로 가로채고, 같은 파라미터를 바인딩해서 EXPLAIN 한다.
+// H2의 EXPLAIN은 인덱스 없이 테이블 전체를 읽으면 /* PUBLIC.테이블.tableScan */ 으로 표시하고,
+// order by 를 정렬 없이 인덱스 순서로 처리하면 /* index sorted */ 를 덧붙인다.
+@Import(QueryPlanTest.StatementCaptureConfig.class)
+class QueryPlanTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    // 빈 테이블에서는 H2가 컬럼 선택도를 기본값으로 계산해서 (selling_status, id)와 (type, selling_status, id) 인덱스의 비용이 같아진다.
+    // 타입 3종 x 판매상태 3종이 고르게 섞인 상품을 넣고 통계를 갱신해서 운영과 비슷한 조건으로 실행 계획을 고르게 한다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into product (id, product_number, type, selling_status, name, price, create_date_time, modified_date_time)" +
+                " select x, lpad(x, 6, '0')," +
+                " case mod(x, 3) when 0 then 'HANDMADE' when 1 then 'BOTTLE' else 'BAKERY' end," +
+                " case mod(x / 3, 3) when 0 then 'SELLING' when 1 then 'HOLD' else 'STOP_SELLING' end," +
+                " '상품', 1000, current_timestamp, current_timestamp" +
+                " from system_range(1, 300)");
+        jdbcTemplate.execute("analyze table product");
+    }
+
+    @AfterEach
+    void tearDown() {
+        statementCapture.stop();
+        jdbcTemplate.update("delete from product");
+    }
+
+    // (리포지토리 메서드, 호출, 실행된 SQL 중 검증할 SQL을 고르는 조건, 사용해야 하는 인덱스)
+    private static Stream<Arguments> provideRepositoryQueries() {
+        return Stream.of(
+                Arguments.of("ProductRepository.findAllByProductNumberIn",
+                        call(test -> test.productRepository.findAllByProductNumberIn(List.of("000001", "000002"))),
+                        "from product",
+                        "uk_product_product_number"),
+                Arguments.of("ProductRepository.findAllBySellingStatusIn",
+                        call(test -> test.productRepository.findAllBySellingStatusIn(List.of(ProductSellingStatus.SELLING, ProductSellingStatus.HOLD))),
+                        "from product",
+                        "idx_product_selling_status_id"),
+                Arguments.of("ProductRepository.findAllByKeyset",
+                        call(test -> test.productRepository.findAllByKeyset(List.of(ProductType.HANDMADE),
+                                List.of(ProductSellingStatus.SELLING, ProductSellingStatus.HOLD), 100L, 20)),
+                        "from product",
+                        "idx_product_type_selling_status_id"),
+                Arguments.of("StockRepository.findAllByProductNumberIn",
+                        call(test -> test.stockRepository.findAllByProductNumberIn(List.of("000001", "000002"))),
+                        "from stock",
+                        "uk_stock_product_number"),
+                Arguments.of("StockRepository.findAllByProductNumberInForUpdate",
+                        call(test -> test.stockRepository.findAllByProductNumberInForUpdate(List.of("000001", "000002"), 1000)),
+                        "from stock",
+                        "uk_stock_product_number"),
+                Arguments.of("StockRepository.deductQuantities",
+                        call(test -> test.stockRepository.deductQuantities(Map.of("000001", 1L))),
+                        "update stock",
+                        "uk_stock_product_number"),
+                Arguments.of("OrderRepository.findOrdersBy",
+                        call(test -> test.orderRepository.findOrdersBy(LocalDateTime.of(2023, 3, 5, 0, 0),
+                                LocalDateTime.of(2023, 3, 6, 0, 0), OrderStatus.PAYMENT_COMPLETED)),
+                        "from orders",
+                        "idx_orders_order_status_registered_date_time"),
+                Arguments.of("StockReservationRepository.findAllByOrderIdAndStatus",
+                        call(test -> test.stockReservationRepository.findAllByOrderIdAndStatus(1L, StockReservationStatus.RESERVED)),
+                        "from stock_reservation",
+                        "idx_stock_reservation_order_id_status"),
+                Arguments.of("StockReservationRepository.findAllByStatus",
+                        call(test -> test.stockReservationRepository.findAllByStatus(StockReservationStatus.RESERVED)),
+                        "from stock_reservation",
+                        "idx_stock_reservation_status_expires_at"),
+                Arguments.of("ProductHourlySalesRepository.sumSalesByProduct",
+                        call(test -> test.productHourlySalesRepository.sumSalesByProduct(List.of(ProductType.BAKERY),
+                                LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 30), 7, 9)),
+                        "from product_hourly_sales",
+                        "idx_product_hourly_sales_type_date_hour"),
+                Arguments.of("MailSendHistoryRepository.claimForDispatch",
+                        call(test -> test.mailSendHistoryRepository.claimForDispatch(LocalDateTime.of(2024, 8, 6, 10, 0),
+                                LocalDateTime.of(2024, 8, 6, 10, 5), 100)),
+                        "from mail_send_history",
+                        "idx_mail_send_history_status_next_attempt")
+        );
+    }
+
+    @DisplayName("리포지토리가 실제로 실행하는 쿼리는 테이블 전체를 읽지 않고 쿼리에 맞춘 인덱스를 사용한다.")
+    @MethodSource("provideRepositoryQueries")
+    @ParameterizedTest(name = "{0}")
+    void repositoryQueryUsesIndex(String repositoryMethod, Consumer<QueryPlanTest> repositoryCall, String sqlFragment, String expectedIndex) {
+        // given
+        statementCapture.start();
+        transactionTemplate.executeWithoutResult(status -> repositoryCall.accept(this));
+        statementCapture.stop();
+
+        CapturedStatement statement = statementCapture.find(sqlFragment);
+
+        // when
+        String plan = explain(statement);
+
+        // then
+        assertThat(plan).doesNotContain("tableScan");
+        assertThat(plan).containsIgnoringCase(expectedIndex);
+    }
+
+    @DisplayName("상품 목록 keyset 조회는 조건 조합마다 인덱스 순서대로 읽어서 정렬하지 않는다.")
+    @Test
+    void findAllByKeysetIsSortedByIndex() {
+        // given
+        statementCapture.start();
+        transactionTemplate.executeWithoutResult(status -> productRepository.findAllByKeyset(
+                List.of(ProductType.HANDMADE, ProductType.BOTTLE),
+                List.of(ProductSellingStatus.SELLING, ProductSellingStatus.HOLD), 100L, 20));
+        statementCapture.stop();
+
+        List<CapturedStatement> statements = statementCapture.findAll("from product");
+
+        // when
+        List<String> plans = statements.stream()
+                .map(this::explain)
+                .collect(Collectors.toList());
+
+        // then
+        assertThat(plans).hasSize(4)
+                .allSatisfy(plan -> assertThat(plan)
+                        .doesNotContain("tableScan")
+                        .containsIgnoringCase("idx_product_type_selling_status_id")
+                        .contains("index sorted"));
+    }
+
+    private String explain(CapturedStatement statement) {
+        return jdbcTemplate.query("explain " + statement.getSql(),
+                ps -> {
+                    for (Map.Entry<Integer, Object> parameter : statement.getParameters().entrySet()) {
+                        ps.setObject(parameter.getKey(), parameter.getValue());
+                    }
+                },
+                rs -> rs.next() ? rs.getString(1) : null);
+    }
+
+    private static Consumer<QueryPlanTest> call(Consumer<QueryPlanTest> repositoryCall) {
+        return repositoryCall;
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        StatementCapture statementCapture() {
+            return new StatementCapture();
+        }
+
+        // Hibernate와 JdbcTemplate 모두 이 DataSource에서 커넥션을 얻으므로 여기서 감싸면 두 경로의 SQL이 모두 기록된다.
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourcePostProcessor(StatementCapture statementCapture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ? statementCapture.wrap((DataSource) bean) : bean;
+                }
+            };
+        }
+    }
+
+    // 실행된 SQL과 첫 번째 실행(배치라면 첫 addBatch 전)에 바인딩된 파라미터
+    static class CapturedStatement {
+
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+        private boolean batched;
+
+        CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        Map<Integer, Object> getParameters() {
+            return parameters;
+        }
+    }
+
+    static class StatementCapture {
+
+        private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean capturing;
+
+        void start() {
+            statements.clear();
+            capturing = true;
+        }
+
+        void stop() {
+            capturing = false;
+        }
+
+        CapturedStatement find(String sqlFragment) {
+            return findAll(sqlFragment).get(0);
+        }
+
+        List<CapturedStatement> findAll(String sqlFragment) {
+            List<CapturedStatement> matched = statements.stream()
+                    .filter(statement -> statement.getSql().toLowerCase().contains(sqlFragment))
+                    .collect(Collectors.toList());
+            assertThat(matched)
+                    .as("'%s' 를 포함한 SQL이 실행되지 않았습니다. 실행된 SQL: %s", sqlFragment,
+                            statements.stream().map(CapturedStatement::getSql).collect(Collectors.toList()))
+                    .isNotEmpty();
+            return matched;
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    method.getName().equals("getConnection") ? wrap((Connection) result) : result);
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (!capturing || !method.getName().equals("prepareStatement")) {
+                    return result;
+                }
+                CapturedStatement statement = new CapturedStatement((String) args[0]);
+                statements.add(statement);
+                return wrap((PreparedStatement) result, statement);
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement preparedStatement, CapturedStatement statement) {
+            return proxy(PreparedStatement.class, preparedStatement, (method, args, result) -> {
+                String name = method.getName();
+                if (name.equals("addBatch")) {
+                    statement.batched = true;
+                } else if (!statement.batched && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    statement.parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultHandler resultHandler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                    return proxy == args[0];
+                }
+                if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                    return System.identityHashCode(proxy);
+                }
+                try {
+                    return resultHandler.handle(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    interface ResultHandler {
+        Object handle(Method method, Object[] args, Object result) throws Exception;
+    }
+
+}
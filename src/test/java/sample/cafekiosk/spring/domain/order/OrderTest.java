@@ -2,6 +2,7 @@ package sample.cafekiosk.spring.domain.order;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
@@ -9,6 +10,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.SELLING;
 
@@ -63,6 +66,53 @@ class OrderTest {
         assertThat(order.getRegisteredDateTime()).isEqualTo(registeredDateTime);
     }
 
+    @DisplayName("주문 생성 시 같은 상품은 주문 상품 한 건으로 합치고 수량과 주문 시점 가격을 기록한다.")
+    @Test
+    void orderProductsWithQuantity() {
+        // given
+        Product americano = createProduct("001", 4000);
+        Product latte = createProduct("002", 4500);
+        List<Product> products = List.of(americano, latte, americano, americano);
+
+        // when
+        Order order = Order.create(products, LocalDateTime.now());
+
+        // then
+        assertThat(order.getOrderProducts()).hasSize(2)
+                .extracting(orderProduct -> orderProduct.getProduct().getProductNumber(), OrderProduct::getQuantity, OrderProduct::getUnitPrice)
+                .containsExactly(
+                        tuple("001", 3, 4000),
+                        tuple("002", 1, 4500)
+                );
+        assertThat(order.getTotalPrice()).isEqualTo(16500);
+    }
+
+    @DisplayName("결제 대기 중인 주문을 결제 완료 처리한다.")
+    @Test
+    void completePayment() {
+        // given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+
+        // when
+        order.completePayment();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualByComparingTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    @DisplayName("결제 대기 중이 아닌 주문은 취소할 수 없다.")
+    @Test
+    void cancelWithoutInit() {
+        // given
+        Order order = Order.create(List.of(createProduct("001", 1000)), LocalDateTime.now());
+        order.completePayment();
+
+        // when // then
+        assertThatThrownBy(order::cancel)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("결제 대기 중인 주문만 처리할 수 있습니다.");
+    }
+
     private Product createProduct(String productNumber, int price) {
         return Product.builder()
                 .type(ProductType.HANDMADE)
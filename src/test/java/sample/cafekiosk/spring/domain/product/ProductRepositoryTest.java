@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.IntegrationTestSupport;
@@ -11,8 +12,11 @@ import sample.cafekiosk.spring.IntegrationTestSupport;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 import static sample.cafekiosk.spring.domain.product.ProductSellingStatus.*;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
 import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
 
 //@ActiveProfiles("test") // 테스트 실행 전용 프로파일로 지정
@@ -94,6 +98,114 @@ class ProductRepositoryTest extends IntegrationTestSupport {
         assertThat(latestProductNumber).isNull();
     }
 
+    @DisplayName("저장 순서와 상관없이 숫자로 비교한 가장 큰 상품번호를 읽어온다.")
+    @Test
+    void findMaxProductNumber() {
+        // given
+        Product product1 = createProduct("999", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("1000", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("002", HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        // when
+        Long maxProductNumber = productRepository.findMaxProductNumber();
+
+        // then
+        assertThat(maxProductNumber).isEqualTo(1000L);
+    }
+
+    @DisplayName("가장 큰 상품번호를 읽어올 때, 상품이 하나도 없는 경우에는 null을 반환한다.")
+    @Test
+    void findMaxProductNumberWhenProductIsEmpty() {
+        // when
+        Long maxProductNumber = productRepository.findMaxProductNumber();
+
+        // then
+        assertThat(maxProductNumber).isNull();
+    }
+
+    @DisplayName("상품 타입과 판매상태로 걸러서 마지막으로 조회한 상품 id 다음부터 id 순으로 조회한다.")
+    @Test
+    void findAllByKeyset() {
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("003", HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        Product product4 = createProduct("004", BAKERY, SELLING, "크루아상", 3500);
+        Product product5 = createProduct("005", HANDMADE, SELLING, "카푸치노", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3, product4, product5));
+
+        // when
+        List<Product> products = productRepository.findAllByKeyset(
+                List.of(HANDMADE), List.of(SELLING, HOLD, STOP_SELLING), product1.getId(), 2);
+
+        // then
+        assertThat(products).hasSize(2)
+                .extracting("productNumber", "name")
+                .containsExactly(
+                        tuple("002", "카페라떼"),
+                        tuple("003", "팥빙수")
+                );
+    }
+
+    @DisplayName("상품 타입 조건이 없고 첫 페이지이면 판매상태로만 걸러서 id 순으로 조회한다.")
+    @Test
+    void findAllByKeysetWithoutTypesAndLastId() {
+        // given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, STOP_SELLING, "팥빙수", 7000);
+        Product product3 = createProduct("003", BAKERY, HOLD, "크루아상", 3500);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        // when
+        List<Product> products = productRepository.findAllByKeyset(List.of(), List.of(SELLING, HOLD), null, 10);
+
+        // then
+        assertThat(products).hasSize(2)
+                .extracting("productNumber", "name")
+                .containsExactly(
+                        tuple("001", "아메리카노"),
+                        tuple("003", "크루아상")
+                );
+    }
+
+    @DisplayName("여러 상품 타입과 판매상태 조합의 상품을 id 순으로 합쳐서 limit건만 조회한다.")
+    @Test
+    void findAllByKeysetWithMultipleTypesAndSellingStatuses() {
+        // given
+        Product product1 = createProduct("001", BAKERY, HOLD, "크루아상", 3500);
+        Product product2 = createProduct("002", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product3 = createProduct("003", BOTTLE, SELLING, "생수", 1000);
+        Product product4 = createProduct("004", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product5 = createProduct("005", BAKERY, SELLING, "스콘", 3000);
+        Product product6 = createProduct("006", HANDMADE, SELLING, "카푸치노", 5000);
+        productRepository.saveAll(List.of(product1, product2, product3, product4, product5, product6));
+
+        // when
+        List<Product> products = productRepository.findAllByKeyset(
+                List.of(HANDMADE, BAKERY), List.of(SELLING, HOLD), product1.getId(), 3);
+
+        // then
+        assertThat(products).hasSize(3)
+                .extracting("productNumber", "name")
+                .containsExactly(
+                        tuple("002", "아메리카노"),
+                        tuple("004", "카페라떼"),
+                        tuple("005", "스콘")
+                );
+    }
+
+    @DisplayName("같은 상품번호를 가진 상품은 저장할 수 없다.")
+    @Test
+    void saveWithDuplicateProductNumber() {
+        // given
+        productRepository.saveAndFlush(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+
+        // when // then
+        assertThatThrownBy(() -> productRepository.saveAndFlush(createProduct("001", HANDMADE, HOLD, "카페라떼", 4500)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     private Product createProduct(String productNumber, ProductType type, ProductSellingStatus sellingStatus, String name, int price) {
         return Product.builder()
                 .productNumber(productNumber)
@@ -0,0 +1,150 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DailySalesRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        hourlySalesRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 등록 시간이 속한 일자 / 시간대의 매출 집계에 증감분을 더하고, 집계 row가 없으면 만든다.")
+    @Test
+    void addSales() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            dailySalesRepository.addSales(registeredDateTime, 1, 4000);
+            dailySalesRepository.addSales(registeredDateTime.plusMinutes(10), 1, 3000);
+            dailySalesRepository.addSales(registeredDateTime.plusHours(1), 1, 1000);
+        });
+
+        // then
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactly(tuple(LocalDate.of(2023, 3, 5), 3L, 8000L));
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 5)))
+                .extracting(HourlySales::getSalesHour, HourlySales::getOrderCount, HourlySales::getTotalAmount)
+                .containsExactly(
+                        tuple(10, 2L, 7000L),
+                        tuple(11, 1L, 1000L)
+                );
+    }
+
+    @DisplayName("집계 row가 없는 일자에 두 트랜잭션이 동시에 매출을 더해도 두 증감분이 모두 반영된다.")
+    @Test
+    void addSalesConcurrentlyOnNewDate() throws Exception {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            List<Future<?>> futures = Stream.of(4000L, 3000L)
+                    .map(amount -> executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                        awaitQuietly(barrier);
+                        dailySalesRepository.addSales(registeredDateTime, 1, amount);
+                    })))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactly(tuple(LocalDate.of(2023, 3, 5), 2L, 7000L));
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 5)))
+                .extracting(HourlySales::getSalesHour, HourlySales::getOrderCount, HourlySales::getTotalAmount)
+                .containsExactly(tuple(10, 2L, 7000L));
+    }
+
+    @DisplayName("매출을 더한 트랜잭션이 롤백되면 증감분은 롤백되고, 새로 만든 집계 row는 0으로 남는다.")
+    @Test
+    void addSalesRollback() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            dailySalesRepository.addSales(registeredDateTime, 1, 4000);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactly(tuple(LocalDate.of(2023, 3, 5), 0L, 0L));
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 5)))
+                .extracting(HourlySales::getSalesHour, HourlySales::getOrderCount, HourlySales::getTotalAmount)
+                .containsExactly(tuple(10, 0L, 0L));
+    }
+
+    @DisplayName("일자 집계 row를 잠글 때 row가 없으면 0으로 만들고, 시간대 집계는 만들지 않는다.")
+    @Test
+    void lockDailySales() {
+        // given
+        transactionTemplate.executeWithoutResult(status ->
+                dailySalesRepository.addSales(LocalDateTime.of(2023, 3, 5, 10, 30), 1, 4000));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            dailySalesRepository.lockDailySales(LocalDate.of(2023, 3, 5));
+            dailySalesRepository.lockDailySales(LocalDate.of(2023, 3, 6));
+        });
+
+        // then
+        assertThat(dailySalesRepository.findAll())
+                .extracting(DailySales::getSalesDate, DailySales::getOrderCount, DailySales::getTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2023, 3, 5), 1L, 4000L),
+                        tuple(LocalDate.of(2023, 3, 6), 0L, 0L)
+                );
+        assertThat(hourlySalesRepository.findAllBySalesDateOrderBySalesHour(LocalDate.of(2023, 3, 6))).isEmpty();
+    }
+
+    private void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductHourlySalesRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductHourlySalesRepository productHourlySalesRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productHourlySalesRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 상품별로 일자 / 시간대 / 상품 집계에 증감분을 더하고, 집계 row가 없으면 만든다.")
+    @Test
+    void addSales() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            productHourlySalesRepository.addSales(registeredDateTime, List.of(
+                    new ProductSalesLine("001", HANDMADE, 2, 8000),
+                    new ProductSalesLine("002", BAKERY, 1, 3000)
+            ));
+            productHourlySalesRepository.addSales(registeredDateTime.plusMinutes(10), List.of(
+                    new ProductSalesLine("001", HANDMADE, 1, 4000)
+            ));
+        });
+
+        // then
+        assertThat(productHourlySalesRepository.findAll())
+                .extracting(ProductHourlySales::getProductNumber, ProductHourlySales::getSalesHour,
+                        ProductHourlySales::getQuantity, ProductHourlySales::getTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple("001", 10, 3L, 12000L),
+                        tuple("002", 10, 1L, 3000L)
+                );
+    }
+
+    @DisplayName("집계 row가 없는 시간대에 두 트랜잭션이 동시에 같은 상품의 매출을 더해도 두 증감분이 모두 반영된다.")
+    @Test
+    void addSalesConcurrentlyOnNewHour() throws Exception {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2023, 3, 5, 10, 30);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            List<Future<?>> futures = Stream.of(4000L, 8000L)
+                    .map(amount -> executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                        awaitQuietly(barrier);
+                        productHourlySalesRepository.addSales(registeredDateTime,
+                                List.of(new ProductSalesLine("001", HANDMADE, amount / 4000, amount)));
+                    })))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // then
+        assertThat(productHourlySalesRepository.findAll())
+                .extracting(ProductHourlySales::getProductNumber, ProductHourlySales::getQuantity, ProductHourlySales::getTotalAmount)
+                .containsExactly(tuple("001", 3L, 12000L));
+    }
+
+    private void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.domain.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import javax.persistence.EntityManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// H2는 batch의 row별 갱신 건수를 항상 알려주므로, 건수를 알려주지 않는 드라이버는 JdbcTemplate mock으로 흉내낸다.
+@ExtendWith(MockitoExtension.class)
+class StockRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager em;
+
+    private StockRepositoryImpl stockRepositoryImpl;
+
+    @BeforeEach
+    void setUp() {
+        stockRepositoryImpl = new StockRepositoryImpl(jdbcTemplate, em);
+    }
+
+    @DisplayName("batch UPDATE 건수가 1이 아닌 상품은 차감하지 못한 상품으로 돌려준다.")
+    @Test
+    void deductQuantitiesWithUnexpectedUpdateCounts() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{1, 0, 2, Statement.EXECUTE_FAILED}});
+
+        // when
+        List<String> failedProductNumbers = stockRepositoryImpl.deductQuantities(Map.of(
+                "001", 1L,
+                "002", 1L,
+                "003", 1L,
+                "004", 1L
+        ));
+
+        // then
+        assertThat(failedProductNumbers).containsExactly("002", "003", "004");
+    }
+
+    @DisplayName("드라이버가 batch UPDATE 건수를 알려주지 않으면 그 상품은 실패로 돌려주고, 이후에는 한 건씩 UPDATE 해서 건수를 확인한다.")
+    @Test
+    void deductQuantitiesWithSuccessNoInfo() {
+        // given
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willReturn(new int[][]{{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}});
+        List<String> firstFailedProductNumbers = stockRepositoryImpl.deductQuantities(Map.of("001", 1L, "002", 1L));
+
+        given(jdbcTemplate.update(anyString(), eq(1), any(), eq("001"), eq(1))).willReturn(1);
+        given(jdbcTemplate.update(anyString(), eq(1), any(), eq("002"), eq(1))).willReturn(0);
+
+        // when
+        List<String> failedProductNumbers = stockRepositoryImpl.deductQuantities(Map.of("001", 1L, "002", 1L));
+
+        // then
+        assertThat(firstFailedProductNumbers).containsExactly("001", "002");
+        assertThat(failedProductNumbers).containsExactly("002");
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+}
@@ -1,5 +1,6 @@
 package sample.cafekiosk.spring.domain.stock;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.domain.product.Product;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -21,6 +23,11 @@ class StockRepositoryTest extends IntegrationTestSupport {
     @Autowired
     private StockRepository stockRepository;
 
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
     @DisplayName("상품번호 리스트로 재고를 조회한다.")
     @Test
     void findAllByProductNumberIn() {
@@ -42,4 +49,31 @@ class StockRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("여러 상품의 재고를 한 번에 차감하고, 재고가 부족해 차감하지 못한 상품번호를 반환한다.")
+    @Test
+    void deductQuantities() {
+        // given
+        Stock stock1 = Stock.create("001", 1);
+        Stock stock2 = Stock.create("002", 2);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        // when
+        List<String> failedProductNumbers = stockRepository.deductQuantities(Map.of(
+                "001", 2L,
+                "002", 1L,
+                "003", 1L // 재고가 등록되지 않은 상품
+        ));
+
+        // then
+        assertThat(failedProductNumbers).containsExactly("001", "003");
+
+        List<Stock> stocks = stockRepository.findAll();
+        assertThat(stocks).hasSize(2)
+                .extracting("productNumber", "quantity", "version")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 1, 0L),
+                        tuple("002", 1, 1L)
+                );
+    }
+
 }
\ No newline at end of file
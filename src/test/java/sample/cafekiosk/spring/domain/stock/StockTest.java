@@ -58,6 +58,41 @@ class StockTest {
                 .hasMessage("차감할 재고 수량이 없습니다.");
     }
 
+    @DisplayName("재고를 예약하면 현재고는 그대로이고, 예약한 수량만큼 판매 가능 재고가 줄어든다.")
+    @Test
+    void reserve() {
+        // given
+        Stock stock = Stock.create("001", 3);
+
+        // when
+        stock.reserve(2);
+
+        // then
+        assertThat(stock.getQuantity()).isEqualTo(3);
+        assertThat(stock.getReservedQuantity()).isEqualTo(2);
+        assertThat(stock.isQuantityLessThan(2)).isTrue();
+        assertThatThrownBy(() -> stock.reserve(2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("예약할 재고 수량이 없습니다.");
+    }
+
+    @DisplayName("예약한 재고를 확정하면 현재고가 차감되고, 해제하면 다시 판매 가능한 재고가 된다.")
+    @Test
+    void confirmAndReleaseReservation() {
+        // given
+        Stock stock = Stock.create("001", 3);
+        stock.reserve(2);
+
+        // when
+        stock.confirmReservation(1);
+        stock.releaseReservation(1);
+
+        // then
+        assertThat(stock.getQuantity()).isEqualTo(2);
+        assertThat(stock.getReservedQuantity()).isZero();
+        assertThat(stock.getAvailableQuantity()).isEqualTo(2);
+    }
+
     // @DynamicTest: 일련의 시나리오를 구성하여 단계별로 행위를 수행하고 검증할 수 있다.
     @Disabled
     @DisplayName("")